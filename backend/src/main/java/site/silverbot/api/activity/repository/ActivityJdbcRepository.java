@@ -4,6 +4,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -15,6 +17,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -82,6 +85,38 @@ public class ActivityJdbcRepository {
         }
     }
 
+    public Map<Long, Long> countByEldersAndRange(Collection<Long> elderIds, LocalDateTime start, LocalDateTime end) {
+        if (elderIds.isEmpty()) {
+            return Map.of();
+        }
+        String sql = """
+                SELECT elder_id, COUNT(*) AS activity_count
+                FROM activity
+                WHERE elder_id IN (:elderIds)
+                  AND detected_at BETWEEN :startDateTime AND :endDateTime
+                GROUP BY elder_id
+                """;
+        Map<Long, Long> counts = new HashMap<>();
+        try {
+            jdbcTemplate.query(
+                    sql,
+                    new MapSqlParameterSource()
+                            .addValue("elderIds", elderIds)
+                            .addValue("startDateTime", start)
+                            .addValue("endDateTime", end),
+                    rs -> {
+                        counts.put(rs.getLong("elder_id"), rs.getLong("activity_count"));
+                    }
+            );
+        } catch (DataAccessException ex) {
+            if (isMissingTable(ex)) {
+                return Map.of();
+            }
+            throw ex;
+        }
+        return counts;
+    }
+
     public ActivityData insert(
             Long elderId,
             Long robotId,
@@ -127,6 +162,39 @@ public class ActivityJdbcRepository {
                 .orElseThrow(() -> new IllegalStateException("Created activity not found"));
     }
 
+    public int[] batchInsert(List<NewActivity> activities) {
+        if (activities.isEmpty()) {
+            return new int[0];
+        }
+        String sql = """
+                INSERT INTO activity (elder_id, robot_id, type, title, description, location, detected_at, created_at)
+                VALUES (:elderId, :robotId, CAST(:type AS activity_type), :title, :description, :location, :detectedAt, CURRENT_TIMESTAMP)
+                """;
+        String fallbackSql = """
+                INSERT INTO activity (elder_id, robot_id, type, title, description, location, detected_at, created_at)
+                VALUES (:elderId, :robotId, :type, :title, :description, :location, :detectedAt, CURRENT_TIMESTAMP)
+                """;
+        SqlParameterSource[] batch = activities.stream()
+                .map(activity -> new MapSqlParameterSource()
+                        .addValue("elderId", activity.elderId())
+                        .addValue("robotId", activity.robotId())
+                        .addValue("type", activity.type().name())
+                        .addValue("title", activity.title())
+                        .addValue("description", activity.description())
+                        .addValue("location", activity.location())
+                        .addValue("detectedAt", activity.detectedAt()))
+                .toArray(SqlParameterSource[]::new);
+
+        try {
+            return jdbcTemplate.batchUpdate(sql, batch);
+        } catch (DataAccessException ex) {
+            if (!isUnsupportedTypeCast(ex, "activity_type")) {
+                throw ex;
+            }
+            return jdbcTemplate.batchUpdate(fallbackSql, batch);
+        }
+    }
+
     private boolean isUnsupportedTypeCast(DataAccessException ex, String typeName) {
         String sqlState = findSqlState(ex);
         if (sqlState != null) {
@@ -223,6 +291,17 @@ public class ActivityJdbcRepository {
         return timestamp == null ? null : timestamp.toLocalDateTime();
     }
 
+    public record NewActivity(
+            Long elderId,
+            Long robotId,
+            ActivityType type,
+            String title,
+            String description,
+            String location,
+            LocalDateTime detectedAt
+    ) {
+    }
+
     public record ActivityData(
             Long id,
             Long elderId,
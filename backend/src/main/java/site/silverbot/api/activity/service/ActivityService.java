@@ -7,6 +7,7 @@ import java.util.Optional;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -20,6 +21,8 @@ import site.silverbot.api.activity.repository.ActivityJdbcRepository;
 import site.silverbot.api.activity.request.CreateActivityRequest;
 import site.silverbot.api.activity.response.ActivityListResponse;
 import site.silverbot.api.activity.response.ActivityResponse;
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
 import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.elder.ElderRepository;
 import site.silverbot.domain.robot.Robot;
@@ -35,6 +38,7 @@ public class ActivityService {
     private final ElderRepository elderRepository;
     private final RobotRepository robotRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public ActivityListResponse getActivities(Long elderId, LocalDate date) {
@@ -66,6 +70,7 @@ public class ActivityService {
                 request.location(),
                 detectedAt
         );
+        eventPublisher.publishEvent(DashboardChangedEvent.forElder(saved.elderId(), DashboardSection.SUMMARY));
         return toResponse(saved);
     }
 
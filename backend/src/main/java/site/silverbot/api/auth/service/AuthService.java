@@ -56,11 +56,9 @@ public class AuthService {
         if (refreshToken == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token is missing");
         }
-        if (!jwtTokenProvider.validateToken(refreshToken) || !jwtTokenProvider.isRefreshToken(refreshToken)) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
-        }
-
-        Long userId = jwtTokenProvider.getSubjectAsLong(refreshToken)
+        Long userId = jwtTokenProvider.verify(refreshToken)
+                .filter(JwtTokenProvider.VerifiedClaims::isRefreshToken)
+                .flatMap(JwtTokenProvider.VerifiedClaims::subjectAsLong)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
 
         User user = userRepository.findById(userId)
@@ -0,0 +1,23 @@
+package site.silverbot.api.common;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.PageRequest;
+
+public record CursorSlice<T>(
+        List<T> content,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static PageRequest limit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static <T> CursorSlice<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorSlice<>(rows, false, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorSlice<>(content, true, cursorOf.apply(content.get(size - 1)).encode());
+    }
+}
@@ -6,18 +6,34 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import site.silverbot.domain.user.User;
 import site.silverbot.domain.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 public class CurrentUserService {
+    private static final String PRINCIPAL_ATTRIBUTE = CurrentUserService.class.getName() + ".principal";
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private final UserRepository userRepository;
+    private final OwnershipCache ownershipCache;
 
     public User getCurrentUser() {
+        return userRepository.findById(getCurrentUserId())
+                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+    }
+
+    public Long getCurrentUserId() {
+        return getCurrentPrincipal().userId();
+    }
+
+    public CurrentPrincipal getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null
                 || !authentication.isAuthenticated()
@@ -28,21 +44,58 @@ public class CurrentUserService {
             throw new AccessDeniedException("Robot principal cannot be treated as user principal");
         }
 
-        String principal = authentication.getName();
-        if (!StringUtils.hasText(principal)) {
+        String name = authentication.getName();
+        if (!StringUtils.hasText(name)) {
             throw new AuthenticationCredentialsNotFoundException("User principal is empty");
         }
 
-        Long userId = parseLong(principal);
-        if (userId != null) {
-            return userRepository.findById(userId)
-                    .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(PRINCIPAL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof CurrentPrincipal cached
+                && cached.name().equals(name)) {
+            return cached;
+        }
+
+        CurrentPrincipal principal = new CurrentPrincipal(name, resolveUserId(name), resolveRole(authentication));
+        if (attributes != null) {
+            attributes.setAttribute(PRINCIPAL_ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+        }
+        return principal;
+    }
+
+    public void validateElderOwnership(Long elderId, String deniedMessage) {
+        Long userId = getCurrentUserId();
+        Long ownerUserId = ownershipCache.findOwnerUserId(elderId)
+                .orElseThrow(() -> new EntityNotFoundException("Elder not found"));
+        if (!ownerUserId.equals(userId)) {
+            throw new AccessDeniedException(deniedMessage);
         }
+    }
+
+    public boolean isElderOwner(Long elderId) {
+        return ownershipCache.isOwnedBy(elderId, getCurrentUserId());
+    }
 
-        return userRepository.findByEmail(principal)
+    private Long resolveUserId(String name) {
+        Long userId = parseLong(name);
+        if (userId != null) {
+            return userId;
+        }
+        return userRepository.findByEmail(name)
+                .map(User::getId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
     }
 
+    private String resolveRole(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority != null && authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .findFirst()
+                .orElse(null);
+    }
+
     private Long parseLong(String value) {
         try {
             return Long.valueOf(value);
@@ -55,4 +108,7 @@ public class CurrentUserService {
         return authentication.getAuthorities().stream()
                 .anyMatch(authority -> role.equals(authority.getAuthority()));
     }
+
+    public record CurrentPrincipal(String name, Long userId, String role) {
+    }
 }
@@ -0,0 +1,135 @@
+package site.silverbot.api.common.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.websocket.cluster.ClusterInvalidations;
+
+@Component
+public class OwnershipCache {
+    private static final String INVALIDATION_TOPIC = "elder-ownership";
+
+    private final ElderRepository elderRepository;
+    private final ClusterInvalidations clusterInvalidations;
+    private final Map<Long, Long> ownerUserIdsByElderId;
+    private final Map<Long, Long> generations;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private long lastGeneration;
+    private long evictedGeneration;
+
+    public OwnershipCache(
+            ElderRepository elderRepository,
+            MeterRegistry meterRegistry,
+            ClusterInvalidations clusterInvalidations,
+            @Value("${app.security.ownership-cache.max-size:100000}") int maxSize
+    ) {
+        this.elderRepository = elderRepository;
+        this.clusterInvalidations = clusterInvalidations;
+        this.ownerUserIdsByElderId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.generations = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                evictedGeneration = Math.max(evictedGeneration, eldest.getValue());
+                return true;
+            }
+        };
+        clusterInvalidations.register(INVALIDATION_TOPIC, this::invalidate);
+
+        Gauge.builder("security.ownership_cache.size", this, OwnershipCache::size)
+                .description("Elders whose owner is held in memory")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("security.ownership_cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("security.ownership_cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public Optional<Long> findOwnerUserId(Long elderId) {
+        Long cached = lookup(elderId);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+        missCounter.increment();
+
+        long generation = generation(elderId);
+        Optional<Long> loaded = elderRepository.findUserIdById(elderId);
+        loaded.ifPresent(userId -> put(elderId, userId, generation));
+        return loaded;
+    }
+
+    public boolean isOwnedBy(Long elderId, Long userId) {
+        return userId != null && findOwnerUserId(elderId).filter(userId::equals).isPresent();
+    }
+
+    public void evictElder(Long elderId) {
+        afterCommit(() -> invalidate(elderId));
+        clusterInvalidations.publishAfterCommit(INVALIDATION_TOPIC, elderId);
+    }
+
+    public int size() {
+        synchronized (ownerUserIdsByElderId) {
+            return ownerUserIdsByElderId.size();
+        }
+    }
+
+    private Long lookup(Long elderId) {
+        synchronized (ownerUserIdsByElderId) {
+            return ownerUserIdsByElderId.get(elderId);
+        }
+    }
+
+    private void put(Long elderId, Long userId, long generation) {
+        synchronized (ownerUserIdsByElderId) {
+            if (generation(elderId) == generation) {
+                ownerUserIdsByElderId.put(elderId, userId);
+            }
+        }
+    }
+
+    private void invalidate(Long elderId) {
+        synchronized (ownerUserIdsByElderId) {
+            generations.remove(elderId);
+            generations.put(elderId, ++lastGeneration);
+            ownerUserIdsByElderId.remove(elderId);
+        }
+    }
+
+    private long generation(Long elderId) {
+        synchronized (ownerUserIdsByElderId) {
+            return generations.getOrDefault(elderId, evictedGeneration);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
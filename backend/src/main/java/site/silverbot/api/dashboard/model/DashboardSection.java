@@ -0,0 +1,9 @@
+package site.silverbot.api.dashboard.model;
+
+public enum DashboardSection {
+    SUMMARY,
+    MEDICATION,
+    NOTIFICATIONS,
+    SCHEDULES,
+    ROBOT
+}
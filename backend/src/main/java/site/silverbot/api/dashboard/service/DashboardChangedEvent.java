@@ -0,0 +1,20 @@
+package site.silverbot.api.dashboard.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import site.silverbot.api.dashboard.model.DashboardSection;
+
+public record DashboardChangedEvent(
+        Long elderId,
+        Long userId,
+        Set<DashboardSection> sections
+) {
+    public static DashboardChangedEvent forElder(Long elderId, DashboardSection first, DashboardSection... rest) {
+        return new DashboardChangedEvent(elderId, null, EnumSet.of(first, rest));
+    }
+
+    public static DashboardChangedEvent forUser(Long userId, DashboardSection first, DashboardSection... rest) {
+        return new DashboardChangedEvent(null, userId, EnumSet.of(first, rest));
+    }
+}
@@ -0,0 +1,132 @@
+package site.silverbot.api.dashboard.service;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import site.silverbot.api.robot.model.RobotTelemetry;
+import site.silverbot.api.robot.service.RobotTelemetryBuffer;
+import site.silverbot.domain.elder.Elder;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.domain.robot.Robot;
+import site.silverbot.websocket.WebSocketMessageService;
+import site.silverbot.websocket.dto.DashboardDeltaMessage;
+import site.silverbot.websocket.dto.DashboardDeltaType;
+import site.silverbot.websocket.dto.ElderStatusMessage;
+import site.silverbot.websocket.dto.RobotStatusMessage;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardDeltaPublisher {
+    private final DashboardService dashboardService;
+    private final ElderRepository elderRepository;
+    private final RobotTelemetryBuffer robotTelemetryBuffer;
+    private final WebSocketMessageService webSocketMessageService;
+    private final DashboardSubscriptionRegistry dashboardSubscriptionRegistry;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        for (Long elderId : resolveElderIds(event)) {
+            if (!dashboardSubscriptionRegistry.hasSubscribers(elderId)) {
+                continue;
+            }
+            try {
+                publish(dashboardService.loadSections(elderId, event.sections()));
+            } catch (RuntimeException ex) {
+                log.warn("Failed to publish dashboard delta for elder {}", elderId, ex);
+            }
+        }
+    }
+
+    public void publishRobotTelemetry(Robot robot, RobotTelemetry telemetry) {
+        if (robot.getElder() == null || !dashboardSubscriptionRegistry.hasSubscribers(robot.getElder().getId())) {
+            return;
+        }
+        webSocketMessageService.sendDashboardDelta(
+                robot.getElder().getId(),
+                DashboardDeltaMessage.Payload.robotStatus(new RobotStatusMessage.Payload(
+                        robot.getId(),
+                        robot.getElder().getId(),
+                        telemetry.batteryLevel(),
+                        robot.getNetworkStatus() == null ? null : robot.getNetworkStatus().name(),
+                        telemetry.currentLocation(),
+                        telemetry.lcdMode() == null ? null : telemetry.lcdMode().name()
+                ))
+        );
+    }
+
+    private void publish(DashboardSnapshot snapshot) {
+        Long elderId = snapshot.elderId();
+        if (snapshot.summary() != null) {
+            DashboardSnapshot.Summary summary = snapshot.summary();
+            send(elderId, DashboardDeltaMessage.Payload.wakeUp(elderId, summary.wakeUpTime()));
+            send(elderId, DashboardDeltaMessage.Payload.elderStatus(new ElderStatusMessage.Payload(
+                    elderId,
+                    summary.activityStatus(),
+                    toOffset(summary.lastActivityAt()),
+                    summary.lastLocation()
+            )));
+        }
+        if (snapshot.medicationStatus() != null) {
+            send(elderId, new DashboardDeltaMessage.Payload(
+                    elderId,
+                    DashboardDeltaType.MEDICATION_STATUS,
+                    snapshot.medicationStatus()
+            ));
+        }
+        if (snapshot.notifications() != null) {
+            send(elderId, new DashboardDeltaMessage.Payload(
+                    elderId,
+                    DashboardDeltaType.NOTIFICATIONS,
+                    snapshot.notifications()
+            ));
+        }
+        if (snapshot.schedules() != null) {
+            send(elderId, new DashboardDeltaMessage.Payload(
+                    elderId,
+                    DashboardDeltaType.SCHEDULES,
+                    snapshot.schedules()
+            ));
+        }
+        if (snapshot.robot() != null && snapshot.robot().robotId() != null) {
+            DashboardSnapshot.RobotSection robot = snapshot.robot();
+            RobotTelemetry telemetry = robotTelemetryBuffer.resolve(robot.robotId(), robot.telemetry());
+            send(elderId, DashboardDeltaMessage.Payload.robotStatus(new RobotStatusMessage.Payload(
+                    robot.robotId(),
+                    elderId,
+                    telemetry.batteryLevel(),
+                    robot.networkStatus(),
+                    telemetry.currentLocation(),
+                    telemetry.lcdMode() == null ? null : telemetry.lcdMode().name()
+            )));
+        }
+    }
+
+    private void send(Long elderId, DashboardDeltaMessage.Payload payload) {
+        webSocketMessageService.sendDashboardDelta(elderId, payload);
+    }
+
+    private List<Long> resolveElderIds(DashboardChangedEvent event) {
+        if (event.elderId() != null) {
+            return List.of(event.elderId());
+        }
+        if (event.userId() == null) {
+            return List.of();
+        }
+        return elderRepository.findAllByUserId(event.userId()).stream()
+                .map(Elder::getId)
+                .toList();
+    }
+
+    private OffsetDateTime toOffset(LocalDateTime value) {
+        return value == null ? null : value.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+}
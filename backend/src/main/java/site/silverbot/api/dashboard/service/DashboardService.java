@@ -4,18 +4,15 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import site.silverbot.api.common.service.CurrentUserService;
+import site.silverbot.api.dashboard.model.DashboardSection;
 import site.silverbot.api.dashboard.repository.DashboardJdbcRepository;
 import site.silverbot.api.dashboard.response.DashboardNotificationResponse;
 import site.silverbot.api.dashboard.response.DashboardMedicationPeriodStatusResponse;
@@ -24,86 +21,138 @@ import site.silverbot.api.dashboard.response.DashboardResponse;
 import site.silverbot.api.dashboard.response.DashboardRobotStatusResponse;
 import site.silverbot.api.dashboard.response.DashboardScheduleResponse;
 import site.silverbot.api.dashboard.response.DashboardTodaySummaryResponse;
-import site.silverbot.api.medication.model.MedicationStatus;
 import site.silverbot.api.medication.model.MedicationTimeOfDay;
 import site.silverbot.api.medication.repository.MedicationJdbcRepository;
+import site.silverbot.api.medication.service.MedicationRollupService;
+import site.silverbot.api.robot.model.RobotTelemetry;
+import site.silverbot.api.robot.service.RobotTelemetryBuffer;
 import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.elder.ElderRepository;
-import site.silverbot.domain.robot.Robot;
 import site.silverbot.domain.robot.RobotRepository;
-import site.silverbot.domain.user.User;
-import site.silverbot.domain.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DashboardService {
     private final ElderRepository elderRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
     private final RobotRepository robotRepository;
-    private final MedicationJdbcRepository medicationJdbcRepository;
+    private final MedicationRollupService medicationRollupService;
     private final DashboardJdbcRepository dashboardJdbcRepository;
+    private final RobotTelemetryBuffer robotTelemetryBuffer;
+    private final DashboardSnapshotCache dashboardSnapshotCache;
 
     public DashboardResponse getDashboard(Long elderId) {
-        Elder elder = getOwnedElder(elderId);
+        Long userId = currentUserService.getCurrentUserId();
+        currentUserService.validateElderOwnership(elderId, "Dashboard access denied");
         LocalDate today = LocalDate.now();
+        long generation = dashboardSnapshotCache.generation(elderId);
+        DashboardSnapshot snapshot = dashboardSnapshotCache.get(elderId, today);
+        if (snapshot == null || !userId.equals(snapshot.ownerUserId())) {
+            snapshot = DashboardSnapshot.empty(elderId, userId, today);
+        }
+
+        Set<DashboardSection> missing = snapshot.missingSections();
+        if (!missing.isEmpty()) {
+            snapshot = fillSections(snapshot, missing, today);
+            dashboardSnapshotCache.put(snapshot, generation);
+        }
+        return toResponse(snapshot);
+    }
+
+    public DashboardSnapshot loadSections(Long elderId, Set<DashboardSection> sections) {
+        LocalDate today = LocalDate.now();
+        DashboardSnapshot snapshot = DashboardSnapshot.empty(elderId, null, today);
+        return fillSections(snapshot, sections, today);
+    }
+
+    private DashboardSnapshot fillSections(
+            DashboardSnapshot snapshot,
+            Set<DashboardSection> sections,
+            LocalDate today
+    ) {
+        Long elderId = snapshot.elderId();
+        if (sections.contains(DashboardSection.SUMMARY)) {
+            Elder current = elderRepository.findById(elderId)
+                    .orElseThrow(() -> new EntityNotFoundException("Elder not found"));
+            snapshot = snapshot.withSummary(new DashboardSnapshot.Summary(
+                    dashboardJdbcRepository.findTodayWakeUpTime(
+                            elderId,
+                            today.atStartOfDay(),
+                            today.plusDays(1).atStartOfDay().minusNanos(1)
+                    ),
+                    current.getStatus().name(),
+                    current.getLastActivityAt(),
+                    current.getLastLocation()
+            ));
+        }
+        if (sections.contains(DashboardSection.MEDICATION)) {
+            snapshot = snapshot.withMedicationStatus(buildMedicationStatus(elderId, today));
+        }
+        if (sections.contains(DashboardSection.NOTIFICATIONS)) {
+            snapshot = snapshot.withNotifications(dashboardJdbcRepository
+                    .findRecentNotifications(elderId, 5)
+                    .stream()
+                    .map(data -> new DashboardNotificationResponse(
+                            data.id(),
+                            data.type(),
+                            data.title(),
+                            data.message(),
+                            data.isRead(),
+                            data.createdAt()
+                    ))
+                    .toList());
+        }
+        if (sections.contains(DashboardSection.SCHEDULES)) {
+            LocalDate weekStart = today.with(DayOfWeek.MONDAY);
+            LocalDate weekEnd = weekStart.plusDays(6);
+            snapshot = snapshot.withSchedules(dashboardJdbcRepository
+                    .findWeeklySchedules(
+                            elderId,
+                            weekStart.atStartOfDay(),
+                            weekEnd.plusDays(1).atStartOfDay().minusNanos(1)
+                    )
+                    .stream()
+                    .map(data -> new DashboardScheduleResponse(
+                            data.id(),
+                            data.title(),
+                            data.scheduledAt(),
+                            data.location(),
+                            data.type(),
+                            data.status()
+                    ))
+                    .toList());
+        }
+        if (sections.contains(DashboardSection.ROBOT)) {
+            snapshot = snapshot.withRobot(robotRepository.findByElderId(elderId)
+                    .map(robot -> new DashboardSnapshot.RobotSection(
+                            robot.getId(),
+                            robot.getNetworkStatus().name(),
+                            RobotTelemetry.from(robot)
+                    ))
+                    .orElse(new DashboardSnapshot.RobotSection(null, "DISCONNECTED", null)));
+        }
+        return snapshot;
+    }
 
+    private DashboardResponse toResponse(DashboardSnapshot snapshot) {
         DashboardTodaySummaryResponse todaySummary = new DashboardTodaySummaryResponse(
-                dashboardJdbcRepository.findTodayWakeUpTime(
-                        elderId,
-                        today.atStartOfDay(),
-                        today.plusDays(1).atStartOfDay().minusNanos(1)
-                ),
-                buildMedicationStatus(elderId, today),
-                elder.getStatus().name()
+                snapshot.summary().wakeUpTime(),
+                snapshot.medicationStatus(),
+                snapshot.summary().activityStatus()
+        );
+        return new DashboardResponse(
+                todaySummary,
+                snapshot.notifications(),
+                snapshot.schedules(),
+                toRobotStatus(snapshot.robot())
         );
-
-        List<DashboardNotificationResponse> notifications = dashboardJdbcRepository
-                .findRecentNotifications(elderId, 5)
-                .stream()
-                .map(data -> new DashboardNotificationResponse(
-                        data.id(),
-                        data.type(),
-                        data.title(),
-                        data.message(),
-                        data.isRead(),
-                        data.createdAt()
-                ))
-                .toList();
-
-        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
-        LocalDate weekEnd = weekStart.plusDays(6);
-        List<DashboardScheduleResponse> schedules = dashboardJdbcRepository
-                .findWeeklySchedules(
-                        elderId,
-                        weekStart.atStartOfDay(),
-                        weekEnd.plusDays(1).atStartOfDay().minusNanos(1)
-                )
-                .stream()
-                .map(data -> new DashboardScheduleResponse(
-                        data.id(),
-                        data.title(),
-                        data.scheduledAt(),
-                        data.location(),
-                        data.type(),
-                        data.status()
-                ))
-                .toList();
-
-        DashboardRobotStatusResponse robotStatus = robotRepository.findByElderId(elderId)
-                .map(this::toRobotStatus)
-                .orElse(new DashboardRobotStatusResponse(null, null, "DISCONNECTED", null, null));
-
-        return new DashboardResponse(todaySummary, notifications, schedules, robotStatus);
     }
 
     private DashboardMedicationStatusResponse buildMedicationStatus(Long elderId, LocalDate today) {
-        List<MedicationJdbcRepository.MedicationData> medications = medicationJdbcRepository
-                .findActiveMedicationsByElderId(elderId)
-                .stream()
-                .filter(medication -> isActiveToday(medication, today))
-                .toList();
-        if (medications.isEmpty()) {
+        List<MedicationJdbcRepository.DoseCount> counts = medicationRollupService
+                .findDoseCounts(List.of(elderId), today, today);
+        if (counts.isEmpty()) {
             return new DashboardMedicationStatusResponse(
                     new DashboardMedicationPeriodStatusResponse(0, 0, "NONE"),
                     new DashboardMedicationPeriodStatusResponse(0, 0, "NONE"),
@@ -113,11 +162,8 @@ public class DashboardService {
             );
         }
 
-        List<MedicationJdbcRepository.MedicationRecordData> records = medicationJdbcRepository
-                .findMedicationRecords(elderId, today, today);
-
-        PeriodSummary morning = buildPeriodSummary(medications, records, MedicationTimeOfDay.MORNING);
-        PeriodSummary evening = buildPeriodSummary(medications, records, MedicationTimeOfDay.EVENING);
+        PeriodSummary morning = buildPeriodSummary(counts, MedicationTimeOfDay.MORNING);
+        PeriodSummary evening = buildPeriodSummary(counts, MedicationTimeOfDay.EVENING);
         int total = morning.total() + evening.total();
         int taken = morning.taken() + evening.taken();
         int missed = morning.missed() + evening.missed();
@@ -144,25 +190,17 @@ public class DashboardService {
         );
     }
 
-    private PeriodSummary buildPeriodSummary(
-            List<MedicationJdbcRepository.MedicationData> medications,
-            List<MedicationJdbcRepository.MedicationRecordData> records,
-            MedicationTimeOfDay timeOfDay
-    ) {
+    private PeriodSummary buildPeriodSummary(List<MedicationJdbcRepository.DoseCount> counts, MedicationTimeOfDay timeOfDay) {
         int total = 0;
         int taken = 0;
         int missed = 0;
-        for (MedicationJdbcRepository.MedicationData medication : medications) {
-            if (!medication.frequency().includes(timeOfDay)) {
+        for (MedicationJdbcRepository.DoseCount count : counts) {
+            if (count.timeOfDay() != timeOfDay) {
                 continue;
             }
-            total++;
-            MedicationStatus status = findStatus(records, medication.id(), timeOfDay);
-            if (status == MedicationStatus.TAKEN) {
-                taken++;
-            } else if (status == MedicationStatus.MISSED) {
-                missed++;
-            }
+            total += count.expected();
+            taken += count.taken();
+            missed += count.missed();
         }
 
         String status;
@@ -178,68 +216,20 @@ public class DashboardService {
         return new PeriodSummary(taken, total, missed, status);
     }
 
-    private MedicationStatus findStatus(
-            List<MedicationJdbcRepository.MedicationRecordData> records,
-            Long medicationId,
-            MedicationTimeOfDay timeOfDay
-    ) {
-        return records.stream()
-                .filter(record -> record.medicationId().equals(medicationId))
-                .filter(record -> record.timeOfDay() == timeOfDay)
-                .map(MedicationJdbcRepository.MedicationRecordData::status)
-                .findFirst()
-                .orElse(MedicationStatus.PENDING);
-    }
-
-    private boolean isActiveToday(MedicationJdbcRepository.MedicationData medication, LocalDate today) {
-        LocalDate startDate = medication.startDate() == null ? LocalDate.MIN : medication.startDate();
-        LocalDate endDate = medication.endDate() == null ? LocalDate.MAX : medication.endDate();
-        return !today.isBefore(startDate) && !today.isAfter(endDate);
-    }
-
-    private DashboardRobotStatusResponse toRobotStatus(Robot robot) {
+    private DashboardRobotStatusResponse toRobotStatus(DashboardSnapshot.RobotSection robot) {
+        if (robot.robotId() == null) {
+            return new DashboardRobotStatusResponse(null, null, robot.networkStatus(), null, null);
+        }
+        RobotTelemetry telemetry = robotTelemetryBuffer.resolve(robot.robotId(), robot.telemetry());
         return new DashboardRobotStatusResponse(
-                robot.getId(),
-                robot.getBatteryLevel(),
-                robot.getNetworkStatus().name(),
-                robot.getCurrentLocation(),
-                robot.getLastSyncAt()
+                robot.robotId(),
+                telemetry.batteryLevel(),
+                robot.networkStatus(),
+                telemetry.currentLocation(),
+                telemetry.lastSyncAt()
         );
     }
 
-    private Elder getOwnedElder(Long elderId) {
-        Elder elder = elderRepository.findById(elderId)
-                .orElseThrow(() -> new EntityNotFoundException("Elder not found"));
-        User user = getCurrentUser();
-        if (!elder.getUser().getId().equals(user.getId())) {
-            throw new AccessDeniedException("Dashboard access denied");
-        }
-        return elder;
-    }
-
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null
-                || !authentication.isAuthenticated()
-                || authentication instanceof AnonymousAuthenticationToken) {
-            throw new AuthenticationCredentialsNotFoundException("User not authenticated");
-        }
-
-        String principal = authentication.getName();
-        Optional<User> byEmail = userRepository.findByEmail(principal);
-        if (byEmail.isPresent()) {
-            return byEmail.get();
-        }
-
-        try {
-            long userId = Long.parseLong(principal);
-            return userRepository.findById(userId)
-                    .orElseThrow(() -> new EntityNotFoundException("User not found"));
-        } catch (NumberFormatException ex) {
-            throw new EntityNotFoundException("User not found");
-        }
-    }
-
     private record PeriodSummary(
             int taken,
             int total,
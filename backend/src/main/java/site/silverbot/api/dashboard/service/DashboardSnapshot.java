@@ -0,0 +1,104 @@
+package site.silverbot.api.dashboard.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.response.DashboardMedicationStatusResponse;
+import site.silverbot.api.dashboard.response.DashboardNotificationResponse;
+import site.silverbot.api.dashboard.response.DashboardScheduleResponse;
+import site.silverbot.api.robot.model.RobotTelemetry;
+
+public record DashboardSnapshot(
+        Long elderId,
+        Long ownerUserId,
+        LocalDate date,
+        Summary summary,
+        DashboardMedicationStatusResponse medicationStatus,
+        List<DashboardNotificationResponse> notifications,
+        List<DashboardScheduleResponse> schedules,
+        RobotSection robot,
+        long cachedAtMillis
+) {
+    public static DashboardSnapshot empty(Long elderId, Long ownerUserId, LocalDate date) {
+        return new DashboardSnapshot(elderId, ownerUserId, date, null, null, null, null, null,
+                System.currentTimeMillis());
+    }
+
+    public Set<DashboardSection> missingSections() {
+        Set<DashboardSection> missing = EnumSet.noneOf(DashboardSection.class);
+        if (summary == null) {
+            missing.add(DashboardSection.SUMMARY);
+        }
+        if (medicationStatus == null) {
+            missing.add(DashboardSection.MEDICATION);
+        }
+        if (notifications == null) {
+            missing.add(DashboardSection.NOTIFICATIONS);
+        }
+        if (schedules == null) {
+            missing.add(DashboardSection.SCHEDULES);
+        }
+        if (robot == null) {
+            missing.add(DashboardSection.ROBOT);
+        }
+        return missing;
+    }
+
+    public DashboardSnapshot without(Set<DashboardSection> sections) {
+        return new DashboardSnapshot(
+                elderId,
+                ownerUserId,
+                date,
+                sections.contains(DashboardSection.SUMMARY) ? null : summary,
+                sections.contains(DashboardSection.MEDICATION) ? null : medicationStatus,
+                sections.contains(DashboardSection.NOTIFICATIONS) ? null : notifications,
+                sections.contains(DashboardSection.SCHEDULES) ? null : schedules,
+                sections.contains(DashboardSection.ROBOT) ? null : robot,
+                cachedAtMillis
+        );
+    }
+
+    public DashboardSnapshot withSummary(Summary summary) {
+        return new DashboardSnapshot(elderId, ownerUserId, date, summary, medicationStatus,
+                notifications, schedules, robot, cachedAtMillis);
+    }
+
+    public DashboardSnapshot withMedicationStatus(DashboardMedicationStatusResponse medicationStatus) {
+        return new DashboardSnapshot(elderId, ownerUserId, date, summary, medicationStatus,
+                notifications, schedules, robot, cachedAtMillis);
+    }
+
+    public DashboardSnapshot withNotifications(List<DashboardNotificationResponse> notifications) {
+        return new DashboardSnapshot(elderId, ownerUserId, date, summary, medicationStatus,
+                notifications, schedules, robot, cachedAtMillis);
+    }
+
+    public DashboardSnapshot withSchedules(List<DashboardScheduleResponse> schedules) {
+        return new DashboardSnapshot(elderId, ownerUserId, date, summary, medicationStatus,
+                notifications, schedules, robot, cachedAtMillis);
+    }
+
+    public DashboardSnapshot withRobot(RobotSection robot) {
+        return new DashboardSnapshot(elderId, ownerUserId, date, summary, medicationStatus,
+                notifications, schedules, robot, cachedAtMillis);
+    }
+
+    public record Summary(
+            LocalDateTime wakeUpTime,
+            String activityStatus,
+            LocalDateTime lastActivityAt,
+            String lastLocation
+    ) {
+    }
+
+    public record RobotSection(
+            Long robotId,
+            String networkStatus,
+            RobotTelemetry telemetry
+    ) {
+    }
+}
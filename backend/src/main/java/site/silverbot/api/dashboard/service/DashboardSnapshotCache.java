@@ -0,0 +1,116 @@
+package site.silverbot.api.dashboard.service;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.websocket.cluster.ClusterInvalidations;
+
+@Component
+public class DashboardSnapshotCache {
+    private static final String ELDER_INVALIDATION_TOPIC = "dashboard-elder";
+    private static final String USER_INVALIDATION_TOPIC = "dashboard-user";
+
+    private final long ttlMillis;
+    private final ClusterInvalidations clusterInvalidations;
+    private final Map<Long, DashboardSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    public DashboardSnapshotCache(
+            @Value("${app.dashboard.snapshot-ttl-ms:300000}") long ttlMillis,
+            ClusterInvalidations clusterInvalidations
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.clusterInvalidations = clusterInvalidations;
+        clusterInvalidations.register(ELDER_INVALIDATION_TOPIC,
+                elderId -> invalidate(elderId, EnumSet.allOf(DashboardSection.class)));
+        clusterInvalidations.register(USER_INVALIDATION_TOPIC,
+                userId -> invalidateUser(userId, EnumSet.allOf(DashboardSection.class)));
+    }
+
+    public DashboardSnapshot get(Long elderId, LocalDate date) {
+        DashboardSnapshot snapshot = snapshots.get(elderId);
+        if (snapshot == null) {
+            return null;
+        }
+        if (!date.equals(snapshot.date()) || isExpired(snapshot)) {
+            snapshots.remove(elderId, snapshot);
+            return null;
+        }
+        return snapshot;
+    }
+
+    public long generation(Long elderId) {
+        return generations.getOrDefault(elderId, 0L);
+    }
+
+    public void put(DashboardSnapshot snapshot, long generation) {
+        snapshots.compute(snapshot.elderId(),
+                (elderId, current) -> generation(elderId) == generation ? snapshot : current);
+    }
+
+    public void invalidate(Long elderId, Set<DashboardSection> sections) {
+        snapshots.compute(elderId, (id, current) -> {
+            generations.merge(id, 1L, Long::sum);
+            if (current == null) {
+                return null;
+            }
+            DashboardSnapshot patched = current.without(sections);
+            return patched.missingSections().size() == DashboardSection.values().length ? null : patched;
+        });
+    }
+
+    public void invalidateUser(Long userId, Set<DashboardSection> sections) {
+        List<Long> elderIds = snapshots.values().stream()
+                .filter(snapshot -> userId.equals(snapshot.ownerUserId()))
+                .map(DashboardSnapshot::elderId)
+                .toList();
+        for (Long elderId : elderIds) {
+            invalidate(elderId, sections);
+        }
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    @EventListener
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        apply(event);
+        if (event.elderId() != null) {
+            clusterInvalidations.publishAfterCommit(ELDER_INVALIDATION_TOPIC, event.elderId());
+        } else if (event.userId() != null) {
+            clusterInvalidations.publishAfterCommit(USER_INVALIDATION_TOPIC, event.userId());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    apply(event);
+                }
+            });
+        }
+    }
+
+    private void apply(DashboardChangedEvent event) {
+        if (event.elderId() != null) {
+            invalidate(event.elderId(), event.sections());
+        } else if (event.userId() != null) {
+            invalidateUser(event.userId(), event.sections());
+        }
+    }
+
+    private boolean isExpired(DashboardSnapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.cachedAtMillis() > ttlMillis;
+    }
+}
@@ -0,0 +1,83 @@
+package site.silverbot.api.dashboard.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import site.silverbot.websocket.cluster.BrokerMode;
+
+@Component
+public class DashboardSubscriptionRegistry {
+    private static final Pattern DASHBOARD_DESTINATION = Pattern.compile("^/topic/elder/(\\d+)/dashboard$");
+
+    private final boolean clustered;
+    private final Map<Long, Integer> subscriberCounts = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    public DashboardSubscriptionRegistry(@Value("${app.websocket.broker.mode:SIMPLE}") BrokerMode brokerMode) {
+        this.clustered = brokerMode != BrokerMode.SIMPLE;
+    }
+
+    public boolean hasSubscribers(Long elderId) {
+        return clustered || subscriberCounts.getOrDefault(elderId, 0) > 0;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Matcher matcher = DASHBOARD_DESTINATION.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+        Long elderId = Long.valueOf(matcher.group(1));
+        Long previous = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), elderId);
+        if (previous != null) {
+            decrement(previous);
+        }
+        subscriberCounts.merge(elderId, 1, Integer::sum);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        Map<String, Long> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        Long elderId = subscriptions.remove(accessor.getSubscriptionId());
+        if (elderId != null) {
+            decrement(elderId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.values().forEach(this::decrement);
+    }
+
+    private void decrement(Long elderId) {
+        subscriberCounts.computeIfPresent(elderId, (key, count) -> count <= 1 ? null : count - 1);
+    }
+}
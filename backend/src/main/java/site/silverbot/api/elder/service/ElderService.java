@@ -22,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import site.silverbot.api.common.service.OwnershipCache;
 import site.silverbot.api.elder.request.CreateContactRequest;
 import site.silverbot.api.elder.request.CreateElderRequest;
 import site.silverbot.api.elder.request.UpdateElderRequest;
@@ -52,6 +53,7 @@ public class ElderService {
     private final EmergencyRepository emergencyRepository;
     private final RobotRepository robotRepository;
     private final UserRepository userRepository;
+    private final OwnershipCache ownershipCache;
 
     public ElderResponse createElder(CreateElderRequest request) {
         User user = getCurrentUser();
@@ -139,6 +141,7 @@ public class ElderService {
         emergencyContactRepository.deleteAll(emergencyContactRepository.findAllByElderIdOrderByPriorityAsc(elderId));
         emergencyRepository.deleteAll(emergencyRepository.findAllByElderId(elderId));
         elderRepository.delete(elder);
+        ownershipCache.evictElder(elderId);
     }
 
     private List<ContactResponse> saveContacts(Elder elder, List<CreateContactRequest> contacts) {
@@ -6,6 +6,7 @@ import java.util.List;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import site.silverbot.api.common.service.CurrentUserService;
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
 import site.silverbot.api.emergency.request.ReportEmergencyRequest;
 import site.silverbot.api.emergency.request.ResolveEmergencyRequest;
 import site.silverbot.api.emergency.response.EmergencyListResponse;
@@ -37,6 +40,7 @@ public class EmergencyService {
     private final ElderRepository elderRepository;
     private final CurrentUserService currentUserService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public EmergencyResponse reportEmergency(Long robotId, ReportEmergencyRequest request) {
         Robot robot = robotRepository.findById(robotId)
@@ -66,6 +70,7 @@ public class EmergencyService {
         Emergency saved = emergencyRepository.save(emergency);
         elder.updateStatus(ElderStatus.DANGER);
         elder.updateLastActivity(detectedAt, request.location());
+        eventPublisher.publishEvent(DashboardChangedEvent.forElder(elder.getId(), DashboardSection.SUMMARY));
         notificationService.createEmergencyNotification(
                 currentUser.getId(),
                 elder.getId(),
@@ -120,6 +125,7 @@ public class EmergencyService {
         if (!hasPending) {
             elder.updateStatus(ElderStatus.SAFE);
             elderRepository.save(elder);
+            eventPublisher.publishEvent(DashboardChangedEvent.forElder(elder.getId(), DashboardSection.SUMMARY));
         }
 
         return toResponse(emergency);
@@ -0,0 +1,52 @@
+package site.silverbot.api.export.controller;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import site.silverbot.api.export.model.ExportFormat;
+import site.silverbot.api.export.model.ExportSection;
+import site.silverbot.api.export.service.ElderExportService;
+import site.silverbot.api.export.service.ElderExportService.ExportRequest;
+
+@RestController
+@RequiredArgsConstructor
+public class ElderExportController {
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ElderExportService elderExportService;
+
+    @PreAuthorize("hasAnyRole('WORKER','FAMILY')")
+    @GetMapping("/api/elders/{elderId}/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable Long elderId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) Set<ExportSection> sections,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        ExportRequest request = elderExportService.prepare(elderId, format, sections, from, to, gzip);
+        StreamingResponseBody body = outputStream -> elderExportService.export(request, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : MediaType.parseMediaType(request.format().contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(request.filename())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
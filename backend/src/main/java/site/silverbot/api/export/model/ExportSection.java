@@ -0,0 +1,15 @@
+package site.silverbot.api.export.model;
+
+import java.util.Locale;
+
+public enum ExportSection {
+    ACTIVITY,
+    MEDICATION_RECORD,
+    PATROL,
+    CONVERSATION,
+    LCD_EVENT;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
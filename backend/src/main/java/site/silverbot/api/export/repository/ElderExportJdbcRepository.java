@@ -0,0 +1,102 @@
+package site.silverbot.api.export.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import site.silverbot.api.export.model.ExportSection;
+
+@Repository
+public class ElderExportJdbcRepository {
+    private static final Map<ExportSection, String> QUERIES = Map.of(
+            ExportSection.ACTIVITY, """
+                    SELECT a.id, a.robot_id, CAST(a.type AS VARCHAR) AS type, a.title, a.description,
+                           a.location, a.confidence, a.detected_at, a.created_at
+                    FROM activity a
+                    WHERE a.elder_id = :elderId
+                      AND a.detected_at >= :from
+                      AND a.detected_at < :to
+                    ORDER BY a.detected_at, a.id
+                    """,
+            ExportSection.MEDICATION_RECORD, """
+                    SELECT r.id, r.medication_id, m.name AS medication_name, r.record_date,
+                           CAST(r.time_of_day AS VARCHAR) AS time_of_day, CAST(r.status AS VARCHAR) AS status,
+                           r.taken_at, CAST(r.method AS VARCHAR) AS method, r.created_at
+                    FROM medication_record r
+                    JOIN medication m ON m.id = r.medication_id
+                    WHERE r.elder_id = :elderId
+                      AND r.record_date >= :fromDate
+                      AND r.record_date < :toDate
+                    ORDER BY r.record_date, r.id
+                    """,
+            ExportSection.PATROL, """
+                    SELECT p.id AS patrol_result_id, p.patrol_id, p.robot_id,
+                           CAST(p.overall_status AS VARCHAR) AS overall_status, p.started_at, p.completed_at,
+                           i.id AS item_id, CAST(i.target AS VARCHAR) AS target, i.label,
+                           CAST(i.status AS VARCHAR) AS item_status, i.confidence, i.image_url, i.checked_at
+                    FROM patrol_result p
+                    LEFT JOIN patrol_item i ON i.patrol_result_id = p.id
+                    WHERE p.elder_id = :elderId
+                      AND p.started_at >= :from
+                      AND p.started_at < :to
+                    ORDER BY p.started_at, p.id, i.checked_at, i.id
+                    """,
+            ExportSection.CONVERSATION, """
+                    SELECT c.id, c.robot_id, c.voice_original, c.normalized_text,
+                           CAST(c.intent AS VARCHAR) AS intent, CAST(c.command_type AS VARCHAR) AS command_type,
+                           c.confidence, c.duration_seconds, CAST(c.sentiment AS VARCHAR) AS sentiment,
+                           CAST(c.keywords AS VARCHAR) AS keywords, c.recorded_at, c.created_at
+                    FROM conversation c
+                    WHERE c.elder_id = :elderId
+                      AND c.recorded_at >= :from
+                      AND c.recorded_at < :to
+                    ORDER BY c.recorded_at, c.id
+                    """,
+            ExportSection.LCD_EVENT, """
+                    SELECT e.id, e.robot_id, e.event_type, e.event_action, e.medication_id, e.location,
+                           e.confidence, CAST(e.payload AS VARCHAR) AS payload, e.occurred_at, e.created_at
+                    FROM robot_lcd_event e
+                    WHERE e.elder_id = :elderId
+                      AND e.occurred_at >= :from
+                      AND e.occurred_at < :to
+                    ORDER BY e.occurred_at, e.id
+                    """
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ElderExportJdbcRepository(
+            DataSource dataSource,
+            @Value("${app.export.fetch-size:500}") int fetchSize
+    ) {
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+    }
+
+    public void stream(
+            ExportSection section,
+            Long elderId,
+            LocalDateTime from,
+            LocalDateTime to,
+            RowCallbackHandler handler
+    ) {
+        jdbcTemplate.query(
+                QUERIES.get(section),
+                new MapSqlParameterSource()
+                        .addValue("elderId", elderId)
+                        .addValue("from", from)
+                        .addValue("to", to)
+                        .addValue("fromDate", from.toLocalDate())
+                        .addValue("toDate", to.toLocalDate()),
+                handler
+        );
+    }
+}
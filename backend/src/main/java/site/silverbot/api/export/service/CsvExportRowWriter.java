@@ -0,0 +1,80 @@
+package site.silverbot.api.export.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+
+import site.silverbot.api.export.model.ExportSection;
+
+class CsvExportRowWriter implements ExportRowWriter {
+    private final Writer writer;
+    private String sectionKey;
+    private boolean headerWritten;
+
+    CsvExportRowWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void startSection(ExportSection section) {
+        if (sectionKey != null) {
+            throw new IllegalStateException("CSV export supports a single section");
+        }
+        this.sectionKey = section.key();
+    }
+
+    @Override
+    public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        if (!headerWritten) {
+            writer.write("section");
+            for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                writer.write(',');
+                writer.write(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT));
+            }
+            writer.write("\r\n");
+            headerWritten = true;
+        }
+        writer.write(sectionKey);
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            writer.write(',');
+            Object value = ExportRowWriter.exportValue(resultSet.getObject(column));
+            if (value instanceof String text) {
+                writer.write(escape(neutralizeFormula(text)));
+            } else if (value != null) {
+                writer.write(escape(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
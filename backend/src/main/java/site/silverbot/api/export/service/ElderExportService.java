@@ -0,0 +1,108 @@
+package site.silverbot.api.export.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import site.silverbot.api.common.service.CurrentUserService;
+import site.silverbot.api.export.model.ExportFormat;
+import site.silverbot.api.export.model.ExportSection;
+import site.silverbot.api.export.repository.ElderExportJdbcRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ElderExportService {
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(2000, 1, 1);
+
+    private final ElderExportJdbcRepository elderExportJdbcRepository;
+    private final CurrentUserService currentUserService;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public ExportRequest prepare(
+            Long elderId,
+            ExportFormat format,
+            Set<ExportSection> sections,
+            LocalDate from,
+            LocalDate to,
+            boolean gzip
+    ) {
+        currentUserService.validateElderOwnership(elderId, "Export access denied");
+        LocalDate startDate = from == null ? EARLIEST_DATE : from;
+        LocalDate endDate = to == null ? LocalDate.now() : to;
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("from must be on or before to");
+        }
+        ExportFormat resolvedFormat = format == null ? ExportFormat.NDJSON : format;
+        if (resolvedFormat == ExportFormat.CSV && (sections == null || sections.size() != 1)) {
+            throw new IllegalArgumentException("CSV export requires exactly one section");
+        }
+        return new ExportRequest(
+                elderId,
+                resolvedFormat,
+                sections == null || sections.isEmpty() ? EnumSet.allOf(ExportSection.class) : EnumSet.copyOf(sections),
+                startDate,
+                endDate,
+                gzip
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public long export(ExportRequest request, OutputStream outputStream) throws IOException {
+        OutputStream target = request.gzip() ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+        ExportRowWriter writer = request.format() == ExportFormat.CSV
+                ? new CsvExportRowWriter(target)
+                : new NdjsonExportRowWriter(objectMapper, target);
+        LocalDateTime start = request.from().atStartOfDay();
+        LocalDateTime end = request.to().plusDays(1).atStartOfDay();
+
+        long rows = 0;
+        for (ExportSection section : request.sections()) {
+            writer.startSection(section);
+            long[] sectionRows = {0};
+            elderExportJdbcRepository.stream(section, request.elderId(), start, end, resultSet -> {
+                try {
+                    writer.writeRow(resultSet);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                sectionRows[0]++;
+            });
+            rows += sectionRows[0];
+        }
+        writer.finish();
+        if (target instanceof GZIPOutputStream gzipOutputStream) {
+            gzipOutputStream.finish();
+        }
+        log.info("Exported {} rows for elder {} ({} ~ {}, {})",
+                rows, request.elderId(), request.from(), request.to(), request.format());
+        return rows;
+    }
+
+    public record ExportRequest(
+            Long elderId,
+            ExportFormat format,
+            Set<ExportSection> sections,
+            LocalDate from,
+            LocalDate to,
+            boolean gzip
+    ) {
+        public String filename() {
+            String sectionSuffix = sections.size() == 1 ? "-" + sections.iterator().next().key() : "";
+            return "elder-" + elderId + sectionSuffix + "-" + from + "-" + to + "." + format.extension()
+                    + (gzip ? ".gz" : "");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package site.silverbot.api.export.service;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import site.silverbot.api.export.model.ExportSection;
+
+interface ExportRowWriter {
+    void startSection(ExportSection section) throws IOException;
+
+    void writeRow(ResultSet resultSet) throws SQLException, IOException;
+
+    void finish() throws IOException;
+
+    static Object exportValue(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof String) {
+            return value;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().toString();
+        }
+        return value.toString();
+    }
+}
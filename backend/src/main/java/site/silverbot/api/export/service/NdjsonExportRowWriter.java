@@ -0,0 +1,46 @@
+package site.silverbot.api.export.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+
+import site.silverbot.api.export.model.ExportSection;
+
+class NdjsonExportRowWriter implements ExportRowWriter {
+    private final JsonGenerator generator;
+    private String sectionKey;
+
+    NdjsonExportRowWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.generator = objectMapper.getFactory()
+                .createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void startSection(ExportSection section) {
+        this.sectionKey = section.key();
+    }
+
+    @Override
+    public void writeRow(ResultSet resultSet) throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        generator.writeStartObject();
+        generator.writeStringField("section", sectionKey);
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            generator.writeFieldName(metaData.getColumnLabel(column).toLowerCase(Locale.ROOT));
+            generator.writeObject(ExportRowWriter.exportValue(resultSet.getObject(column)));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -19,6 +19,8 @@ import site.silverbot.api.map.response.CreateRoomResponse;
 import site.silverbot.api.map.response.ElderMapResponse;
 import site.silverbot.api.map.response.RoomListResponse;
 import site.silverbot.api.map.response.RoomResponse;
+import site.silverbot.api.robot.model.RobotTelemetry;
+import site.silverbot.api.robot.service.RobotTelemetryBuffer;
 import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.elder.ElderRepository;
 import site.silverbot.domain.robot.Robot;
@@ -26,7 +28,6 @@ import site.silverbot.domain.robot.RobotRepository;
 import site.silverbot.domain.robot.Room;
 import site.silverbot.domain.robot.RoomRepository;
 import site.silverbot.domain.robot.RoomType;
-import site.silverbot.domain.user.User;
 
 @Service
 @RequiredArgsConstructor
@@ -39,10 +40,10 @@ public class MapRoomService {
     private final ElderRepository elderRepository;
     private final RobotRepository robotRepository;
     private final RoomRepository roomRepository;
+    private final RobotTelemetryBuffer robotTelemetryBuffer;
 
     public ElderMapResponse getElderMap(Long elderId) {
-        User user = currentUserService.getCurrentUser();
-        Elder elder = getOwnedElder(elderId, user);
+        Elder elder = getOwnedElder(elderId);
         Robot robot = robotRepository.findByElderId(elder.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Robot not found"));
         List<Room> rooms = roomRepository.findAllByRobotIdOrderByCreatedAtAsc(robot.getId());
@@ -57,8 +58,7 @@ public class MapRoomService {
     }
 
     public RoomListResponse getRooms(Long robotId) {
-        User user = currentUserService.getCurrentUser();
-        Robot robot = getOwnedRobot(robotId, user);
+        Robot robot = getOwnedRobot(robotId);
         List<RoomResponse> rooms = roomRepository.findAllByRobotIdOrderByCreatedAtAsc(robot.getId())
                 .stream()
                 .map(this::toRoomResponse)
@@ -68,8 +68,7 @@ public class MapRoomService {
 
     @Transactional
     public CreateRoomResponse createRoom(Long robotId, CreateRoomRequest request) {
-        User user = currentUserService.getCurrentUser();
-        Robot robot = getOwnedRobot(robotId, user);
+        Robot robot = getOwnedRobot(robotId);
 
         String roomId = resolveRoomId(robot.getId(), request.id());
         if (roomRepository.existsByRobotIdAndRoomIdIgnoreCase(robot.getId(), roomId)) {
@@ -98,8 +97,7 @@ public class MapRoomService {
 
     @Transactional
     public RoomResponse updateRoom(Long robotId, String roomId, UpdateRoomRequest request) {
-        User user = currentUserService.getCurrentUser();
-        Robot robot = getOwnedRobot(robotId, user);
+        Robot robot = getOwnedRobot(robotId);
         Room room = roomRepository.findByRobotIdAndRoomIdIgnoreCase(robot.getId(), normalizePathRoomId(roomId))
                 .orElseThrow(() -> new EntityNotFoundException("Room not found"));
 
@@ -119,29 +117,25 @@ public class MapRoomService {
 
     @Transactional
     public void deleteRoom(Long robotId, String roomId) {
-        User user = currentUserService.getCurrentUser();
-        Robot robot = getOwnedRobot(robotId, user);
+        Robot robot = getOwnedRobot(robotId);
         Room room = roomRepository.findByRobotIdAndRoomIdIgnoreCase(robot.getId(), normalizePathRoomId(roomId))
                 .orElseThrow(() -> new EntityNotFoundException("Room not found"));
         roomRepository.delete(room);
     }
 
-    private Elder getOwnedElder(Long elderId, User user) {
-        Elder elder = elderRepository.findById(elderId)
+    private Elder getOwnedElder(Long elderId) {
+        currentUserService.validateElderOwnership(elderId, "Map access denied");
+        return elderRepository.findById(elderId)
                 .orElseThrow(() -> new EntityNotFoundException("Elder not found"));
-        if (!elder.getUser().getId().equals(user.getId())) {
-            throw new AccessDeniedException("Map access denied");
-        }
-        return elder;
     }
 
-    private Robot getOwnedRobot(Long robotId, User user) {
+    private Robot getOwnedRobot(Long robotId) {
         Robot robot = robotRepository.findById(robotId)
                 .orElseThrow(() -> new EntityNotFoundException("Robot not found"));
         if (robot.getElder() == null) {
             throw new EntityNotFoundException("Robot is not assigned to elder");
         }
-        if (!robot.getElder().getUser().getId().equals(user.getId())) {
+        if (!currentUserService.isElderOwner(robot.getElder().getId())) {
             throw new AccessDeniedException("Room access denied");
         }
         return robot;
@@ -184,10 +178,11 @@ public class MapRoomService {
 
     private Coordinates resolveCoordinates(Robot robot, Float x, Float y, Boolean useCurrentLocation) {
         if (Boolean.TRUE.equals(useCurrentLocation)) {
-            if (robot.getCurrentX() == null || robot.getCurrentY() == null) {
+            RobotTelemetry telemetry = robotTelemetryBuffer.resolve(robot);
+            if (telemetry.currentX() == null || telemetry.currentY() == null) {
                 throw new IllegalArgumentException("Robot current location is unavailable");
             }
-            return new Coordinates(robot.getCurrentX(), robot.getCurrentY());
+            return new Coordinates(telemetry.currentX(), telemetry.currentY());
         }
         if (x == null || y == null) {
             throw new IllegalArgumentException("x and y are required when useCurrentLocation is false");
@@ -227,9 +222,10 @@ public class MapRoomService {
     }
 
     private ElderMapResponse.RobotPosition toRobotPosition(Robot robot, List<Room> rooms) {
-        Float x = robot.getCurrentX();
-        Float y = robot.getCurrentY();
-        String roomId = robot.getCurrentLocation();
+        RobotTelemetry telemetry = robotTelemetryBuffer.resolve(robot);
+        Float x = telemetry.currentX();
+        Float y = telemetry.currentY();
+        String roomId = telemetry.currentLocation();
 
         Room fallbackRoom = findRoom(rooms, roomId);
         if (x == null && fallbackRoom != null) {
@@ -243,7 +239,7 @@ public class MapRoomService {
                 x == null ? 0f : x,
                 y == null ? 0f : y,
                 roomId,
-                robot.getCurrentHeading()
+                telemetry.currentHeading()
         );
     }
 
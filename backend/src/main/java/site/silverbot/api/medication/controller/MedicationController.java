@@ -1,5 +1,7 @@
 package site.silverbot.api.medication.controller;
 
+import java.util.List;
+
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import site.silverbot.api.common.ApiResponse;
 import site.silverbot.api.medication.request.CreateMedicationRecordRequest;
+import site.silverbot.api.medication.request.CreateMedicationRecordsRequest;
 import site.silverbot.api.medication.request.CreateMedicationRequest;
 import site.silverbot.api.medication.request.UpdateMedicationRequest;
 import site.silverbot.api.medication.response.MedicationListResponse;
@@ -72,4 +75,12 @@ public class MedicationController {
     ) {
         return ApiResponse.success(medicationService.createMedicationRecord(elderId, request));
     }
+
+    @PostMapping("/records/bulk")
+    public ApiResponse<List<MedicationRecordResponse>> createMedicationRecords(
+            @PathVariable Long elderId,
+            @Valid @RequestBody CreateMedicationRecordsRequest request
+    ) {
+        return ApiResponse.success(medicationService.createMedicationRecords(elderId, request));
+    }
 }
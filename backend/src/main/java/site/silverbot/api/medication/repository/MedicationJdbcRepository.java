@@ -3,16 +3,27 @@ package site.silverbot.api.medication.repository;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -25,7 +36,12 @@ import site.silverbot.api.medication.model.MedicationTimeOfDay;
 @Repository
 @RequiredArgsConstructor
 public class MedicationJdbcRepository {
+    private static final int UPSERT_CHUNK_SIZE = 500;
+    private static final LocalTime DEFAULT_MORNING_TIME = LocalTime.of(8, 0);
+    private static final LocalTime DEFAULT_EVENING_TIME = LocalTime.of(19, 0);
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
 
     public Optional<MedicationData> findMedicationByIdAndElderId(Long elderId, Long medicationId) {
         String sql = """
@@ -41,6 +57,24 @@ public class MedicationJdbcRepository {
         return results.stream().findFirst();
     }
 
+    public List<MedicationData> findMedicationsByIdsAndElderId(Long elderId, Collection<Long> medicationIds) {
+        if (medicationIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                SELECT id, elder_id, name, dosage, frequency, timing, color, start_date, end_date, is_active, created_at, updated_at
+                FROM medication
+                WHERE elder_id = :elderId AND id IN (:medicationIds)
+                """;
+        return jdbcTemplate.query(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("elderId", elderId)
+                        .addValue("medicationIds", medicationIds),
+                medicationMapper()
+        );
+    }
+
     public List<MedicationData> findAllMedicationsByElderId(Long elderId) {
         String sql = """
                 SELECT id, elder_id, name, dosage, frequency, timing, color, start_date, end_date, is_active, created_at, updated_at
@@ -150,53 +184,36 @@ public class MedicationJdbcRepository {
             LocalDateTime takenAt,
             MedicationMethod method
     ) {
-        Optional<Long> existingId = findRecordId(medicationId, recordDate, timeOfDay);
-        if (existingId.isPresent()) {
-            String updateSql = """
-                    UPDATE medication_record
-                    SET status = :status,
-                        taken_at = :takenAt,
-                        method = :method
-                    WHERE id = :id
-                    """;
-            jdbcTemplate.update(
-                    updateSql,
-                    new MapSqlParameterSource()
-                            .addValue("id", existingId.get())
-                            .addValue("status", status.name())
-                            .addValue("takenAt", takenAt)
-                            .addValue("method", method.name())
-            );
-            return findRecordById(existingId.get())
-                    .orElseThrow(() -> new IllegalStateException("Updated medication record not found"));
-        }
-
-        String insertSql = """
-                INSERT INTO medication_record (elder_id, medication_id, record_date, time_of_day, status, taken_at, method, created_at)
-                VALUES (:elderId, :medicationId, :recordDate, :timeOfDay, :status, :takenAt, :method, CURRENT_TIMESTAMP)
-                """;
-        KeyHolder keyHolder = new GeneratedKeyHolder();
-        jdbcTemplate.update(
-                insertSql,
-                new MapSqlParameterSource()
-                        .addValue("elderId", elderId)
-                        .addValue("medicationId", medicationId)
-                        .addValue("recordDate", recordDate)
-                        .addValue("timeOfDay", timeOfDay.name())
-                        .addValue("status", status.name())
-                        .addValue("takenAt", takenAt)
-                        .addValue("method", method.name()),
-                keyHolder,
-                new String[]{"id"}
-        );
+        return upsertMedicationRecords(List.of(new MedicationRecordUpsert(
+                elderId,
+                medicationId,
+                recordDate,
+                timeOfDay,
+                status,
+                takenAt,
+                method
+        ))).get(0);
+    }
 
-        Number key = keyHolder.getKey();
-        if (key == null) {
-            throw new IllegalStateException("Failed to create medication record");
+    public List<MedicationRecordData> upsertMedicationRecords(List<MedicationRecordUpsert> records) {
+        if (records.isEmpty()) {
+            return List.of();
+        }
+        Map<RecordKey, MedicationRecordUpsert> latestByKey = new LinkedHashMap<>();
+        for (MedicationRecordUpsert record : records) {
+            latestByKey.put(RecordKey.of(record), record);
         }
+        List<MedicationRecordUpsert> distinctRecords = new ArrayList<>(latestByKey.values());
 
-        return findRecordById(key.longValue())
-                .orElseThrow(() -> new IllegalStateException("Created medication record not found"));
+        List<MedicationRecordData> saved = new ArrayList<>(distinctRecords.size());
+        for (int start = 0; start < distinctRecords.size(); start += UPSERT_CHUNK_SIZE) {
+            List<MedicationRecordUpsert> chunk = distinctRecords.subList(
+                    start,
+                    Math.min(start + UPSERT_CHUNK_SIZE, distinctRecords.size())
+            );
+            saved.addAll(isPostgres() ? upsertReturning(chunk) : mergeAndSelect(chunk));
+        }
+        return saved;
     }
 
     public List<MedicationRecordData> findMedicationRecords(Long elderId, LocalDate startDate, LocalDate endDate) {
@@ -217,37 +234,269 @@ public class MedicationJdbcRepository {
         );
     }
 
-    private Optional<Long> findRecordId(Long medicationId, LocalDate recordDate, MedicationTimeOfDay timeOfDay) {
+    public List<DoseCount> aggregateDoseCounts(Collection<Long> elderIds, LocalDate startDate, LocalDate endDate) {
+        if (elderIds.isEmpty() || endDate.isBefore(startDate)) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("elderIds", elderIds)
+                .addValue("startDate", startDate)
+                .addValue("endDate", endDate);
         String sql = """
-                SELECT id
-                FROM medication_record
-                WHERE medication_id = :medicationId
-                  AND record_date = :recordDate
-                  AND time_of_day = :timeOfDay
+                SELECT m.elder_id AS elder_id,
+                       days.dose_date AS dose_date,
+                       slots.time_of_day AS time_of_day,
+                       COUNT(*) AS expected_count,
+                       SUM(CASE WHEN CAST(r.status AS VARCHAR) = 'TAKEN' THEN 1 ELSE 0 END) AS taken_count,
+                       SUM(CASE WHEN CAST(r.status AS VARCHAR) = 'MISSED' THEN 1 ELSE 0 END) AS missed_count
+                FROM medication m
+                JOIN (
+                    %s
+                ) days
+                  ON (m.start_date IS NULL OR days.dose_date >= m.start_date)
+                 AND (m.end_date IS NULL OR days.dose_date <= m.end_date)
+                JOIN (
+                    SELECT 'MORNING' AS time_of_day
+                    UNION ALL
+                    SELECT 'EVENING' AS time_of_day
+                ) slots
+                  ON CAST(m.frequency AS VARCHAR) IN (slots.time_of_day, 'BOTH')
+                LEFT JOIN medication_record r
+                  ON r.medication_id = m.id
+                 AND r.record_date = days.dose_date
+                 AND CAST(r.time_of_day AS VARCHAR) = slots.time_of_day
+                WHERE m.elder_id IN (:elderIds)
+                  AND m.is_active = TRUE
+                GROUP BY m.elder_id, days.dose_date, slots.time_of_day
+                ORDER BY m.elder_id, days.dose_date, slots.time_of_day
+                """.formatted(isPostgres() ? generatedDays() : listedDays(startDate, endDate, params));
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new DoseCount(
+                rs.getLong("elder_id"),
+                rs.getObject("dose_date", LocalDate.class),
+                MedicationTimeOfDay.valueOf(rs.getString("time_of_day")),
+                rs.getInt("expected_count"),
+                rs.getInt("taken_count"),
+                rs.getInt("missed_count")
+        ));
+    }
+
+    public List<DueDose> findUnrecordedDoses(LocalDate doseDate, LocalTime fromTime, LocalTime cutoffTime) {
+        String sql = """
+                SELECT due.elder_id AS elder_id,
+                       due.user_id AS user_id,
+                       due.elder_name AS elder_name,
+                       due.medication_id AS medication_id,
+                       due.medication_name AS medication_name,
+                       due.time_of_day AS time_of_day
+                FROM (
+                    SELECT m.elder_id AS elder_id,
+                           e.user_id AS user_id,
+                           e.name AS elder_name,
+                           m.id AS medication_id,
+                           m.name AS medication_name,
+                           m.created_at AS created_at,
+                           slots.time_of_day AS time_of_day,
+                           CASE
+                               WHEN slots.time_of_day = 'MORNING'
+                                   THEN COALESCE(r.morning_medication_time, CAST(:defaultMorningTime AS TIME))
+                               ELSE COALESCE(r.evening_medication_time, CAST(:defaultEveningTime AS TIME))
+                           END AS slot_time
+                    FROM medication m
+                    JOIN elder e ON e.id = m.elder_id
+                    LEFT JOIN robot r ON r.elder_id = m.elder_id
+                    JOIN (
+                        SELECT 'MORNING' AS time_of_day
+                        UNION ALL
+                        SELECT 'EVENING' AS time_of_day
+                    ) slots
+                      ON CAST(m.frequency AS VARCHAR) IN (slots.time_of_day, 'BOTH')
+                    WHERE m.is_active = TRUE
+                      AND (m.start_date IS NULL OR m.start_date <= :doseDate)
+                      AND (m.end_date IS NULL OR m.end_date >= :doseDate)
+                ) due
+                WHERE due.slot_time >= CAST(:fromTime AS TIME)
+                  AND due.slot_time <= CAST(:cutoffTime AS TIME)
+                  AND (
+                      CAST(due.created_at AS DATE) < :doseDate
+                      OR (CAST(due.created_at AS DATE) = :doseDate AND CAST(due.created_at AS TIME) <= due.slot_time)
+                  )
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM medication_record rec
+                      WHERE rec.medication_id = due.medication_id
+                        AND rec.record_date = :doseDate
+                        AND CAST(rec.time_of_day AS VARCHAR) = due.time_of_day
+                  )
+                ORDER BY due.elder_id, due.medication_id
                 """;
-        List<Long> ids = jdbcTemplate.query(
-                sql,
-                new MapSqlParameterSource()
-                        .addValue("medicationId", medicationId)
-                        .addValue("recordDate", recordDate)
-                        .addValue("timeOfDay", timeOfDay.name()),
-                (rs, rowNum) -> rs.getLong("id")
-        );
-        return ids.stream().findFirst();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("doseDate", doseDate, Types.DATE)
+                .addValue("fromTime", fromTime, Types.TIME)
+                .addValue("cutoffTime", cutoffTime, Types.TIME)
+                .addValue("defaultMorningTime", DEFAULT_MORNING_TIME, Types.TIME)
+                .addValue("defaultEveningTime", DEFAULT_EVENING_TIME, Types.TIME);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new DueDose(
+                rs.getLong("elder_id"),
+                rs.getLong("user_id"),
+                rs.getString("elder_name"),
+                rs.getLong("medication_id"),
+                rs.getString("medication_name"),
+                doseDate,
+                MedicationTimeOfDay.valueOf(rs.getString("time_of_day"))
+        ));
+    }
+
+    public List<DueDose> insertMissedRecords(List<DueDose> doses) {
+        String sql = isPostgres() ? """
+                INSERT INTO medication_record (elder_id, medication_id, record_date, time_of_day, status, taken_at, method, created_at)
+                VALUES (:elderId, :medicationId, :recordDate, CAST(:timeOfDay AS medication_time_of_day),
+                        CAST(:status AS medication_record_status), NULL, NULL, CURRENT_TIMESTAMP)
+                ON CONFLICT (medication_id, record_date, time_of_day) DO NOTHING
+                """ : """
+                INSERT INTO medication_record (elder_id, medication_id, record_date, time_of_day, status, taken_at, method, created_at)
+                SELECT :elderId, :medicationId, CAST(:recordDate AS DATE), :timeOfDay, :status, NULL, NULL, CURRENT_TIMESTAMP
+                WHERE NOT EXISTS (
+                    SELECT 1
+                    FROM medication_record
+                    WHERE medication_id = :medicationId
+                      AND record_date = :recordDate
+                      AND time_of_day = :timeOfDay
+                )
+                """;
+        List<DueDose> inserted = new ArrayList<>();
+        for (int from = 0; from < doses.size(); from += UPSERT_CHUNK_SIZE) {
+            List<DueDose> chunk = doses.subList(from, Math.min(from + UPSERT_CHUNK_SIZE, doses.size()));
+            SqlParameterSource[] batch = chunk.stream()
+                    .map(dose -> new MapSqlParameterSource()
+                            .addValue("elderId", dose.elderId())
+                            .addValue("medicationId", dose.medicationId())
+                            .addValue("recordDate", dose.doseDate(), Types.DATE)
+                            .addValue("timeOfDay", dose.timeOfDay().name())
+                            .addValue("status", MedicationStatus.MISSED.name()))
+                    .toArray(SqlParameterSource[]::new);
+            int[] counts = jdbcTemplate.batchUpdate(sql, batch);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    inserted.add(chunk.get(i));
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private String generatedDays() {
+        return """
+                SELECT CAST(series.dose_day AS DATE) AS dose_date
+                    FROM generate_series(CAST(:startDate AS DATE), CAST(:endDate AS DATE), INTERVAL '1 day') AS series(dose_day)
+                """.strip();
+    }
+
+    private String listedDays(LocalDate startDate, LocalDate endDate, MapSqlParameterSource params) {
+        StringJoiner days = new StringJoiner("\n                    UNION ALL\n                    ");
+        LocalDate cursor = startDate;
+        for (int i = 0; !cursor.isAfter(endDate); i++) {
+            params.addValue("day" + i, cursor);
+            days.add("SELECT CAST(:day" + i + " AS DATE) AS dose_date");
+            cursor = cursor.plusDays(1);
+        }
+        return days.toString();
+    }
+
+    private List<MedicationRecordData> upsertReturning(List<MedicationRecordUpsert> records) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < records.size(); i++) {
+            MedicationRecordUpsert record = records.get(i);
+            values.add("(:elderId" + i + ", :medicationId" + i + ", :recordDate" + i
+                    + ", CAST(:timeOfDay" + i + " AS medication_time_of_day)"
+                    + ", CAST(:status" + i + " AS medication_record_status)"
+                    + ", :takenAt" + i
+                    + ", CAST(:method" + i + " AS medication_record_method), CURRENT_TIMESTAMP)");
+            addRecordParams(params, record, String.valueOf(i));
+        }
+        String sql = """
+                INSERT INTO medication_record (elder_id, medication_id, record_date, time_of_day, status, taken_at, method, created_at)
+                VALUES %s
+                ON CONFLICT (medication_id, record_date, time_of_day) DO UPDATE
+                SET status = EXCLUDED.status,
+                    taken_at = EXCLUDED.taken_at,
+                    method = EXCLUDED.method
+                RETURNING id, elder_id, medication_id, record_date, time_of_day, status, taken_at, method, created_at
+                """.formatted(values);
+        return jdbcTemplate.query(sql, params, medicationRecordMapper());
     }
 
-    private Optional<MedicationRecordData> findRecordById(Long id) {
+    private List<MedicationRecordData> mergeAndSelect(List<MedicationRecordUpsert> records) {
         String sql = """
+                MERGE INTO medication_record existing
+                USING (VALUES (:elderId, :medicationId, CAST(:recordDate AS DATE), :timeOfDay, :status, CAST(:takenAt AS TIMESTAMP), :method))
+                    AS incoming (elder_id, medication_id, record_date, time_of_day, status, taken_at, method)
+                ON existing.medication_id = incoming.medication_id
+                    AND existing.record_date = incoming.record_date
+                    AND existing.time_of_day = incoming.time_of_day
+                WHEN MATCHED THEN
+                    UPDATE SET status = incoming.status,
+                               taken_at = incoming.taken_at,
+                               method = incoming.method
+                WHEN NOT MATCHED THEN
+                    INSERT (elder_id, medication_id, record_date, time_of_day, status, taken_at, method, created_at)
+                    VALUES (incoming.elder_id, incoming.medication_id, incoming.record_date, incoming.time_of_day,
+                            incoming.status, incoming.taken_at, incoming.method, CURRENT_TIMESTAMP)
+                """;
+        SqlParameterSource[] batch = records.stream()
+                .map(record -> addRecordParams(new MapSqlParameterSource(), record, ""))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, batch);
+
+        Set<Long> medicationIds = records.stream()
+                .map(MedicationRecordUpsert::medicationId)
+                .collect(Collectors.toSet());
+        Set<LocalDate> recordDates = records.stream()
+                .map(MedicationRecordUpsert::recordDate)
+                .collect(Collectors.toSet());
+        String selectSql = """
                 SELECT id, elder_id, medication_id, record_date, time_of_day, status, taken_at, method, created_at
                 FROM medication_record
-                WHERE id = :id
+                WHERE medication_id IN (:medicationIds)
+                  AND record_date IN (:recordDates)
                 """;
-        List<MedicationRecordData> rows = jdbcTemplate.query(
-                sql,
-                Map.of("id", id),
-                medicationRecordMapper()
-        );
-        return rows.stream().findFirst();
+        Map<RecordKey, MedicationRecordData> savedByKey = jdbcTemplate.query(
+                        selectSql,
+                        new MapSqlParameterSource()
+                                .addValue("medicationIds", medicationIds)
+                                .addValue("recordDates", recordDates),
+                        medicationRecordMapper()
+                ).stream()
+                .collect(Collectors.toMap(RecordKey::of, Function.identity()));
+        return records.stream()
+                .map(record -> Optional.ofNullable(savedByKey.get(RecordKey.of(record)))
+                        .orElseThrow(() -> new IllegalStateException("Upserted medication record not found")))
+                .toList();
+    }
+
+    private MapSqlParameterSource addRecordParams(
+            MapSqlParameterSource params,
+            MedicationRecordUpsert record,
+            String suffix
+    ) {
+        return params
+                .addValue("elderId" + suffix, record.elderId())
+                .addValue("medicationId" + suffix, record.medicationId())
+                .addValue("recordDate" + suffix, record.recordDate(), Types.DATE)
+                .addValue("timeOfDay" + suffix, record.timeOfDay().name())
+                .addValue("status" + suffix, record.status().name())
+                .addValue("takenAt" + suffix, record.takenAt(), Types.TIMESTAMP)
+                .addValue("method" + suffix, record.method() == null ? null : record.method().name(), Types.VARCHAR);
+    }
+
+    private boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            cached = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = cached;
+        }
+        return Boolean.TRUE.equals(cached);
     }
 
     private RowMapper<MedicationData> medicationMapper() {
@@ -276,7 +525,7 @@ public class MedicationJdbcRepository {
                 MedicationTimeOfDay.valueOf(rs.getString("time_of_day")),
                 MedicationStatus.valueOf(rs.getString("status")),
                 getLocalDateTime(rs, "taken_at"),
-                MedicationMethod.valueOf(rs.getString("method")),
+                rs.getString("method") == null ? null : MedicationMethod.valueOf(rs.getString("method")),
                 getLocalDateTime(rs, "created_at")
         );
     }
@@ -302,6 +551,48 @@ public class MedicationJdbcRepository {
     ) {
     }
 
+    public record MedicationRecordUpsert(
+            Long elderId,
+            Long medicationId,
+            LocalDate recordDate,
+            MedicationTimeOfDay timeOfDay,
+            MedicationStatus status,
+            LocalDateTime takenAt,
+            MedicationMethod method
+    ) {
+    }
+
+    private record RecordKey(Long medicationId, LocalDate recordDate, MedicationTimeOfDay timeOfDay) {
+        private static RecordKey of(MedicationRecordUpsert record) {
+            return new RecordKey(record.medicationId(), record.recordDate(), record.timeOfDay());
+        }
+
+        private static RecordKey of(MedicationRecordData record) {
+            return new RecordKey(record.medicationId(), record.recordDate(), record.timeOfDay());
+        }
+    }
+
+    public record DoseCount(
+            Long elderId,
+            LocalDate doseDate,
+            MedicationTimeOfDay timeOfDay,
+            int expected,
+            int taken,
+            int missed
+    ) {
+    }
+
+    public record DueDose(
+            Long elderId,
+            Long userId,
+            String elderName,
+            Long medicationId,
+            String medicationName,
+            LocalDate doseDate,
+            MedicationTimeOfDay timeOfDay
+    ) {
+    }
+
     public record MedicationRecordData(
             Long id,
             Long elderId,
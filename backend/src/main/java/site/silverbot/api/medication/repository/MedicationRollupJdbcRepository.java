@@ -0,0 +1,178 @@
+package site.silverbot.api.medication.repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class MedicationRollupJdbcRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public List<DailyRollup> findRollups(Collection<Long> elderIds, LocalDate startDate, LocalDate endDate) {
+        if (elderIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                SELECT elder_id, rollup_date, morning_expected, morning_taken, morning_missed,
+                       evening_expected, evening_taken, evening_missed
+                FROM medication_daily_rollup
+                WHERE elder_id IN (:elderIds)
+                  AND rollup_date BETWEEN :startDate AND :endDate
+                ORDER BY elder_id, rollup_date
+                """;
+        return jdbcTemplate.query(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("elderIds", elderIds)
+                        .addValue("startDate", startDate)
+                        .addValue("endDate", endDate),
+                rollupMapper()
+        );
+    }
+
+    public Optional<DateRange> findRollupRange(Long elderId, LocalDate startDate, LocalDate endDate) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT MIN(rollup_date) AS first_date, MAX(rollup_date) AS last_date
+                FROM medication_daily_rollup
+                WHERE elder_id = :elderId
+                """);
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("elderId", elderId);
+        if (startDate != null) {
+            sql.append("  AND rollup_date >= :startDate\n");
+            params.addValue("startDate", startDate);
+        }
+        if (endDate != null) {
+            sql.append("  AND rollup_date <= :endDate\n");
+            params.addValue("endDate", endDate);
+        }
+        DateRange range = jdbcTemplate.queryForObject(sql.toString(), params, (rs, rowNum) -> new DateRange(
+                rs.getObject("first_date", LocalDate.class),
+                rs.getObject("last_date", LocalDate.class)
+        ));
+        return Optional.ofNullable(range).filter(found -> found.startDate() != null);
+    }
+
+    public void lockElders(Collection<Long> elderIds) {
+        if (elderIds.isEmpty()) {
+            return;
+        }
+        String sql = """
+                SELECT id
+                FROM elder
+                WHERE id IN (:elderIds)
+                ORDER BY id
+                """ + (isPostgres() ? "FOR NO KEY UPDATE" : "FOR UPDATE");
+        jdbcTemplate.queryForList(sql, new MapSqlParameterSource("elderIds", elderIds), Long.class);
+    }
+
+    public int[] upsertRollups(List<DailyRollup> rollups, LocalDateTime now) {
+        if (rollups.isEmpty()) {
+            return new int[0];
+        }
+        String sql = isPostgres() ? """
+                INSERT INTO medication_daily_rollup (
+                    elder_id, rollup_date, morning_expected, morning_taken, morning_missed,
+                    evening_expected, evening_taken, evening_missed, updated_at
+                )
+                VALUES (:elderId, :rollupDate, :morningExpected, :morningTaken, :morningMissed,
+                        :eveningExpected, :eveningTaken, :eveningMissed, :now)
+                ON CONFLICT (elder_id, rollup_date) DO UPDATE
+                SET morning_expected = EXCLUDED.morning_expected,
+                    morning_taken = EXCLUDED.morning_taken,
+                    morning_missed = EXCLUDED.morning_missed,
+                    evening_expected = EXCLUDED.evening_expected,
+                    evening_taken = EXCLUDED.evening_taken,
+                    evening_missed = EXCLUDED.evening_missed,
+                    updated_at = EXCLUDED.updated_at
+                """ : """
+                MERGE INTO medication_daily_rollup existing
+                USING (VALUES (:elderId, CAST(:rollupDate AS DATE), :morningExpected, :morningTaken, :morningMissed,
+                               :eveningExpected, :eveningTaken, :eveningMissed, CAST(:now AS TIMESTAMP)))
+                    AS incoming (elder_id, rollup_date, morning_expected, morning_taken, morning_missed,
+                                 evening_expected, evening_taken, evening_missed, updated_at)
+                ON existing.elder_id = incoming.elder_id
+                    AND existing.rollup_date = incoming.rollup_date
+                WHEN MATCHED THEN
+                    UPDATE SET morning_expected = incoming.morning_expected,
+                               morning_taken = incoming.morning_taken,
+                               morning_missed = incoming.morning_missed,
+                               evening_expected = incoming.evening_expected,
+                               evening_taken = incoming.evening_taken,
+                               evening_missed = incoming.evening_missed,
+                               updated_at = incoming.updated_at
+                WHEN NOT MATCHED THEN
+                    INSERT (elder_id, rollup_date, morning_expected, morning_taken, morning_missed,
+                            evening_expected, evening_taken, evening_missed, updated_at)
+                    VALUES (incoming.elder_id, incoming.rollup_date, incoming.morning_expected, incoming.morning_taken,
+                            incoming.morning_missed, incoming.evening_expected, incoming.evening_taken,
+                            incoming.evening_missed, incoming.updated_at)
+                """;
+        SqlParameterSource[] batch = rollups.stream()
+                .map(rollup -> new MapSqlParameterSource()
+                        .addValue("elderId", rollup.elderId())
+                        .addValue("rollupDate", rollup.rollupDate(), Types.DATE)
+                        .addValue("morningExpected", rollup.morningExpected())
+                        .addValue("morningTaken", rollup.morningTaken())
+                        .addValue("morningMissed", rollup.morningMissed())
+                        .addValue("eveningExpected", rollup.eveningExpected())
+                        .addValue("eveningTaken", rollup.eveningTaken())
+                        .addValue("eveningMissed", rollup.eveningMissed())
+                        .addValue("now", now, Types.TIMESTAMP))
+                .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    private boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            cached = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = cached;
+        }
+        return Boolean.TRUE.equals(cached);
+    }
+
+    private RowMapper<DailyRollup> rollupMapper() {
+        return (rs, rowNum) -> new DailyRollup(
+                rs.getLong("elder_id"),
+                rs.getObject("rollup_date", LocalDate.class),
+                rs.getInt("morning_expected"),
+                rs.getInt("morning_taken"),
+                rs.getInt("morning_missed"),
+                rs.getInt("evening_expected"),
+                rs.getInt("evening_taken"),
+                rs.getInt("evening_missed")
+        );
+    }
+
+    public record DailyRollup(
+            Long elderId,
+            LocalDate rollupDate,
+            int morningExpected,
+            int morningTaken,
+            int morningMissed,
+            int eveningExpected,
+            int eveningTaken,
+            int eveningMissed
+    ) {
+    }
+
+    public record DateRange(
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+    }
+}
@@ -0,0 +1,14 @@
+package site.silverbot.api.medication.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record CreateMedicationRecordsRequest(
+        @NotEmpty
+        @Size(max = 100)
+        List<@Valid CreateMedicationRecordRequest> records
+) {
+}
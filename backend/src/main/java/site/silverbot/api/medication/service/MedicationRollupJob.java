@@ -0,0 +1,79 @@
+package site.silverbot.api.medication.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import site.silverbot.domain.elder.ElderRepository;
+
+@Slf4j
+@Component
+public class MedicationRollupJob implements ApplicationRunner {
+    private final MedicationRollupService medicationRollupService;
+    private final ElderRepository elderRepository;
+    private final int chunkSize;
+    private final boolean backfillEnabled;
+    private final String backfillFrom;
+    private final String backfillTo;
+
+    public MedicationRollupJob(
+            MedicationRollupService medicationRollupService,
+            ElderRepository elderRepository,
+            @Value("${app.medication.rollup.chunk-size:200}") int chunkSize,
+            @Value("${app.medication.rollup.backfill.enabled:false}") boolean backfillEnabled,
+            @Value("${app.medication.rollup.backfill.from:}") String backfillFrom,
+            @Value("${app.medication.rollup.backfill.to:}") String backfillTo
+    ) {
+        this.medicationRollupService = medicationRollupService;
+        this.elderRepository = elderRepository;
+        this.chunkSize = chunkSize;
+        this.backfillEnabled = backfillEnabled;
+        this.backfillFrom = backfillFrom;
+        this.backfillTo = backfillTo;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!backfillEnabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate startDate = StringUtils.hasText(backfillFrom) ? LocalDate.parse(backfillFrom) : today.minusYears(1);
+        LocalDate endDate = StringUtils.hasText(backfillTo) ? LocalDate.parse(backfillTo) : horizonEnd(today);
+        rebuild(startDate, endDate);
+    }
+
+    public long rollForward() {
+        LocalDate today = LocalDate.now();
+        return rebuild(today.with(DayOfWeek.MONDAY), horizonEnd(today));
+    }
+
+    public long rebuild(LocalDate startDate, LocalDate endDate) {
+        long startedAt = System.nanoTime();
+        long rows = 0;
+        long elders = 0;
+        long cursor = 0;
+        while (true) {
+            List<Long> elderIds = elderRepository.findIdsAfter(cursor, PageRequest.of(0, chunkSize));
+            if (elderIds.isEmpty()) {
+                break;
+            }
+            rows += medicationRollupService.refresh(elderIds, startDate, endDate);
+            elders += elderIds.size();
+            cursor = elderIds.get(elderIds.size() - 1);
+        }
+        log.info("Rebuilt medication rollups for {} elders ({} rows, {} ~ {}) in {} ms",
+                elders, rows, startDate, endDate, (System.nanoTime() - startedAt) / 1_000_000);
+        return rows;
+    }
+
+    private LocalDate horizonEnd(LocalDate today) {
+        return today.with(DayOfWeek.SUNDAY).plusWeeks(1);
+    }
+}
@@ -0,0 +1,151 @@
+package site.silverbot.api.medication.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import site.silverbot.api.medication.model.MedicationTimeOfDay;
+import site.silverbot.api.medication.repository.MedicationJdbcRepository;
+import site.silverbot.api.medication.repository.MedicationJdbcRepository.DoseCount;
+import site.silverbot.api.medication.repository.MedicationRollupJdbcRepository;
+import site.silverbot.api.medication.repository.MedicationRollupJdbcRepository.DailyRollup;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MedicationRollupService {
+    private final MedicationJdbcRepository medicationJdbcRepository;
+    private final MedicationRollupJdbcRepository medicationRollupJdbcRepository;
+
+    @Transactional(readOnly = true)
+    public List<DoseCount> findDoseCounts(Collection<Long> elderIds, LocalDate startDate, LocalDate endDate) {
+        if (elderIds.isEmpty() || endDate.isBefore(startDate)) {
+            return List.of();
+        }
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        Map<Long, List<DailyRollup>> rollupsByElderId = new HashMap<>();
+        for (DailyRollup rollup : medicationRollupJdbcRepository.findRollups(elderIds, startDate, endDate)) {
+            rollupsByElderId.computeIfAbsent(rollup.elderId(), ignored -> new ArrayList<>()).add(rollup);
+        }
+
+        List<DoseCount> counts = new ArrayList<>();
+        Set<Long> uncovered = new LinkedHashSet<>();
+        for (Long elderId : elderIds) {
+            List<DailyRollup> rollups = rollupsByElderId.getOrDefault(elderId, List.of());
+            if (rollups.size() < days) {
+                uncovered.add(elderId);
+                continue;
+            }
+            for (DailyRollup rollup : rollups) {
+                addDoseCounts(counts, rollup);
+            }
+        }
+        if (!uncovered.isEmpty()) {
+            counts.addAll(medicationJdbcRepository.aggregateDoseCounts(uncovered, startDate, endDate));
+        }
+        return counts;
+    }
+
+    public int refresh(Collection<Long> elderIds, LocalDate startDate, LocalDate endDate) {
+        if (elderIds.isEmpty() || endDate.isBefore(startDate)) {
+            return 0;
+        }
+        medicationRollupJdbcRepository.lockElders(elderIds);
+        List<DailyRollup> rollups = buildRollups(elderIds, startDate, endDate);
+        medicationRollupJdbcRepository.upsertRollups(rollups, LocalDateTime.now());
+        return rollups.size();
+    }
+
+    public void recordsChanged(Collection<MedicationJdbcRepository.MedicationRecordUpsert> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Map<Long, Set<LocalDate>> datesByElderId = new HashMap<>();
+        LocalDate startDate = LocalDate.MAX;
+        LocalDate endDate = LocalDate.MIN;
+        for (MedicationJdbcRepository.MedicationRecordUpsert record : records) {
+            datesByElderId.computeIfAbsent(record.elderId(), ignored -> new HashSet<>()).add(record.recordDate());
+            startDate = record.recordDate().isBefore(startDate) ? record.recordDate() : startDate;
+            endDate = record.recordDate().isAfter(endDate) ? record.recordDate() : endDate;
+        }
+
+        medicationRollupJdbcRepository.lockElders(datesByElderId.keySet());
+        List<DailyRollup> changed = buildRollups(datesByElderId.keySet(), startDate, endDate).stream()
+                .filter(rollup -> datesByElderId.get(rollup.elderId()).contains(rollup.rollupDate()))
+                .toList();
+        medicationRollupJdbcRepository.upsertRollups(changed, LocalDateTime.now());
+    }
+
+    public void medicationChanged(Long elderId, LocalDate startDate, LocalDate endDate) {
+        medicationRollupJdbcRepository.findRollupRange(elderId, startDate, endDate)
+                .ifPresent(range -> refresh(List.of(elderId), range.startDate(), range.endDate()));
+    }
+
+    private List<DailyRollup> buildRollups(Collection<Long> elderIds, LocalDate startDate, LocalDate endDate) {
+        Map<Long, Map<LocalDate, Map<MedicationTimeOfDay, DoseCount>>> indexed = new HashMap<>();
+        for (DoseCount count : medicationJdbcRepository.aggregateDoseCounts(elderIds, startDate, endDate)) {
+            indexed.computeIfAbsent(count.elderId(), ignored -> new HashMap<>())
+                    .computeIfAbsent(count.doseDate(), ignored -> new EnumMap<>(MedicationTimeOfDay.class))
+                    .put(count.timeOfDay(), count);
+        }
+
+        List<DailyRollup> rollups = new ArrayList<>();
+        for (Long elderId : elderIds) {
+            Map<LocalDate, Map<MedicationTimeOfDay, DoseCount>> byDate = indexed.getOrDefault(elderId, Map.of());
+            LocalDate cursor = startDate;
+            while (!cursor.isAfter(endDate)) {
+                Map<MedicationTimeOfDay, DoseCount> byTime = byDate.getOrDefault(cursor, Map.of());
+                DoseCount morning = byTime.get(MedicationTimeOfDay.MORNING);
+                DoseCount evening = byTime.get(MedicationTimeOfDay.EVENING);
+                rollups.add(new DailyRollup(
+                        elderId,
+                        cursor,
+                        morning == null ? 0 : morning.expected(),
+                        morning == null ? 0 : morning.taken(),
+                        morning == null ? 0 : morning.missed(),
+                        evening == null ? 0 : evening.expected(),
+                        evening == null ? 0 : evening.taken(),
+                        evening == null ? 0 : evening.missed()
+                ));
+                cursor = cursor.plusDays(1);
+            }
+        }
+        return rollups;
+    }
+
+    private void addDoseCounts(List<DoseCount> counts, DailyRollup rollup) {
+        if (rollup.morningExpected() > 0) {
+            counts.add(new DoseCount(
+                    rollup.elderId(),
+                    rollup.rollupDate(),
+                    MedicationTimeOfDay.MORNING,
+                    rollup.morningExpected(),
+                    rollup.morningTaken(),
+                    rollup.morningMissed()
+            ));
+        }
+        if (rollup.eveningExpected() > 0) {
+            counts.add(new DoseCount(
+                    rollup.elderId(),
+                    rollup.rollupDate(),
+                    MedicationTimeOfDay.EVENING,
+                    rollup.eveningExpected(),
+                    rollup.eveningTaken(),
+                    rollup.eveningMissed()
+            ));
+        }
+    }
+}
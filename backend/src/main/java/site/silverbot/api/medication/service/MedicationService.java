@@ -9,7 +9,6 @@ import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,6 +16,7 @@ import java.util.Set;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -25,11 +25,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
 import site.silverbot.api.medication.model.MedicationFrequency;
 import site.silverbot.api.medication.model.MedicationStatus;
 import site.silverbot.api.medication.model.MedicationTimeOfDay;
 import site.silverbot.api.medication.repository.MedicationJdbcRepository;
 import site.silverbot.api.medication.request.CreateMedicationRecordRequest;
+import site.silverbot.api.medication.request.CreateMedicationRecordsRequest;
 import site.silverbot.api.medication.request.CreateMedicationRequest;
 import site.silverbot.api.medication.request.UpdateMedicationRequest;
 import site.silverbot.api.medication.response.DailyMedicationStatusResponse;
@@ -38,6 +41,7 @@ import site.silverbot.api.medication.response.MedicationListResponse;
 import site.silverbot.api.medication.response.MedicationRecordResponse;
 import site.silverbot.api.medication.response.MedicationResponse;
 import site.silverbot.api.medication.response.WeeklyMedicationStatusResponse;
+import site.silverbot.api.robot.service.RobotTelemetryBuffer;
 import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.elder.ElderRepository;
 import site.silverbot.domain.robot.Robot;
@@ -53,6 +57,9 @@ public class MedicationService {
     private final UserRepository userRepository;
     private final RobotRepository robotRepository;
     private final MedicationJdbcRepository medicationJdbcRepository;
+    private final MedicationRollupService medicationRollupService;
+    private final RobotTelemetryBuffer robotTelemetryBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MedicationResponse createMedication(Long elderId, CreateMedicationRequest request) {
         Elder elder = getOwnedElder(elderId);
@@ -69,6 +76,8 @@ public class MedicationService {
                 request.endDate(),
                 true
         );
+        medicationRollupService.medicationChanged(elder.getId(), created.startDate(), created.endDate());
+        publishMedicationChanged(elder.getId());
         return toResponse(created);
     }
 
@@ -86,19 +95,11 @@ public class MedicationService {
         LocalDate weekStart = today.with(DayOfWeek.MONDAY);
         LocalDate weekEnd = weekStart.plusDays(6);
 
-        List<MedicationJdbcRepository.MedicationRecordData> weeklyRecords = medicationJdbcRepository
-                .findMedicationRecords(elderId, weekStart, weekEnd);
+        List<MedicationJdbcRepository.DoseCount> weeklyDoseCounts = medicationRollupService
+                .findDoseCounts(List.of(elderId), weekStart, weekEnd);
 
-        Set<Long> activeMedicationIds = activeMedications.stream()
-                .map(MedicationJdbcRepository.MedicationData::id)
-                .collect(HashSet::new, HashSet::add, HashSet::addAll);
-
-        Map<DoseKey, MedicationStatus> recordStatusMap = indexRecordsByDose(weeklyRecords, activeMedicationIds);
-        List<DoseKey> weeklyExpectedDoses = buildExpectedDoses(activeMedications, weekStart, weekEnd);
-
-        WeeklyMedicationStatusResponse weeklyStatus = buildWeeklyStatus(recordStatusMap, weeklyExpectedDoses, today);
-        List<DailyMedicationStatusResponse> dailyStatuses = buildDailyStatuses(recordStatusMap, weeklyExpectedDoses, today,
-                weekStart, weekEnd);
+        WeeklyMedicationStatusResponse weeklyStatus = buildWeeklyStatus(weeklyDoseCounts, today);
+        List<DailyMedicationStatusResponse> dailyStatuses = buildDailyStatuses(weeklyDoseCounts, today, weekStart, weekEnd);
         DispenserStatusResponse dispenserStatus = buildDispenserStatus(elderId, activeMedications);
 
         List<MedicationResponse> medicationResponses = medications.stream().map(this::toResponse).toList();
@@ -149,67 +150,109 @@ public class MedicationService {
                 )
         );
 
+        medicationRollupService.medicationChanged(
+                elderId,
+                earlier(medication.startDate(), updated.startDate()),
+                later(medication.endDate(), updated.endDate())
+        );
+        publishMedicationChanged(elderId);
         return toResponse(updated);
     }
 
     public void deleteMedication(Long elderId, Long medicationId) {
         getOwnedElder(elderId);
-        medicationJdbcRepository.findMedicationByIdAndElderId(elderId, medicationId)
+        MedicationJdbcRepository.MedicationData medication = medicationJdbcRepository
+                .findMedicationByIdAndElderId(elderId, medicationId)
                 .orElseThrow(() -> new EntityNotFoundException("Medication not found"));
         medicationJdbcRepository.deleteMedication(elderId, medicationId);
+        medicationRollupService.medicationChanged(elderId, medication.startDate(), medication.endDate());
+        publishMedicationChanged(elderId);
     }
 
     public MedicationRecordResponse createMedicationRecord(Long elderId, CreateMedicationRecordRequest request) {
+        return saveMedicationRecords(elderId, List.of(request)).get(0);
+    }
+
+    public List<MedicationRecordResponse> createMedicationRecords(Long elderId, CreateMedicationRecordsRequest request) {
+        return saveMedicationRecords(elderId, request.records());
+    }
+
+    private List<MedicationRecordResponse> saveMedicationRecords(
+            Long elderId,
+            List<CreateMedicationRecordRequest> requests
+    ) {
         getOwnedElder(elderId);
 
-        if (request.status() == MedicationStatus.PENDING) {
-            throw new IllegalArgumentException("PENDING cannot be persisted as a medication record");
+        Set<Long> medicationIds = new HashSet<>();
+        for (CreateMedicationRecordRequest request : requests) {
+            if (request.status() == MedicationStatus.PENDING) {
+                throw new IllegalArgumentException("PENDING cannot be persisted as a medication record");
+            }
+            medicationIds.add(request.medicationId());
         }
 
-        MedicationJdbcRepository.MedicationData medication = medicationJdbcRepository
-                .findMedicationByIdAndElderId(elderId, request.medicationId())
-                .orElseThrow(() -> new EntityNotFoundException("Medication not found"));
+        Map<Long, MedicationJdbcRepository.MedicationData> medications = new HashMap<>();
+        for (MedicationJdbcRepository.MedicationData medication
+                : medicationJdbcRepository.findMedicationsByIdsAndElderId(elderId, medicationIds)) {
+            medications.put(medication.id(), medication);
+        }
+
+        List<MedicationJdbcRepository.MedicationRecordUpsert> upserts = new ArrayList<>();
+        Set<RecordKey> recordKeys = new HashSet<>();
+        for (CreateMedicationRecordRequest request : requests) {
+            MedicationJdbcRepository.MedicationData medication = medications.get(request.medicationId());
+            if (medication == null) {
+                throw new EntityNotFoundException("Medication not found");
+            }
+
+            LocalDateTime takenAt = request.takenAt() == null ? LocalDateTime.now() : request.takenAt().toLocalDateTime();
+            MedicationTimeOfDay timeOfDay = request.timeOfDay() == null
+                    ? MedicationTimeOfDay.from(takenAt)
+                    : request.timeOfDay();
 
-        LocalDateTime takenAt = request.takenAt() == null ? LocalDateTime.now() : request.takenAt().toLocalDateTime();
-        MedicationTimeOfDay timeOfDay = request.timeOfDay() == null
-                ? MedicationTimeOfDay.from(takenAt)
-                : request.timeOfDay();
+            if (!medication.frequency().includes(timeOfDay)) {
+                throw new IllegalArgumentException("Medication frequency does not match record time-of-day");
+            }
+            if (!recordKeys.add(new RecordKey(medication.id(), takenAt.toLocalDate(), timeOfDay))) {
+                throw new IllegalArgumentException("Duplicate medication record for the same dose");
+            }
 
-        if (!medication.frequency().includes(timeOfDay)) {
-            throw new IllegalArgumentException("Medication frequency does not match record time-of-day");
+            upserts.add(new MedicationJdbcRepository.MedicationRecordUpsert(
+                    elderId,
+                    medication.id(),
+                    takenAt.toLocalDate(),
+                    timeOfDay,
+                    request.status(),
+                    takenAt,
+                    request.method()
+            ));
         }
 
-        MedicationJdbcRepository.MedicationRecordData saved = medicationJdbcRepository.upsertMedicationRecord(
-                elderId,
-                medication.id(),
-                takenAt.toLocalDate(),
-                timeOfDay,
-                request.status(),
-                takenAt,
-                request.method()
-        );
+        List<MedicationRecordResponse> saved = medicationJdbcRepository.upsertMedicationRecords(upserts).stream()
+                .map(this::toRecordResponse)
+                .toList();
+        medicationRollupService.recordsChanged(upserts);
+        publishMedicationChanged(elderId);
+        return saved;
+    }
 
-        return toRecordResponse(saved);
+    private void publishMedicationChanged(Long elderId) {
+        eventPublisher.publishEvent(DashboardChangedEvent.forElder(elderId, DashboardSection.MEDICATION));
     }
 
     private WeeklyMedicationStatusResponse buildWeeklyStatus(
-            Map<DoseKey, MedicationStatus> recordStatusMap,
-            List<DoseKey> expectedDoses,
+            List<MedicationJdbcRepository.DoseCount> doseCounts,
             LocalDate today
     ) {
         int taken = 0;
         int missed = 0;
 
-        for (DoseKey key : expectedDoses) {
-            if (key.date().isAfter(today)) {
+        for (MedicationJdbcRepository.DoseCount count : doseCounts) {
+            if (count.doseDate().isAfter(today)) {
                 continue;
             }
-            MedicationStatus status = recordStatusMap.get(key);
-            if (status == MedicationStatus.TAKEN) {
-                taken++;
-            } else {
-                missed++;
-            }
+            taken += count.taken();
+            missed += count.expected() - count.taken();
         }
 
         int total = taken + missed;
@@ -218,72 +261,42 @@ public class MedicationService {
     }
 
     private List<DailyMedicationStatusResponse> buildDailyStatuses(
-            Map<DoseKey, MedicationStatus> recordStatusMap,
-            List<DoseKey> expectedDoses,
+            List<MedicationJdbcRepository.DoseCount> doseCounts,
             LocalDate today,
             LocalDate weekStart,
             LocalDate weekEnd
     ) {
-        Map<LocalDate, Map<MedicationTimeOfDay, List<DoseKey>>> grouped = new LinkedHashMap<>();
-        LocalDate cursor = weekStart;
-        while (!cursor.isAfter(weekEnd)) {
-            Map<MedicationTimeOfDay, List<DoseKey>> byTime = new EnumMap<>(MedicationTimeOfDay.class);
-            byTime.put(MedicationTimeOfDay.MORNING, new ArrayList<>());
-            byTime.put(MedicationTimeOfDay.EVENING, new ArrayList<>());
-            grouped.put(cursor, byTime);
-            cursor = cursor.plusDays(1);
-        }
-
-        for (DoseKey key : expectedDoses) {
-            Map<MedicationTimeOfDay, List<DoseKey>> byTime = grouped.get(key.date());
-            if (byTime != null) {
-                byTime.get(key.timeOfDay()).add(key);
-            }
+        Map<LocalDate, Map<MedicationTimeOfDay, MedicationJdbcRepository.DoseCount>> grouped = new HashMap<>();
+        for (MedicationJdbcRepository.DoseCount count : doseCounts) {
+            grouped.computeIfAbsent(count.doseDate(), ignored -> new EnumMap<>(MedicationTimeOfDay.class))
+                    .put(count.timeOfDay(), count);
         }
 
         List<DailyMedicationStatusResponse> result = new ArrayList<>();
-        for (Map.Entry<LocalDate, Map<MedicationTimeOfDay, List<DoseKey>>> entry : grouped.entrySet()) {
-            LocalDate date = entry.getKey();
-            MedicationStatus morning = resolveDoseGroupStatus(
-                    entry.getValue().getOrDefault(MedicationTimeOfDay.MORNING, List.of()),
-                    recordStatusMap,
-                    date,
-                    today
-            );
-            MedicationStatus evening = resolveDoseGroupStatus(
-                    entry.getValue().getOrDefault(MedicationTimeOfDay.EVENING, List.of()),
-                    recordStatusMap,
-                    date,
-                    today
-            );
-            result.add(new DailyMedicationStatusResponse(date.getDayOfWeek().name(), morning, evening));
+        LocalDate cursor = weekStart;
+        while (!cursor.isAfter(weekEnd)) {
+            Map<MedicationTimeOfDay, MedicationJdbcRepository.DoseCount> byTime = grouped.getOrDefault(cursor, Map.of());
+            MedicationStatus morning = resolveDoseGroupStatus(byTime.get(MedicationTimeOfDay.MORNING), cursor, today);
+            MedicationStatus evening = resolveDoseGroupStatus(byTime.get(MedicationTimeOfDay.EVENING), cursor, today);
+            result.add(new DailyMedicationStatusResponse(cursor.getDayOfWeek().name(), morning, evening));
+            cursor = cursor.plusDays(1);
         }
 
         return result;
     }
 
     private MedicationStatus resolveDoseGroupStatus(
-            List<DoseKey> keys,
-            Map<DoseKey, MedicationStatus> recordStatusMap,
+            MedicationJdbcRepository.DoseCount count,
             LocalDate date,
             LocalDate today
     ) {
-        if (keys.isEmpty()) {
+        if (count == null || count.expected() == 0) {
             return MedicationStatus.PENDING;
         }
-
-        boolean allTaken = true;
-        for (DoseKey key : keys) {
-            MedicationStatus status = recordStatusMap.get(key);
-            if (status == MedicationStatus.MISSED) {
-                return MedicationStatus.MISSED;
-            }
-            if (status != MedicationStatus.TAKEN) {
-                allTaken = false;
-            }
+        if (count.missed() > 0) {
+            return MedicationStatus.MISSED;
         }
-
-        if (allTaken) {
+        if (count.taken() == count.expected()) {
             return MedicationStatus.TAKEN;
         }
         if (date.isBefore(today)) {
@@ -292,47 +305,6 @@ public class MedicationService {
         return MedicationStatus.PENDING;
     }
 
-    private Map<DoseKey, MedicationStatus> indexRecordsByDose(
-            List<MedicationJdbcRepository.MedicationRecordData> records,
-            Set<Long> activeMedicationIds
-    ) {
-        Map<DoseKey, MedicationStatus> indexed = new HashMap<>();
-        for (MedicationJdbcRepository.MedicationRecordData record : records) {
-            if (!activeMedicationIds.contains(record.medicationId())) {
-                continue;
-            }
-            DoseKey key = new DoseKey(record.medicationId(), record.recordDate(), record.timeOfDay());
-            indexed.put(key, record.status());
-        }
-        return indexed;
-    }
-
-    private List<DoseKey> buildExpectedDoses(
-            List<MedicationJdbcRepository.MedicationData> medications,
-            LocalDate startDate,
-            LocalDate endDate
-    ) {
-        List<DoseKey> expected = new ArrayList<>();
-        for (MedicationJdbcRepository.MedicationData medication : medications) {
-            LocalDate effectiveStart = medication.startDate() == null ? LocalDate.MIN : medication.startDate();
-            LocalDate effectiveEnd = medication.endDate() == null ? LocalDate.MAX : medication.endDate();
-
-            LocalDate cursor = startDate;
-            while (!cursor.isAfter(endDate)) {
-                if (!cursor.isBefore(effectiveStart) && !cursor.isAfter(effectiveEnd)) {
-                    if (medication.frequency().includes(MedicationTimeOfDay.MORNING)) {
-                        expected.add(new DoseKey(medication.id(), cursor, MedicationTimeOfDay.MORNING));
-                    }
-                    if (medication.frequency().includes(MedicationTimeOfDay.EVENING)) {
-                        expected.add(new DoseKey(medication.id(), cursor, MedicationTimeOfDay.EVENING));
-                    }
-                }
-                cursor = cursor.plusDays(1);
-            }
-        }
-        return expected;
-    }
-
     private DispenserStatusResponse buildDispenserStatus(
             Long elderId,
             List<MedicationJdbcRepository.MedicationData> activeMedications
@@ -342,7 +314,7 @@ public class MedicationService {
             return new DispenserStatusResponse(null, null, false, null);
         }
 
-        Integer remaining = robot.get().getDispenserRemaining();
+        Integer remaining = robotTelemetryBuffer.resolve(robot.get()).dispenserRemaining();
         Integer capacity = robot.get().getDispenserCapacity();
         LocalDate today = LocalDate.now();
 
@@ -416,6 +388,20 @@ public class MedicationService {
         return requestValue.trim();
     }
 
+    private LocalDate earlier(LocalDate first, LocalDate second) {
+        if (first == null || second == null) {
+            return null;
+        }
+        return first.isBefore(second) ? first : second;
+    }
+
+    private LocalDate later(LocalDate first, LocalDate second) {
+        if (first == null || second == null) {
+            return null;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
     private boolean isEffectiveOn(MedicationJdbcRepository.MedicationData medication, LocalDate date) {
         LocalDate startDate = medication.startDate() == null ? LocalDate.MIN : medication.startDate();
         LocalDate endDate = medication.endDate() == null ? LocalDate.MAX : medication.endDate();
@@ -461,10 +447,6 @@ public class MedicationService {
                 .doubleValue();
     }
 
-    private record DoseKey(
-            Long medicationId,
-            LocalDate date,
-            MedicationTimeOfDay timeOfDay
-    ) {
+    private record RecordKey(Long medicationId, LocalDate recordDate, MedicationTimeOfDay timeOfDay) {
     }
 }
@@ -0,0 +1,128 @@
+package site.silverbot.api.medication.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
+import site.silverbot.api.medication.model.MedicationStatus;
+import site.silverbot.api.medication.model.MedicationTimeOfDay;
+import site.silverbot.api.medication.repository.MedicationJdbcRepository;
+import site.silverbot.api.medication.repository.MedicationJdbcRepository.DueDose;
+import site.silverbot.api.notification.service.NotificationService;
+import site.silverbot.api.notification.service.NotificationService.NotificationDraft;
+
+@Slf4j
+@Service
+public class MissedDoseDetector {
+    private static final String MISSED_NOTIFICATION_TITLE = "복약 누락";
+
+    private final MedicationJdbcRepository medicationJdbcRepository;
+    private final MedicationRollupService medicationRollupService;
+    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration gracePeriod;
+    private volatile LocalDateTime watermark;
+
+    public MissedDoseDetector(
+            MedicationJdbcRepository medicationJdbcRepository,
+            MedicationRollupService medicationRollupService,
+            NotificationService notificationService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.medication.missed-dose.grace-minutes:120}") long graceMinutes
+    ) {
+        this.medicationJdbcRepository = medicationJdbcRepository;
+        this.medicationRollupService = medicationRollupService;
+        this.notificationService = notificationService;
+        this.eventPublisher = eventPublisher;
+        this.gracePeriod = Duration.ofMinutes(graceMinutes);
+    }
+
+    @Transactional
+    public int detect(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(gracePeriod);
+        LocalDateTime from = watermark == null ? cutoff : watermark;
+        List<DueDose> due = new ArrayList<>();
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(cutoff.toLocalDate()); date = date.plusDays(1)) {
+            LocalTime fromTime = date.equals(from.toLocalDate()) ? from.toLocalTime() : LocalTime.MIN;
+            LocalTime cutoffTime = date.equals(cutoff.toLocalDate()) ? cutoff.toLocalTime() : LocalTime.MAX;
+            due.addAll(medicationJdbcRepository.findUnrecordedDoses(date, fromTime, cutoffTime));
+        }
+        int missed = markMissed(due);
+        if (cutoff.isAfter(from)) {
+            watermark = cutoff;
+        }
+        return missed;
+    }
+
+    private int markMissed(List<DueDose> due) {
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        List<DueDose> missed = medicationJdbcRepository.insertMissedRecords(due);
+        if (missed.isEmpty()) {
+            return 0;
+        }
+        medicationRollupService.recordsChanged(missed.stream()
+                .map(dose -> new MedicationJdbcRepository.MedicationRecordUpsert(
+                        dose.elderId(),
+                        dose.medicationId(),
+                        dose.doseDate(),
+                        dose.timeOfDay(),
+                        MedicationStatus.MISSED,
+                        null,
+                        null
+                ))
+                .toList());
+
+        Map<SlotKey, List<DueDose>> bySlot = missed.stream()
+                .collect(Collectors.groupingBy(SlotKey::of, LinkedHashMap::new, Collectors.toList()));
+        notificationService.createMedicationNotifications(bySlot.values().stream()
+                .map(this::toNotification)
+                .toList());
+        bySlot.keySet().stream()
+                .map(SlotKey::elderId)
+                .distinct()
+                .forEach(elderId -> eventPublisher.publishEvent(
+                        DashboardChangedEvent.forElder(elderId, DashboardSection.MEDICATION)
+                ));
+
+        log.info("Marked {} doses as missed for {} elder slots", missed.size(), bySlot.size());
+        return missed.size();
+    }
+
+    private NotificationDraft toNotification(List<DueDose> doses) {
+        DueDose first = doses.get(0);
+        String medications = doses.stream()
+                .map(DueDose::medicationName)
+                .collect(Collectors.joining(", "));
+        String slot = first.timeOfDay() == MedicationTimeOfDay.MORNING ? "아침" : "저녁";
+        return new NotificationDraft(
+                first.userId(),
+                first.elderId(),
+                MISSED_NOTIFICATION_TITLE,
+                first.elderName() + " 어르신의 " + first.doseDate() + " " + slot + " 복약(" + medications + ")이 확인되지 않았습니다.",
+                "/elders/" + first.elderId() + "/medications"
+        );
+    }
+
+    private record SlotKey(Long elderId, LocalDate doseDate, MedicationTimeOfDay timeOfDay) {
+        private static SlotKey of(DueDose dose) {
+            return new SlotKey(dose.elderId(), dose.doseDate(), dose.timeOfDay());
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import site.silverbot.api.common.ApiResponse;
+import site.silverbot.api.notification.response.NotificationCursorResponse;
 import site.silverbot.api.notification.response.NotificationListResponse;
 import site.silverbot.api.notification.response.NotificationResponse;
 import site.silverbot.api.notification.response.ReadAllResponse;
@@ -29,6 +30,15 @@ public class NotificationController {
         return ApiResponse.success(notificationService.getNotifications(isRead, page, size));
     }
 
+    @GetMapping(params = "cursor")
+    public ApiResponse<NotificationCursorResponse> getNotificationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Boolean isRead
+    ) {
+        return ApiResponse.success(notificationService.getNotificationsByCursor(isRead, cursor, size));
+    }
+
     @GetMapping("/unread-count")
     public ApiResponse<UnreadCountResponse> getUnreadCount() {
         return ApiResponse.success(notificationService.getUnreadCount());
@@ -0,0 +1,11 @@
+package site.silverbot.api.notification.response;
+
+import java.util.List;
+
+public record NotificationCursorResponse(
+        List<NotificationResponse> notifications,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,222 @@
+package site.silverbot.api.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.silverbot.api.notification.service.NotificationService.NotificationDraft;
+import site.silverbot.domain.notification.NotificationType;
+
+@Slf4j
+@Component
+public class NotificationCoalescer {
+    private final NotificationService notificationService;
+    private final long windowNanos;
+    private final int maxCount;
+    private final Map<CoalescingKey, Window> windows = new ConcurrentHashMap<>();
+    private final Counter receivedCounter;
+    private final Counter emittedCounter;
+    private final DistributionSummary groupSize;
+
+    public NotificationCoalescer(
+            NotificationService notificationService,
+            MeterRegistry meterRegistry,
+            @Value("${app.notification.coalescing.window-ms:10000}") long windowMillis,
+            @Value("${app.notification.coalescing.max-count:50}") int maxCount
+    ) {
+        this.notificationService = notificationService;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxCount = maxCount;
+
+        Gauge.builder("notification.coalescing.window", () -> windowMillis / 1000.0)
+                .baseUnit("seconds")
+                .description("Window in which same-type notifications are merged")
+                .register(meterRegistry);
+        Gauge.builder("notification.coalescing.max_count", () -> maxCount)
+                .description("Merged notifications that force an early flush")
+                .register(meterRegistry);
+        Gauge.builder("notification.coalescing.open_windows", windows, Map::size)
+                .description("Coalescing windows currently open")
+                .register(meterRegistry);
+        Gauge.builder("notification.coalescing.pending", windows, this::pendingCount)
+                .description("Notifications waiting for their window to close")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("notification.coalescing.received")
+                .register(meterRegistry);
+        this.emittedCounter = Counter.builder("notification.coalescing.emitted")
+                .register(meterRegistry);
+        this.groupSize = DistributionSummary.builder("notification.coalescing.group_size")
+                .description("Notifications merged into one emitted notification")
+                .register(meterRegistry);
+    }
+
+    public void submit(NotificationType type, List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        receivedCounter.increment(drafts.size());
+
+        Map<CoalescingKey, List<NotificationDraft>> byKey = new LinkedHashMap<>();
+        for (NotificationDraft draft : drafts) {
+            byKey.computeIfAbsent(CoalescingKey.of(type, draft), key -> new ArrayList<>()).add(draft);
+        }
+        long now = System.nanoTime();
+        List<NotificationDraft> immediate = new ArrayList<>();
+        Map<CoalescingKey, List<NotificationDraft>> deferred = new LinkedHashMap<>();
+        byKey.forEach((key, group) -> {
+            if (windowNanos <= 0 || openWindow(key, now)) {
+                immediate.add(coalesce(group.get(group.size() - 1), group.size()));
+            } else {
+                deferred.put(key, group);
+            }
+        });
+
+        if (!immediate.isEmpty()) {
+            notificationService.createNotifications(type, immediate);
+            record(immediate.size(), byKey.entrySet().stream()
+                    .filter(entry -> !deferred.containsKey(entry.getKey()))
+                    .mapToInt(entry -> entry.getValue().size())
+                    .toArray());
+        }
+        if (!deferred.isEmpty()) {
+            afterCommit(() -> deferred.forEach(this::append));
+        }
+    }
+
+    public int flush() {
+        return flush(false);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int emitted = flush(true);
+        if (emitted > 0) {
+            log.info("Flushed {} coalesced notifications on shutdown", emitted);
+        }
+    }
+
+    private int flush(boolean force) {
+        long now = System.nanoTime();
+        Map<NotificationType, List<NotificationDraft>> due = new EnumMap<>(NotificationType.class);
+        List<Integer> sizes = new ArrayList<>();
+        for (CoalescingKey key : windows.keySet()) {
+            windows.computeIfPresent(key, (id, window) -> {
+                if (!force && !window.isDue(now, windowNanos, maxCount)) {
+                    return window;
+                }
+                if (window.count > 0) {
+                    due.computeIfAbsent(id.type(), type -> new ArrayList<>()).add(coalesce(window.latest, window.count));
+                    sizes.add(window.count);
+                }
+                return null;
+            });
+        }
+
+        int emitted = 0;
+        for (Map.Entry<NotificationType, List<NotificationDraft>> entry : due.entrySet()) {
+            try {
+                emitted += notificationService.createNotifications(entry.getKey(), entry.getValue());
+            } catch (RuntimeException ex) {
+                log.warn("Failed to emit {} coalesced {} notifications", entry.getValue().size(), entry.getKey(), ex);
+            }
+        }
+        record(emitted, sizes.stream().mapToInt(Integer::intValue).toArray());
+        return emitted;
+    }
+
+    public int openWindows() {
+        return windows.size();
+    }
+
+    private boolean openWindow(CoalescingKey key, long now) {
+        AtomicBoolean opened = new AtomicBoolean();
+        windows.compute(key, (id, window) -> {
+            if (window != null && (window.count > 0 || !window.isDue(now, windowNanos, maxCount))) {
+                return window;
+            }
+            opened.set(true);
+            return new Window(now);
+        });
+        return opened.get();
+    }
+
+    private void append(CoalescingKey key, List<NotificationDraft> group) {
+        windows.compute(key, (id, window) -> {
+            Window target = window == null ? new Window(System.nanoTime()) : window;
+            target.count += group.size();
+            target.latest = group.get(group.size() - 1);
+            return target;
+        });
+    }
+
+    private NotificationDraft coalesce(NotificationDraft latest, int count) {
+        if (count == 1) {
+            return latest;
+        }
+        return new NotificationDraft(
+                latest.userId(),
+                latest.elderId(),
+                latest.title() + " " + count + "건",
+                latest.message() + " 외 " + (count - 1) + "건",
+                latest.targetPath()
+        );
+    }
+
+    private void record(int emitted, int[] sizes) {
+        emittedCounter.increment(emitted);
+        for (int size : sizes) {
+            groupSize.record(size);
+        }
+    }
+
+    private double pendingCount(Map<CoalescingKey, Window> windows) {
+        return windows.values().stream().mapToInt(window -> window.count).sum();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record CoalescingKey(NotificationType type, Long userId, Long elderId, String title) {
+        private static CoalescingKey of(NotificationType type, NotificationDraft draft) {
+            return new CoalescingKey(type, draft.userId(), draft.elderId(), draft.title());
+        }
+    }
+
+    private static final class Window {
+        private final long openedAt;
+        private int count;
+        private NotificationDraft latest;
+
+        private Window(long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        private boolean isDue(long now, long windowNanos, int maxCount) {
+            return now - openedAt >= windowNanos || (maxCount > 0 && count >= maxCount);
+        }
+    }
+}
@@ -1,23 +1,31 @@
 package site.silverbot.api.notification.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import site.silverbot.api.common.Cursor;
+import site.silverbot.api.common.CursorSlice;
 import site.silverbot.api.common.service.CurrentUserService;
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
+import site.silverbot.api.notification.response.NotificationCursorResponse;
 import site.silverbot.api.notification.response.NotificationListResponse;
 import site.silverbot.api.notification.response.NotificationResponse;
 import site.silverbot.api.notification.response.ReadAllResponse;
 import site.silverbot.api.notification.response.UnreadCountResponse;
-import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.elder.ElderRepository;
 import site.silverbot.domain.notification.Notification;
 import site.silverbot.domain.notification.NotificationRepository;
@@ -35,8 +43,10 @@ public class NotificationService {
     private final UserRepository userRepository;
     private final ElderRepository elderRepository;
     private final CurrentUserService currentUserService;
-    private final ObjectMapper objectMapper;
+    private final NotificationSettingsCache notificationSettingsCache;
+    private final NotificationUnreadCounter notificationUnreadCounter;
     private final WebSocketMessageService webSocketMessageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NotificationListResponse getNotifications(Boolean isRead, int page, int size) {
         if (page < 0 || size <= 0) {
@@ -63,10 +73,35 @@ public class NotificationService {
         );
     }
 
+    public NotificationCursorResponse getNotificationsByCursor(Boolean isRead, String cursor, int size) {
+        if (size <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page or size");
+        }
+
+        User user = currentUserService.getCurrentUser();
+        Cursor after = Cursor.decode(cursor);
+        List<Notification> rows = isRead == null
+                ? notificationRepository.findAllByUserIdBefore(
+                        user.getId(), after.sortKey(), after.id(), CursorSlice.limit(size))
+                : notificationRepository.findAllByUserIdAndIsReadBefore(
+                        user.getId(), isRead, after.sortKey(), after.id(), CursorSlice.limit(size));
+        CursorSlice<Notification> slice = CursorSlice.of(
+                rows,
+                size,
+                notification -> Cursor.of(notification.getCreatedAt(), notification.getId())
+        );
+
+        return new NotificationCursorResponse(
+                slice.content().stream().map(this::toResponse).toList(),
+                size,
+                slice.hasNext(),
+                slice.nextCursor()
+        );
+    }
+
     public UnreadCountResponse getUnreadCount() {
         User user = currentUserService.getCurrentUser();
-        long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(user.getId());
-        return new UnreadCountResponse(unreadCount);
+        return new UnreadCountResponse(notificationUnreadCounter.get(user.getId()));
     }
 
     @Transactional
@@ -75,7 +110,10 @@ public class NotificationService {
         Notification notification = notificationRepository.findByIdAndUserId(notificationId, user.getId())
                 .orElseThrow(() -> new EntityNotFoundException("Notification not found"));
 
-        notification.markRead(LocalDateTime.now());
+        if (notification.markRead(LocalDateTime.now())) {
+            notificationUnreadCounter.add(user.getId(), -1);
+        }
+        eventPublisher.publishEvent(DashboardChangedEvent.forUser(user.getId(), DashboardSection.NOTIFICATIONS));
         return toResponse(notification);
     }
 
@@ -83,6 +121,10 @@ public class NotificationService {
     public ReadAllResponse markAllAsRead() {
         User user = currentUserService.getCurrentUser();
         int updated = notificationRepository.markAllAsReadByUserId(user.getId(), LocalDateTime.now());
+        notificationUnreadCounter.reset(user.getId());
+        if (updated > 0) {
+            eventPublisher.publishEvent(DashboardChangedEvent.forUser(user.getId(), DashboardSection.NOTIFICATIONS));
+        }
         return new ReadAllResponse(updated);
     }
 
@@ -108,6 +150,16 @@ public class NotificationService {
         createByType(userId, elderId, NotificationType.MEDICATION, title, message, targetPath);
     }
 
+    @Transactional
+    public int createMedicationNotifications(List<NotificationDraft> drafts) {
+        return createAllByType(NotificationType.MEDICATION, drafts);
+    }
+
+    @Transactional
+    public int createNotifications(NotificationType type, List<NotificationDraft> drafts) {
+        return createAllByType(type, drafts);
+    }
+
     @Transactional
     public void createScheduleNotification(
             Long userId,
@@ -149,22 +201,16 @@ public class NotificationService {
             String message,
             String targetPath
     ) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-        NotificationSettings settings = parseSettings(user.getNotificationSettings());
+        NotificationSettings settings = notificationSettingsCache.get(userId);
         if (!settings.isTypeEnabled(type)) {
             return;
         }
 
-        Elder elder = null;
-        if (elderId != null) {
-            elder = elderRepository.findById(elderId)
-                    .orElseThrow(() -> new EntityNotFoundException("Elder not found"));
-        }
-
+        long unreadCount = notificationUnreadCounter.get(userId) + 1;
+        notificationUnreadCounter.add(userId, 1);
         Notification notification = Notification.builder()
-                .user(user)
-                .elder(elder)
+                .user(userRepository.getReferenceById(userId))
+                .elder(elderId == null ? null : elderRepository.getReferenceById(elderId))
                 .type(type)
                 .title(title)
                 .message(message)
@@ -172,22 +218,82 @@ public class NotificationService {
                 .isRead(false)
                 .build();
         Notification saved = notificationRepository.save(notification);
+        if (elderId != null) {
+            eventPublisher.publishEvent(DashboardChangedEvent.forElder(elderId, DashboardSection.NOTIFICATIONS));
+        }
 
         if (settings.realtimeEnabled()) {
             webSocketMessageService.sendNotification(
-                    user.getId(),
+                    userId,
                     new NotificationMessage.Payload(
                             saved.getId(),
                             type.name(),
                             saved.getTitle(),
                             saved.getMessage(),
                             elderId,
-                            saved.getTargetPath()
+                            saved.getTargetPath(),
+                            unreadCount
                     )
             );
         }
     }
 
+    private int createAllByType(NotificationType type, List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return 0;
+        }
+        Map<Long, NotificationSettings> settingsByUserId = new HashMap<>();
+        List<Notification> notifications = new ArrayList<>();
+        for (NotificationDraft draft : drafts) {
+            NotificationSettings settings = settingsByUserId.computeIfAbsent(
+                    draft.userId(),
+                    userId -> notificationSettingsCache.find(userId).orElse(null)
+            );
+            if (settings == null || !settings.isTypeEnabled(type)) {
+                continue;
+            }
+            notifications.add(Notification.builder()
+                    .user(userRepository.getReferenceById(draft.userId()))
+                    .elder(draft.elderId() == null ? null : elderRepository.getReferenceById(draft.elderId()))
+                    .type(type)
+                    .title(draft.title())
+                    .message(draft.message())
+                    .targetPath(draft.targetPath())
+                    .isRead(false)
+                    .build());
+        }
+
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        notifications.stream()
+                .collect(Collectors.groupingBy(notification -> notification.getUser().getId(), Collectors.counting()))
+                .forEach((userId, created) -> {
+                    unreadCounts.put(userId, notificationUnreadCounter.get(userId) + created);
+                    notificationUnreadCounter.add(userId, created);
+                });
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        for (Notification notification : saved) {
+            Long elderId = notification.getElder() == null ? null : notification.getElder().getId();
+            if (elderId != null) {
+                eventPublisher.publishEvent(DashboardChangedEvent.forElder(elderId, DashboardSection.NOTIFICATIONS));
+            }
+            if (settingsByUserId.get(notification.getUser().getId()).realtimeEnabled()) {
+                webSocketMessageService.sendNotification(
+                        notification.getUser().getId(),
+                        new NotificationMessage.Payload(
+                                notification.getId(),
+                                type.name(),
+                                notification.getTitle(),
+                                notification.getMessage(),
+                                elderId,
+                                notification.getTargetPath(),
+                                unreadCounts.get(notification.getUser().getId())
+                        )
+                );
+            }
+        }
+        return saved.size();
+    }
+
     private NotificationResponse toResponse(Notification notification) {
         Long elderId = notification.getElder() == null ? null : notification.getElder().getId();
         return new NotificationResponse(
@@ -203,36 +309,6 @@ public class NotificationService {
         );
     }
 
-    public NotificationSettings parseSettings(String rawSettings) {
-        if (rawSettings == null || rawSettings.isBlank()) {
-            return NotificationSettings.defaultSettings();
-        }
-        try {
-            JsonNode node = objectMapper.readTree(rawSettings);
-            return new NotificationSettings(
-                    readBoolean(node, "emergencyEnabled", true),
-                    readBoolean(node, "medicationEnabled", true),
-                    readBoolean(node, "scheduleEnabled", true),
-                    readBoolean(node, "activityEnabled", true),
-                    readBoolean(node, "systemEnabled", true),
-                    readBoolean(node, "realtimeEnabled", true)
-            );
-        } catch (Exception ex) {
-            return NotificationSettings.defaultSettings();
-        }
-    }
-
-    private boolean readBoolean(JsonNode node, String fieldName, boolean defaultValue) {
-        if (node == null || node.isNull() || !node.has(fieldName)) {
-            return defaultValue;
-        }
-        JsonNode child = node.get(fieldName);
-        if (child.isBoolean()) {
-            return child.asBoolean();
-        }
-        return defaultValue;
-    }
-
     public record NotificationSettings(
             boolean emergencyEnabled,
             boolean medicationEnabled,
@@ -281,4 +357,13 @@ public class NotificationService {
             );
         }
     }
+
+    public record NotificationDraft(
+            Long userId,
+            Long elderId,
+            String title,
+            String message,
+            String targetPath
+    ) {
+    }
 }
@@ -0,0 +1,146 @@
+package site.silverbot.api.notification.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.silverbot.api.notification.service.NotificationService.NotificationSettings;
+import site.silverbot.domain.user.UserRepository;
+import site.silverbot.websocket.cluster.ClusterInvalidations;
+
+@Component
+public class NotificationSettingsCache {
+    private static final String INVALIDATION_TOPIC = "notification-settings";
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final ClusterInvalidations clusterInvalidations;
+    private final long ttlMillis;
+    private final Map<Long, CachedSettings> settingsByUserId;
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    public NotificationSettingsCache(
+            UserRepository userRepository,
+            ObjectMapper objectMapper,
+            ClusterInvalidations clusterInvalidations,
+            @Value("${app.notification.settings-cache.max-size:10000}") int maxSize,
+            @Value("${app.notification.settings-cache.ttl-ms:300000}") long ttlMillis
+    ) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.clusterInvalidations = clusterInvalidations;
+        this.ttlMillis = ttlMillis;
+        this.settingsByUserId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedSettings> eldest) {
+                return size() > maxSize;
+            }
+        };
+        clusterInvalidations.register(INVALIDATION_TOPIC, this::invalidate);
+    }
+
+    public NotificationSettings get(Long userId) {
+        return find(userId).orElseThrow(() -> new EntityNotFoundException("User not found"));
+    }
+
+    public Optional<NotificationSettings> find(Long userId) {
+        NotificationSettings cached = lookup(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long generation = generations.getOrDefault(userId, 0L);
+        Optional<NotificationSettings> loaded = userRepository.findNotificationSettingsById(userId).map(this::parse);
+        loaded.ifPresent(settings -> put(userId, settings, generation));
+        return loaded;
+    }
+
+    public void evict(Long userId) {
+        invalidate(userId);
+        clusterInvalidations.publishAfterCommit(INVALIDATION_TOPIC, userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate(userId);
+            }
+        });
+    }
+
+    public int size() {
+        synchronized (settingsByUserId) {
+            return settingsByUserId.size();
+        }
+    }
+
+    public NotificationSettings parse(String rawSettings) {
+        if (rawSettings == null || rawSettings.isBlank()) {
+            return NotificationSettings.defaultSettings();
+        }
+        try {
+            JsonNode node = objectMapper.readTree(rawSettings);
+            return new NotificationSettings(
+                    readBoolean(node, "emergencyEnabled", true),
+                    readBoolean(node, "medicationEnabled", true),
+                    readBoolean(node, "scheduleEnabled", true),
+                    readBoolean(node, "activityEnabled", true),
+                    readBoolean(node, "systemEnabled", true),
+                    readBoolean(node, "realtimeEnabled", true)
+            );
+        } catch (Exception ex) {
+            return NotificationSettings.defaultSettings();
+        }
+    }
+
+    private NotificationSettings lookup(Long userId) {
+        synchronized (settingsByUserId) {
+            CachedSettings cached = settingsByUserId.get(userId);
+            if (cached == null) {
+                return null;
+            }
+            if (System.currentTimeMillis() - cached.loadedAtMillis() >= ttlMillis) {
+                settingsByUserId.remove(userId);
+                return null;
+            }
+            return cached.settings();
+        }
+    }
+
+    private void put(Long userId, NotificationSettings settings, long generation) {
+        synchronized (settingsByUserId) {
+            if (generations.getOrDefault(userId, 0L) == generation) {
+                settingsByUserId.put(userId, new CachedSettings(settings, System.currentTimeMillis()));
+            }
+        }
+    }
+
+    private void invalidate(Long userId) {
+        synchronized (settingsByUserId) {
+            generations.merge(userId, 1L, Long::sum);
+            settingsByUserId.remove(userId);
+        }
+    }
+
+    private boolean readBoolean(JsonNode node, String fieldName, boolean defaultValue) {
+        if (node == null || node.isNull() || !node.has(fieldName)) {
+            return defaultValue;
+        }
+        JsonNode child = node.get(fieldName);
+        if (child.isBoolean()) {
+            return child.asBoolean();
+        }
+        return defaultValue;
+    }
+
+    private record CachedSettings(NotificationSettings settings, long loadedAtMillis) {
+    }
+}
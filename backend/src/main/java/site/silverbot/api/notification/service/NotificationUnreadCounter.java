@@ -0,0 +1,190 @@
+package site.silverbot.api.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.silverbot.domain.notification.NotificationRepository;
+import site.silverbot.domain.notification.NotificationRepository.UnreadCountView;
+import site.silverbot.websocket.cluster.ClusterInvalidations;
+
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+    private static final String INVALIDATION_TOPIC = "notification-unread";
+
+    private final NotificationRepository notificationRepository;
+    private final ClusterInvalidations clusterInvalidations;
+    private final Map<Long, Long> countsByUserId;
+    private final Map<Long, Long> generations;
+    private final Counter correctionCounter;
+    private long lastGeneration;
+    private long evictedGeneration;
+
+    public NotificationUnreadCounter(
+            NotificationRepository notificationRepository,
+            MeterRegistry meterRegistry,
+            ClusterInvalidations clusterInvalidations,
+            @Value("${app.notification.unread-counter.max-size:50000}") int maxSize
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.clusterInvalidations = clusterInvalidations;
+        this.countsByUserId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.generations = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                evictedGeneration = Math.max(evictedGeneration, eldest.getValue());
+                return true;
+            }
+        };
+        clusterInvalidations.register(INVALIDATION_TOPIC, this::invalidate);
+
+        Gauge.builder("notification.unread_counter.size", this, NotificationUnreadCounter::size)
+                .description("Users whose unread count is held in memory")
+                .register(meterRegistry);
+        this.correctionCounter = Counter.builder("notification.unread_counter.corrections")
+                .description("Cached unread counts fixed by reconciliation")
+                .register(meterRegistry);
+    }
+
+    public long get(Long userId) {
+        Long cached = lookup(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = generation(userId);
+        long loaded = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        put(userId, loaded, generation);
+        return loaded;
+    }
+
+    public void add(Long userId, long delta) {
+        afterCommit(() -> apply(userId, current -> Math.max(0L, current + delta)));
+        clusterInvalidations.publishAfterCommit(INVALIDATION_TOPIC, userId);
+    }
+
+    public void reset(Long userId) {
+        afterCommit(() -> {
+            synchronized (countsByUserId) {
+                bumpGeneration(userId);
+                countsByUserId.put(userId, 0L);
+            }
+        });
+        clusterInvalidations.publishAfterCommit(INVALIDATION_TOPIC, userId);
+    }
+
+    public int size() {
+        synchronized (countsByUserId) {
+            return countsByUserId.size();
+        }
+    }
+
+    public int reconcile() {
+        List<Long> userIds;
+        synchronized (countsByUserId) {
+            userIds = new ArrayList<>(countsByUserId.keySet());
+        }
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+            Map<Long, Long> snapshot = new HashMap<>();
+            chunk.forEach(userId -> snapshot.put(userId, generation(userId)));
+
+            Map<Long, Long> actual = new HashMap<>();
+            for (UnreadCountView view : notificationRepository.countUnreadByUserIds(chunk)) {
+                actual.put(view.getUserId(), view.getUnreadCount());
+            }
+            for (Long userId : chunk) {
+                long count = actual.getOrDefault(userId, 0L);
+                synchronized (countsByUserId) {
+                    Long previous = countsByUserId.get(userId);
+                    if (previous == null || previous == count || generation(userId) != snapshot.get(userId)) {
+                        continue;
+                    }
+                    countsByUserId.put(userId, count);
+                }
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            correctionCounter.increment(corrected);
+            log.info("Reconciled {} cached unread notification counts", corrected);
+        }
+        return corrected;
+    }
+
+    private Long lookup(Long userId) {
+        synchronized (countsByUserId) {
+            return countsByUserId.get(userId);
+        }
+    }
+
+    private void put(Long userId, long count, long generation) {
+        synchronized (countsByUserId) {
+            if (generation(userId) == generation) {
+                countsByUserId.put(userId, count);
+            }
+        }
+    }
+
+    private void apply(Long userId, LongUnaryOperator update) {
+        synchronized (countsByUserId) {
+            bumpGeneration(userId);
+            Long current = countsByUserId.get(userId);
+            if (current != null) {
+                countsByUserId.put(userId, update.applyAsLong(current));
+            }
+        }
+    }
+
+    private void invalidate(Long userId) {
+        synchronized (countsByUserId) {
+            bumpGeneration(userId);
+            countsByUserId.remove(userId);
+        }
+    }
+
+    private long generation(Long userId) {
+        synchronized (countsByUserId) {
+            return generations.getOrDefault(userId, evictedGeneration);
+        }
+    }
+
+    private void bumpGeneration(Long userId) {
+        generations.remove(userId);
+        generations.put(userId, ++lastGeneration);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package site.silverbot.api.partition.model;
+
+public enum PartitionedTable {
+    ROBOT_LCD_EVENT("robot_lcd_event", "occurred_at"),
+    ACTIVITY("activity", "detected_at");
+
+    private final String tableName;
+    private final String partitionColumn;
+
+    PartitionedTable(String tableName, String partitionColumn) {
+        this.tableName = tableName;
+        this.partitionColumn = partitionColumn;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public String partitionColumn() {
+        return partitionColumn;
+    }
+
+    public String defaultPartition() {
+        return tableName + "_default";
+    }
+}
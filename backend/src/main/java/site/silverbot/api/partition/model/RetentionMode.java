@@ -0,0 +1,7 @@
+package site.silverbot.api.partition.model;
+
+public enum RetentionMode {
+    NONE,
+    DROP,
+    ARCHIVE
+}
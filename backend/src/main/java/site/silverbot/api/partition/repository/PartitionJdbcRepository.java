@@ -0,0 +1,100 @@
+package site.silverbot.api.partition.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import site.silverbot.api.partition.model.PartitionedTable;
+
+@Repository
+@RequiredArgsConstructor
+public class PartitionJdbcRepository {
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public int createMonthlyPartitions(PartitionedTable table, LocalDate fromMonth, LocalDate toMonth) {
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT create_monthly_partitions(:parentTable, :partitionColumn, :fromMonth, :toMonth)",
+                new MapSqlParameterSource()
+                        .addValue("parentTable", table.tableName())
+                        .addValue("partitionColumn", table.partitionColumn())
+                        .addValue("fromMonth", fromMonth)
+                        .addValue("toMonth", toMonth),
+                Integer.class
+        );
+        return created == null ? 0 : created;
+    }
+
+    public List<MonthlyPartition> findMonthlyPartitions(PartitionedTable table) {
+        String sql = """
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = CAST(:parentTable AS regclass)
+                  AND c.relname ~ '_p[0-9]{6}$'
+                ORDER BY c.relname
+                """;
+        return jdbcTemplate.query(
+                sql,
+                new MapSqlParameterSource().addValue("parentTable", table.tableName()),
+                (rs, rowNum) -> {
+                    String name = rs.getString("relname");
+                    String suffix = name.substring(name.length() - 6);
+                    return new MonthlyPartition(name, LocalDate.parse(suffix + "01", DateTimeFormatter.BASIC_ISO_DATE));
+                }
+        );
+    }
+
+    public void dropPartition(MonthlyPartition partition) {
+        jdbcTemplate.getJdbcTemplate().execute("DROP TABLE " + quote(partition.name()));
+    }
+
+    public void detachPartition(PartitionedTable table, MonthlyPartition partition) {
+        jdbcTemplate.getJdbcTemplate().execute(
+                "ALTER TABLE " + quote(table.tableName()) + " DETACH PARTITION " + quote(partition.name()));
+    }
+
+    public int deleteFromDefaultPartitionBefore(PartitionedTable table, LocalDateTime cutoff) {
+        String sql = "DELETE FROM " + quote(table.defaultPartition())
+                + " WHERE " + quote(table.partitionColumn()) + " < :cutoff";
+        return jdbcTemplate.update(sql, new MapSqlParameterSource().addValue("cutoff", cutoff));
+    }
+
+    public int deleteLcdClientEventsBefore(LocalDateTime cutoff) {
+        String sql = """
+                DELETE FROM robot_lcd_event_client_event
+                WHERE created_at < :cutoff
+                """;
+        return jdbcTemplate.update(sql, new MapSqlParameterSource().addValue("cutoff", cutoff));
+    }
+
+    public boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            cached = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = cached;
+        }
+        return Boolean.TRUE.equals(cached);
+    }
+
+    public static String partitionName(PartitionedTable table, LocalDate month) {
+        return table.tableName() + "_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    public record MonthlyPartition(String name, LocalDate month) {
+    }
+}
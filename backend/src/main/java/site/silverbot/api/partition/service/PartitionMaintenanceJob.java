@@ -0,0 +1,92 @@
+package site.silverbot.api.partition.service;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import site.silverbot.api.partition.model.PartitionedTable;
+import site.silverbot.api.partition.model.RetentionMode;
+import site.silverbot.api.partition.repository.PartitionJdbcRepository;
+import site.silverbot.api.partition.repository.PartitionJdbcRepository.MonthlyPartition;
+
+@Slf4j
+@Component
+public class PartitionMaintenanceJob implements ApplicationRunner {
+    private final PartitionJdbcRepository partitionJdbcRepository;
+    private final int premakeMonths;
+    private final RetentionMode retentionMode;
+    private final Map<PartitionedTable, Integer> retentionMonths = new EnumMap<>(PartitionedTable.class);
+
+    public PartitionMaintenanceJob(
+            PartitionJdbcRepository partitionJdbcRepository,
+            @Value("${app.partition.premake-months:3}") int premakeMonths,
+            @Value("${app.partition.retention.mode:NONE}") RetentionMode retentionMode,
+            @Value("${app.partition.retention.robot-lcd-event-months:0}") int robotLcdEventRetentionMonths,
+            @Value("${app.partition.retention.activity-months:0}") int activityRetentionMonths
+    ) {
+        this.partitionJdbcRepository = partitionJdbcRepository;
+        this.premakeMonths = premakeMonths;
+        this.retentionMode = retentionMode;
+        this.retentionMonths.put(PartitionedTable.ROBOT_LCD_EVENT, robotLcdEventRetentionMonths);
+        this.retentionMonths.put(PartitionedTable.ACTIVITY, activityRetentionMonths);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        maintain(LocalDate.now());
+    }
+
+    public MaintenanceResult maintain(LocalDate today) {
+        if (!partitionJdbcRepository.isPostgres()) {
+            return new MaintenanceResult(0, 0, 0);
+        }
+        LocalDate currentMonth = today.withDayOfMonth(1);
+        int created = 0;
+        int removed = 0;
+        int purgedRows = 0;
+        for (PartitionedTable table : PartitionedTable.values()) {
+            try {
+                created += partitionJdbcRepository.createMonthlyPartitions(
+                        table, currentMonth, currentMonth.plusMonths(premakeMonths));
+
+                int months = retentionMonths.getOrDefault(table, 0);
+                if (retentionMode == RetentionMode.NONE || months <= 0) {
+                    continue;
+                }
+                LocalDate cutoff = currentMonth.minusMonths(months);
+                for (MonthlyPartition partition : partitionJdbcRepository.findMonthlyPartitions(table)) {
+                    if (!partition.month().isBefore(cutoff)) {
+                        continue;
+                    }
+                    if (retentionMode == RetentionMode.ARCHIVE) {
+                        partitionJdbcRepository.detachPartition(table, partition);
+                    } else {
+                        partitionJdbcRepository.dropPartition(partition);
+                    }
+                    removed++;
+                    log.info("{} partition {} past {} month retention", retentionMode, partition.name(), months);
+                }
+                if (retentionMode == RetentionMode.DROP) {
+                    purgedRows += partitionJdbcRepository.deleteFromDefaultPartitionBefore(
+                            table, cutoff.atStartOfDay());
+                }
+                if (table == PartitionedTable.ROBOT_LCD_EVENT) {
+                    purgedRows += partitionJdbcRepository.deleteLcdClientEventsBefore(cutoff.atStartOfDay());
+                }
+            } catch (DataAccessException ex) {
+                log.warn("Partition maintenance failed for {}", table.tableName(), ex);
+            }
+        }
+        log.info("Partition maintenance finished (created={}, removed={}, purgedRows={})",
+                created, removed, purgedRows);
+        return new MaintenanceResult(created, removed, purgedRows);
+    }
+
+    public record MaintenanceResult(int created, int removed, int purgedRows) {
+    }
+}
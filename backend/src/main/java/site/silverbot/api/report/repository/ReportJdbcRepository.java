@@ -5,6 +5,8 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -16,6 +18,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -121,6 +124,81 @@ public class ReportJdbcRepository {
         }
     }
 
+    public Set<Long> findReportedElderIds(Collection<Long> elderIds, LocalDate weekStartDate, LocalDate weekEndDate) {
+        if (elderIds.isEmpty()) {
+            return Set.of();
+        }
+        String sql = """
+                SELECT DISTINCT elder_id
+                FROM ai_report
+                WHERE elder_id IN (:elderIds)
+                  AND period_start = :weekStartDate
+                  AND period_end = :weekEndDate
+                """;
+        try {
+            return new HashSet<>(jdbcTemplate.queryForList(
+                    sql,
+                    new MapSqlParameterSource()
+                            .addValue("elderIds", elderIds)
+                            .addValue("weekStartDate", weekStartDate)
+                            .addValue("weekEndDate", weekEndDate),
+                    Long.class
+            ));
+        } catch (DataAccessException ex) {
+            if (isMissingTable(ex)) {
+                return Set.of();
+            }
+            throw ex;
+        }
+    }
+
+    public int[] saveWeeklyReports(List<NewWeeklyReport> reports) {
+        if (reports.isEmpty()) {
+            return new int[0];
+        }
+        String sql = """
+                INSERT INTO ai_report (
+                    elder_id, report_date, period_start, period_end, summary,
+                    metrics, top_keywords, recommendations, generated_at, created_at
+                )
+                VALUES (
+                    :elderId, :reportDate, :weekStartDate, :weekEndDate, :summary,
+                    CAST(:metricsJson AS jsonb), CAST(:topKeywordsJson AS jsonb), CAST(:recommendationsJson AS jsonb), :generatedAt, CURRENT_TIMESTAMP
+                )
+                """;
+        String fallbackSql = """
+                INSERT INTO ai_report (
+                    elder_id, report_date, period_start, period_end, summary,
+                    metrics, top_keywords, recommendations, generated_at, created_at
+                )
+                VALUES (
+                    :elderId, :reportDate, :weekStartDate, :weekEndDate, :summary,
+                    :metricsJson, :topKeywordsJson, :recommendationsJson, :generatedAt, CURRENT_TIMESTAMP
+                )
+                """;
+        SqlParameterSource[] batch = reports.stream()
+                .map(report -> new MapSqlParameterSource()
+                        .addValue("elderId", report.elderId())
+                        .addValue("reportDate", report.reportDate())
+                        .addValue("weekStartDate", report.weekStartDate())
+                        .addValue("weekEndDate", report.weekEndDate())
+                        .addValue("summary", report.summary())
+                        .addValue("metricsJson", report.metricsJson())
+                        .addValue("topKeywordsJson", report.topKeywordsJson())
+                        .addValue("recommendationsJson", report.recommendationsJson())
+                        .addValue("generatedAt", report.generatedAt()))
+                .toArray(SqlParameterSource[]::new);
+
+        try {
+            return jdbcTemplate.batchUpdate(sql, batch);
+        } catch (DataAccessException ex) {
+            if (!isUnsupportedTypeCast(ex, "jsonb")) {
+                throw ex;
+            }
+            return jdbcTemplate.batchUpdate(fallbackSql, batch);
+        }
+    }
+
     private boolean isMissingTable(DataAccessException ex) {
         Throwable current = ex;
         while (current != null) {
@@ -208,6 +286,19 @@ public class ReportJdbcRepository {
         return timestamp == null ? null : timestamp.toLocalDateTime();
     }
 
+    public record NewWeeklyReport(
+            Long elderId,
+            LocalDate reportDate,
+            LocalDate weekStartDate,
+            LocalDate weekEndDate,
+            String summary,
+            String metricsJson,
+            String topKeywordsJson,
+            String recommendationsJson,
+            LocalDateTime generatedAt
+    ) {
+    }
+
     public record WeeklyReportData(
             Long id,
             Long elderId,
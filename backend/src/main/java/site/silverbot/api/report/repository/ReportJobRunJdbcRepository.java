@@ -0,0 +1,192 @@
+package site.silverbot.api.report.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import site.silverbot.domain.report.ReportJobStatus;
+
+@Repository
+@RequiredArgsConstructor
+public class ReportJobRunJdbcRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<JobRun> find(String jobName, LocalDate periodStart) {
+        String sql = """
+                SELECT id, job_name, period_start, status, last_elder_id, processed_count, skipped_count,
+                       failed_count, elders_per_second, last_error, started_at, updated_at, finished_at
+                FROM report_job_run
+                WHERE job_name = :jobName
+                  AND period_start = :periodStart
+                """;
+        List<JobRun> rows = jdbcTemplate.query(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("jobName", jobName)
+                        .addValue("periodStart", periodStart),
+                jobRunMapper()
+        );
+        return rows.stream().findFirst();
+    }
+
+    public List<JobRun> findResumable(String jobName, LocalDateTime staleBefore) {
+        String sql = """
+                SELECT id, job_name, period_start, status, last_elder_id, processed_count, skipped_count,
+                       failed_count, elders_per_second, last_error, started_at, updated_at, finished_at
+                FROM report_job_run
+                WHERE job_name = :jobName
+                  AND (status = :failed OR (status = :running AND updated_at < :staleBefore))
+                ORDER BY period_start
+                """;
+        return jdbcTemplate.query(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("jobName", jobName)
+                        .addValue("running", ReportJobStatus.RUNNING.name())
+                        .addValue("failed", ReportJobStatus.FAILED.name())
+                        .addValue("staleBefore", staleBefore),
+                jobRunMapper()
+        );
+    }
+
+    public boolean insertRunning(String jobName, LocalDate periodStart, LocalDateTime now) {
+        String sql = """
+                INSERT INTO report_job_run (
+                    job_name, period_start, status, last_elder_id, processed_count, skipped_count,
+                    failed_count, started_at, updated_at
+                )
+                VALUES (:jobName, :periodStart, :status, 0, 0, 0, 0, :now, :now)
+                """;
+        try {
+            jdbcTemplate.update(sql, new MapSqlParameterSource()
+                    .addValue("jobName", jobName)
+                    .addValue("periodStart", periodStart)
+                    .addValue("status", ReportJobStatus.RUNNING.name())
+                    .addValue("now", now));
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    public boolean resume(Long id, LocalDateTime staleBefore, LocalDateTime now) {
+        String sql = """
+                UPDATE report_job_run
+                SET status = :running,
+                    last_error = NULL,
+                    finished_at = NULL,
+                    updated_at = :now
+                WHERE id = :id
+                  AND (status = :failed OR (status = :running AND updated_at < :staleBefore))
+                """;
+        return jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("running", ReportJobStatus.RUNNING.name())
+                .addValue("failed", ReportJobStatus.FAILED.name())
+                .addValue("staleBefore", staleBefore)
+                .addValue("now", now)) > 0;
+    }
+
+    public void checkpoint(
+            Long id,
+            long lastElderId,
+            int processedCount,
+            int skippedCount,
+            int failedCount,
+            double eldersPerSecond,
+            LocalDateTime now
+    ) {
+        String sql = """
+                UPDATE report_job_run
+                SET last_elder_id = :lastElderId,
+                    processed_count = :processedCount,
+                    skipped_count = :skippedCount,
+                    failed_count = :failedCount,
+                    elders_per_second = :eldersPerSecond,
+                    updated_at = :now
+                WHERE id = :id
+                """;
+        jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("lastElderId", lastElderId)
+                .addValue("processedCount", processedCount)
+                .addValue("skippedCount", skippedCount)
+                .addValue("failedCount", failedCount)
+                .addValue("eldersPerSecond", eldersPerSecond)
+                .addValue("now", now));
+    }
+
+    public void finish(Long id, ReportJobStatus status, String lastError, LocalDateTime now) {
+        String sql = """
+                UPDATE report_job_run
+                SET status = :status,
+                    last_error = :lastError,
+                    updated_at = :now,
+                    finished_at = :now
+                WHERE id = :id
+                """;
+        jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("status", status.name())
+                .addValue("lastError", truncate(lastError))
+                .addValue("now", now));
+    }
+
+    private String truncate(String value) {
+        if (value == null || value.length() <= 500) {
+            return value;
+        }
+        return value.substring(0, 500);
+    }
+
+    private RowMapper<JobRun> jobRunMapper() {
+        return (rs, rowNum) -> new JobRun(
+                rs.getLong("id"),
+                rs.getString("job_name"),
+                rs.getObject("period_start", LocalDate.class),
+                ReportJobStatus.valueOf(rs.getString("status")),
+                rs.getLong("last_elder_id"),
+                rs.getInt("processed_count"),
+                rs.getInt("skipped_count"),
+                rs.getInt("failed_count"),
+                rs.getObject("elders_per_second", Double.class),
+                rs.getString("last_error"),
+                getLocalDateTime(rs, "started_at"),
+                getLocalDateTime(rs, "updated_at"),
+                getLocalDateTime(rs, "finished_at")
+        );
+    }
+
+    private LocalDateTime getLocalDateTime(ResultSet rs, String columnName) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(columnName);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    public record JobRun(
+            Long id,
+            String jobName,
+            LocalDate periodStart,
+            ReportJobStatus status,
+            long lastElderId,
+            int processedCount,
+            int skippedCount,
+            int failedCount,
+            Double eldersPerSecond,
+            String lastError,
+            LocalDateTime startedAt,
+            LocalDateTime updatedAt,
+            LocalDateTime finishedAt
+    ) {
+    }
+}
@@ -8,32 +8,25 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import site.silverbot.api.activity.repository.ActivityJdbcRepository;
-import site.silverbot.api.medication.model.MedicationStatus;
-import site.silverbot.api.medication.model.MedicationTimeOfDay;
+import site.silverbot.api.common.service.CurrentUserService;
 import site.silverbot.api.medication.repository.MedicationJdbcRepository;
+import site.silverbot.api.medication.service.MedicationRollupService;
 import site.silverbot.api.report.repository.ReportJdbcRepository;
 import site.silverbot.api.report.response.WeeklyReportResponse;
 import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.elder.ElderRepository;
-import site.silverbot.domain.user.User;
-import site.silverbot.domain.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -45,8 +38,8 @@ public class ReportService {
     };
 
     private final ElderRepository elderRepository;
-    private final UserRepository userRepository;
-    private final MedicationJdbcRepository medicationJdbcRepository;
+    private final CurrentUserService currentUserService;
+    private final MedicationRollupService medicationRollupService;
     private final ActivityJdbcRepository activityJdbcRepository;
     private final ReportJdbcRepository reportJdbcRepository;
     private final ObjectMapper objectMapper;
@@ -63,20 +56,24 @@ public class ReportService {
             return toStoredResponse(stored.get());
         }
 
-        GeneratedWeeklyReport generated = generateWeeklyReportData(elder.getId(), weekStart);
+        GeneratedWeeklyReport generated = generateWeeklyReportData(List.of(elder.getId()), weekStart)
+                .get(elder.getId());
         return generated.toResponse("CALCULATED");
     }
 
-    public void generateWeeklyReportsForAllElders(LocalDate weekStartDate) {
+    public WeeklyReportBatchResult generateWeeklyReports(List<Long> elderIds, LocalDate weekStartDate) {
         LocalDate weekStart = resolveWeekStart(weekStartDate);
-        List<Long> elderIds = elderRepository.findAll()
-                .stream()
-                .map(Elder::getId)
+        LocalDate weekEnd = weekStart.plusDays(6);
+        Set<Long> reported = reportJdbcRepository.findReportedElderIds(elderIds, weekStart, weekEnd);
+        List<Long> pending = elderIds.stream()
+                .filter(elderId -> !reported.contains(elderId))
                 .toList();
 
-        for (Long elderId : elderIds) {
-            GeneratedWeeklyReport generated = generateWeeklyReportData(elderId, weekStart);
-            reportJdbcRepository.saveWeeklyReport(
+        Map<Long, GeneratedWeeklyReport> generatedByElderId = generateWeeklyReportData(pending, weekStart);
+        List<ReportJdbcRepository.NewWeeklyReport> reports = new ArrayList<>();
+        for (Long elderId : pending) {
+            GeneratedWeeklyReport generated = generatedByElderId.get(elderId);
+            reports.add(new ReportJdbcRepository.NewWeeklyReport(
                     elderId,
                     generated.weekEndDate(),
                     generated.weekStartDate(),
@@ -89,86 +86,62 @@ public class ReportService {
                     writeJson(generated.conversationKeywords()),
                     writeJson(generated.recommendations()),
                     generated.generatedAt()
-            );
+            ));
         }
+        reportJdbcRepository.saveWeeklyReports(reports);
+        return new WeeklyReportBatchResult(reports.size(), elderIds.size() - reports.size());
     }
 
-    private GeneratedWeeklyReport generateWeeklyReportData(Long elderId, LocalDate weekStartDate) {
+    private Map<Long, GeneratedWeeklyReport> generateWeeklyReportData(List<Long> elderIds, LocalDate weekStartDate) {
+        if (elderIds.isEmpty()) {
+            return Map.of();
+        }
         LocalDate weekEndDate = weekStartDate.plusDays(6);
 
-        double medicationRate = calculateMedicationRate(elderId, weekStartDate, weekEndDate);
-        long activityCount = activityJdbcRepository.countByElderAndRange(
-                elderId,
+        Map<Long, Double> medicationRates = calculateMedicationRates(elderIds, weekStartDate, weekEndDate);
+        Map<Long, Long> activityCounts = activityJdbcRepository.countByEldersAndRange(
+                elderIds,
                 weekStartDate.atStartOfDay(),
                 weekEndDate.plusDays(1).atStartOfDay().minusNanos(1)
         );
-        List<String> conversationKeywords = List.of();
-        List<String> recommendations = buildRecommendations(medicationRate, activityCount);
+        LocalDateTime generatedAt = LocalDateTime.now();
 
-        return new GeneratedWeeklyReport(
-                weekStartDate,
-                weekEndDate,
-                medicationRate,
-                activityCount,
-                conversationKeywords,
-                recommendations,
-                LocalDateTime.now()
-        );
+        Map<Long, GeneratedWeeklyReport> generated = new HashMap<>();
+        for (Long elderId : elderIds) {
+            double medicationRate = medicationRates.getOrDefault(elderId, 0.0);
+            long activityCount = activityCounts.getOrDefault(elderId, 0L);
+            generated.put(elderId, new GeneratedWeeklyReport(
+                    weekStartDate,
+                    weekEndDate,
+                    medicationRate,
+                    activityCount,
+                    List.of(),
+                    buildRecommendations(medicationRate, activityCount),
+                    generatedAt
+            ));
+        }
+        return generated;
     }
 
-    private double calculateMedicationRate(Long elderId, LocalDate weekStartDate, LocalDate weekEndDate) {
-        List<MedicationJdbcRepository.MedicationData> medications = medicationJdbcRepository
-                .findActiveMedicationsByElderId(elderId)
-                .stream()
-                .filter(medication -> overlapsWeek(medication, weekStartDate, weekEndDate))
-                .toList();
-        if (medications.isEmpty()) {
-            return 0.0;
+    private Map<Long, Double> calculateMedicationRates(List<Long> elderIds, LocalDate weekStartDate, LocalDate weekEndDate) {
+        Map<Long, Integer> expectedCounts = new HashMap<>();
+        Map<Long, Integer> takenCounts = new HashMap<>();
+        for (MedicationJdbcRepository.DoseCount count : medicationRollupService
+                .findDoseCounts(elderIds, weekStartDate, weekEndDate)) {
+            expectedCounts.merge(count.elderId(), count.expected(), Integer::sum);
+            takenCounts.merge(count.elderId(), count.taken(), Integer::sum);
         }
 
-        List<MedicationJdbcRepository.MedicationRecordData> records = medicationJdbcRepository
-                .findMedicationRecords(elderId, weekStartDate, weekEndDate);
-
-        Map<Long, MedicationJdbcRepository.MedicationData> medicationMap = medications.stream()
-                .collect(Collectors.toMap(MedicationJdbcRepository.MedicationData::id, medication -> medication));
+        Map<Long, Double> rates = new HashMap<>();
+        expectedCounts.forEach((elderId, expected) ->
+                rates.put(elderId, toRate(takenCounts.getOrDefault(elderId, 0), expected)));
+        return rates;
+    }
 
-        int expectedCount = 0;
-        int takenCount = 0;
-        LocalDate cursor = weekStartDate;
-        while (!cursor.isAfter(weekEndDate)) {
-            for (MedicationJdbcRepository.MedicationData medication : medications) {
-                if (!isActiveOnDate(medication, cursor)) {
-                    continue;
-                }
-                if (medication.frequency().includes(MedicationTimeOfDay.MORNING)) {
-                    expectedCount++;
-                }
-                if (medication.frequency().includes(MedicationTimeOfDay.EVENING)) {
-                    expectedCount++;
-                }
-            }
-            cursor = cursor.plusDays(1);
-        }
+    private double toRate(int takenCount, int expectedCount) {
         if (expectedCount == 0) {
             return 0.0;
         }
-
-        for (MedicationJdbcRepository.MedicationRecordData record : records) {
-            MedicationJdbcRepository.MedicationData medication = medicationMap.get(record.medicationId());
-            if (medication == null) {
-                continue;
-            }
-            if (!isActiveOnDate(medication, record.recordDate())) {
-                continue;
-            }
-            if (!medication.frequency().includes(record.timeOfDay())) {
-                continue;
-            }
-            if (record.status() == MedicationStatus.TAKEN) {
-                takenCount++;
-            }
-        }
-
         return Math.round(((double) takenCount / expectedCount) * 1000.0) / 10.0;
     }
 
@@ -190,22 +163,6 @@ public class ReportService {
         return "주간 복약률 " + generated.medicationRate() + "% / 활동 " + generated.activityCount() + "건";
     }
 
-    private boolean overlapsWeek(
-            MedicationJdbcRepository.MedicationData medication,
-            LocalDate weekStartDate,
-            LocalDate weekEndDate
-    ) {
-        LocalDate startDate = medication.startDate() == null ? LocalDate.MIN : medication.startDate();
-        LocalDate endDate = medication.endDate() == null ? LocalDate.MAX : medication.endDate();
-        return !(endDate.isBefore(weekStartDate) || startDate.isAfter(weekEndDate));
-    }
-
-    private boolean isActiveOnDate(MedicationJdbcRepository.MedicationData medication, LocalDate date) {
-        LocalDate startDate = medication.startDate() == null ? LocalDate.MIN : medication.startDate();
-        LocalDate endDate = medication.endDate() == null ? LocalDate.MAX : medication.endDate();
-        return !date.isBefore(startDate) && !date.isAfter(endDate);
-    }
-
     private WeeklyReportResponse toStoredResponse(ReportJdbcRepository.WeeklyReportData data) {
         Map<String, Object> metrics = readJsonObject(data.metricsJson());
         List<String> keywords = readJsonStringList(data.topKeywordsJson());
@@ -310,45 +267,15 @@ public class ReportService {
     }
 
     private Elder getOwnedElder(Long elderId) {
-        Elder elder = elderRepository.findById(elderId)
+        currentUserService.validateElderOwnership(elderId, "Report access denied");
+        return elderRepository.findById(elderId)
                 .orElseThrow(() -> new EntityNotFoundException("Elder not found"));
-        User user = getCurrentUser();
-        if (!elder.getUser().getId().equals(user.getId())) {
-            throw new AccessDeniedException("Report access denied");
-        }
-        return elder;
-    }
-
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null
-                || !authentication.isAuthenticated()
-                || authentication instanceof AnonymousAuthenticationToken) {
-            throw new AuthenticationCredentialsNotFoundException("User not authenticated");
-        }
-        if (hasRole(authentication, "ROLE_ROBOT")) {
-            throw new AccessDeniedException("Robot principal cannot access user ownership scope");
-        }
-
-        String principal = authentication.getName();
-        Optional<User> byEmail = userRepository.findByEmail(principal);
-        if (byEmail.isPresent()) {
-            return byEmail.get();
-        }
-
-        try {
-            long userId = Long.parseLong(principal);
-            return userRepository.findById(userId)
-                    .orElseThrow(() -> new EntityNotFoundException("User not found"));
-        } catch (NumberFormatException ex) {
-            throw new EntityNotFoundException("User not found");
-        }
     }
 
-    private boolean hasRole(Authentication authentication, String role) {
-        return authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(role::equals);
+    public record WeeklyReportBatchResult(
+            int generated,
+            int skipped
+    ) {
     }
 
     private record GeneratedWeeklyReport(
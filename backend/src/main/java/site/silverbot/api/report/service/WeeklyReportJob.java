@@ -0,0 +1,216 @@
+package site.silverbot.api.report.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import site.silverbot.api.report.repository.ReportJobRunJdbcRepository;
+import site.silverbot.api.report.repository.ReportJobRunJdbcRepository.JobRun;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.domain.report.ReportJobStatus;
+
+@Slf4j
+@Component
+public class WeeklyReportJob {
+    public static final String JOB_NAME = "WEEKLY_REPORT";
+    private static final Duration STALE_RUN_TIMEOUT = Duration.ofMinutes(30);
+
+    private final ReportService reportService;
+    private final ElderRepository elderRepository;
+    private final ReportJobRunJdbcRepository reportJobRunJdbcRepository;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final int workerCount;
+
+    public WeeklyReportJob(
+            ReportService reportService,
+            ElderRepository elderRepository,
+            ReportJobRunJdbcRepository reportJobRunJdbcRepository,
+            @Value("${app.report.batch.chunk-size:200}") int chunkSize,
+            @Value("${app.report.batch.workers:4}") int workerCount
+    ) {
+        this.reportService = reportService;
+        this.elderRepository = elderRepository;
+        this.reportJobRunJdbcRepository = reportJobRunJdbcRepository;
+        this.chunkSize = chunkSize;
+        this.workerCount = workerCount;
+        this.executor = new ThreadPoolExecutor(
+                workerCount,
+                workerCount,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount),
+                new CustomizableThreadFactory("weekly-report-worker-")
+        );
+    }
+
+    public Optional<JobRun> run(LocalDate requestedWeekStart) {
+        LocalDate weekStartDate = requestedWeekStart.with(DayOfWeek.MONDAY);
+        Optional<JobRun> acquired = acquire(weekStartDate, LocalDateTime.now());
+        if (acquired.isEmpty()) {
+            log.info("Weekly report job for {} is already running or completed", weekStartDate);
+            return reportJobRunJdbcRepository.find(JOB_NAME, weekStartDate);
+        }
+
+        JobRun run = acquired.get();
+        Progress progress = new Progress(run.processedCount(), run.skippedCount(), run.failedCount());
+        long startedAt = System.nanoTime();
+        long cursor = run.lastElderId();
+        try {
+            while (true) {
+                List<List<Long>> wave = nextWave(cursor);
+                if (wave.isEmpty()) {
+                    break;
+                }
+                List<Future<ChunkOutcome>> futures = new ArrayList<>();
+                for (List<Long> chunk : wave) {
+                    futures.add(executor.submit(() -> processChunk(chunk, weekStartDate)));
+                }
+                for (Future<ChunkOutcome> future : futures) {
+                    progress.add(future.get());
+                }
+
+                List<Long> lastChunk = wave.get(wave.size() - 1);
+                cursor = lastChunk.get(lastChunk.size() - 1);
+                double eldersPerSecond = progress.throughput(startedAt);
+                reportJobRunJdbcRepository.checkpoint(
+                        run.id(),
+                        cursor,
+                        progress.processed,
+                        progress.skipped,
+                        progress.failed,
+                        eldersPerSecond,
+                        LocalDateTime.now()
+                );
+                log.info("Weekly report job {} checkpoint at elder {}: {} processed, {} skipped, {} failed, {} elders/s",
+                        weekStartDate, cursor, progress.processed, progress.skipped, progress.failed,
+                        String.format("%.1f", eldersPerSecond));
+            }
+            reportJobRunJdbcRepository.finish(run.id(), ReportJobStatus.COMPLETED, null, LocalDateTime.now());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            reportJobRunJdbcRepository.finish(run.id(), ReportJobStatus.FAILED, ex.toString(), LocalDateTime.now());
+        } catch (ExecutionException | RuntimeException ex) {
+            log.warn("Weekly report job {} stopped at elder {}", weekStartDate, cursor, ex);
+            reportJobRunJdbcRepository.finish(run.id(), ReportJobStatus.FAILED, ex.toString(), LocalDateTime.now());
+        }
+        return reportJobRunJdbcRepository.find(JOB_NAME, weekStartDate);
+    }
+
+    public void resumeUnfinished() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(STALE_RUN_TIMEOUT);
+        for (JobRun run : reportJobRunJdbcRepository.findResumable(JOB_NAME, staleBefore)) {
+            log.info("Resuming weekly report job {} from elder {}", run.periodStart(), run.lastElderId());
+            run(run.periodStart());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Optional<JobRun> acquire(LocalDate weekStartDate, LocalDateTime now) {
+        if (reportJobRunJdbcRepository.insertRunning(JOB_NAME, weekStartDate, now)) {
+            return reportJobRunJdbcRepository.find(JOB_NAME, weekStartDate);
+        }
+        Optional<JobRun> existing = reportJobRunJdbcRepository.find(JOB_NAME, weekStartDate);
+        if (existing.isEmpty()
+                || !reportJobRunJdbcRepository.resume(existing.get().id(), now.minus(STALE_RUN_TIMEOUT), now)) {
+            return Optional.empty();
+        }
+        return reportJobRunJdbcRepository.find(JOB_NAME, weekStartDate);
+    }
+
+    private List<List<Long>> nextWave(long cursor) {
+        List<List<Long>> wave = new ArrayList<>();
+        long after = cursor;
+        while (wave.size() < workerCount) {
+            List<Long> chunk = elderRepository.findIdsAfter(after, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            wave.add(chunk);
+            after = chunk.get(chunk.size() - 1);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        return wave;
+    }
+
+    private ChunkOutcome processChunk(List<Long> elderIds, LocalDate weekStartDate) {
+        try {
+            ReportService.WeeklyReportBatchResult result = reportService.generateWeeklyReports(elderIds, weekStartDate);
+            return new ChunkOutcome(result.generated(), result.skipped(), 0);
+        } catch (RuntimeException ex) {
+            log.warn("Weekly report chunk {}..{} failed, retrying per elder",
+                    elderIds.get(0), elderIds.get(elderIds.size() - 1), ex);
+        }
+
+        int generated = 0;
+        int skipped = 0;
+        int failed = 0;
+        for (Long elderId : elderIds) {
+            try {
+                ReportService.WeeklyReportBatchResult result = reportService.generateWeeklyReports(
+                        List.of(elderId),
+                        weekStartDate
+                );
+                generated += result.generated();
+                skipped += result.skipped();
+            } catch (RuntimeException ex) {
+                failed++;
+                log.warn("Weekly report for elder {} failed", elderId, ex);
+            }
+        }
+        return new ChunkOutcome(generated, skipped, failed);
+    }
+
+    private record ChunkOutcome(
+            int generated,
+            int skipped,
+            int failed
+    ) {
+    }
+
+    private static final class Progress {
+        private final int initialTotal;
+        private int processed;
+        private int skipped;
+        private int failed;
+
+        private Progress(int processed, int skipped, int failed) {
+            this.processed = processed;
+            this.skipped = skipped;
+            this.failed = failed;
+            this.initialTotal = processed + skipped + failed;
+        }
+
+        private void add(ChunkOutcome outcome) {
+            processed += outcome.generated();
+            skipped += outcome.skipped();
+            failed += outcome.failed();
+        }
+
+        private double throughput(long startedAtNanos) {
+            double seconds = (System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+            int handled = processed + skipped + failed - initialTotal;
+            return seconds <= 0 ? handled : handled / seconds;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import site.silverbot.api.common.ApiResponse;
+import site.silverbot.api.robot.response.PatrolHistoryCursorResponse;
 import site.silverbot.api.robot.response.PatrolHistoryResponse;
 import site.silverbot.api.robot.response.PatrolLatestResponse;
 import site.silverbot.api.robot.service.PatrolService;
@@ -30,4 +31,13 @@ public class ElderPatrolController {
     ) {
         return ApiResponse.success(patrolService.getPatrolHistory(elderId, page, size));
     }
+
+    @GetMapping(value = "/history", params = "cursor")
+    public ApiResponse<PatrolHistoryCursorResponse> getHistoryByCursor(
+            @PathVariable Long elderId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ApiResponse.success(patrolService.getPatrolHistoryByCursor(elderId, cursor, size));
+    }
 }
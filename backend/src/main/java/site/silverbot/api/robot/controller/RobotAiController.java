@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.RestController;
 import site.silverbot.api.common.ApiResponse;
 import site.silverbot.api.robot.request.CreateConversationRequest;
 import site.silverbot.api.robot.request.CreateSearchResultRequest;
+import site.silverbot.api.robot.response.ConversationCursorResponse;
 import site.silverbot.api.robot.response.ConversationListResponse;
 import site.silverbot.api.robot.response.ConversationResponse;
+import site.silverbot.api.robot.response.SearchResultCursorResponse;
 import site.silverbot.api.robot.response.SearchResultListResponse;
 import site.silverbot.api.robot.response.SearchResultResponse;
 import site.silverbot.api.robot.service.RobotAiService;
@@ -33,6 +35,15 @@ public class RobotAiController {
         return ApiResponse.success(robotAiService.getConversations(robotId, page, size));
     }
 
+    @GetMapping(value = "/conversations", params = "cursor")
+    public ApiResponse<ConversationCursorResponse> getConversationsByCursor(
+            @PathVariable Long robotId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(robotAiService.getConversationsByCursor(robotId, cursor, size));
+    }
+
     @PostMapping("/conversations")
     public ApiResponse<ConversationResponse> createConversation(
             @PathVariable Long robotId,
@@ -50,6 +61,15 @@ public class RobotAiController {
         return ApiResponse.success(robotAiService.getSearchResults(robotId, page, size));
     }
 
+    @GetMapping(value = "/search-results", params = "cursor")
+    public ApiResponse<SearchResultCursorResponse> getSearchResultsByCursor(
+            @PathVariable Long robotId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(robotAiService.getSearchResultsByCursor(robotId, cursor, size));
+    }
+
     @PostMapping("/search-results")
     public ApiResponse<SearchResultResponse> createSearchResult(
             @PathVariable Long robotId,
@@ -8,7 +8,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 import site.silverbot.api.common.ApiResponse;
 import site.silverbot.api.robot.request.RobotCommandRequest;
 import site.silverbot.api.robot.request.ReportRobotEventsRequest;
@@ -22,6 +24,7 @@ import site.silverbot.api.robot.response.RobotLocationUpdateResponse;
 import site.silverbot.api.robot.response.RobotStatusResponse;
 import site.silverbot.api.robot.response.RobotSyncResponse;
 import site.silverbot.api.robot.response.UpdateRobotLcdModeResponse;
+import site.silverbot.api.robot.service.RobotCommandDeliveryService;
 import site.silverbot.api.robot.service.RobotCommandService;
 import site.silverbot.api.robot.service.RobotEventService;
 import site.silverbot.api.robot.service.RobotService;
@@ -32,6 +35,7 @@ import site.silverbot.api.robot.service.RobotService;
 public class RobotController {
     private final RobotService robotService;
     private final RobotCommandService robotCommandService;
+    private final RobotCommandDeliveryService robotCommandDeliveryService;
     private final RobotEventService robotEventService;
 
     @GetMapping("/{robotId}/status")
@@ -55,6 +59,14 @@ public class RobotController {
         return ApiResponse.success(robotService.sync(robotId, request));
     }
 
+    @GetMapping("/{robotId}/commands/pending")
+    public DeferredResult<ApiResponse<RobotSyncResponse>> awaitPendingCommands(
+            @PathVariable Long robotId,
+            @RequestParam(defaultValue = "30000") long timeoutMs
+    ) {
+        return robotCommandDeliveryService.awaitPendingCommands(robotId, timeoutMs);
+    }
+
     @PutMapping("/{robotId}/location")
     public ApiResponse<RobotLocationUpdateResponse> updateLocation(
             @PathVariable Long robotId,
@@ -0,0 +1,15 @@
+package site.silverbot.api.robot.model;
+
+public record BufferedTelemetry(
+        Long robotId,
+        RobotTelemetry telemetry,
+        long telemetryVersion
+) {
+    public BufferedTelemetry merge(BufferedTelemetry newer) {
+        return new BufferedTelemetry(
+                robotId,
+                telemetry.merge(newer.telemetry),
+                Math.max(telemetryVersion, newer.telemetryVersion)
+        );
+    }
+}
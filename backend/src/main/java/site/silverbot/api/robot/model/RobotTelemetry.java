@@ -0,0 +1,80 @@
+package site.silverbot.api.robot.model;
+
+import java.time.LocalDateTime;
+
+import site.silverbot.domain.robot.LcdEmotion;
+import site.silverbot.domain.robot.LcdMode;
+import site.silverbot.domain.robot.Robot;
+
+public record RobotTelemetry(
+        Integer batteryLevel,
+        Boolean isCharging,
+        String currentLocation,
+        Float currentX,
+        Float currentY,
+        Integer currentHeading,
+        LcdMode lcdMode,
+        LcdEmotion lcdEmotion,
+        String lcdMessage,
+        String lcdSubMessage,
+        Integer dispenserRemaining,
+        LocalDateTime lastSyncAt,
+        boolean lcdTextPresent
+) {
+    public static RobotTelemetry from(Robot robot) {
+        return new RobotTelemetry(
+                robot.getBatteryLevel(),
+                robot.getIsCharging(),
+                robot.getCurrentLocation(),
+                robot.getCurrentX(),
+                robot.getCurrentY(),
+                robot.getCurrentHeading(),
+                robot.getLcdMode(),
+                robot.getLcdEmotion(),
+                robot.getLcdMessage(),
+                robot.getLcdSubMessage(),
+                robot.getDispenserRemaining(),
+                robot.getLastSyncAt(),
+                false
+        );
+    }
+
+    public RobotTelemetry merge(RobotTelemetry newer) {
+        if (newer == null) {
+            return this;
+        }
+        return new RobotTelemetry(
+                pick(newer.batteryLevel, batteryLevel),
+                pick(newer.isCharging, isCharging),
+                pick(newer.currentLocation, currentLocation),
+                pick(newer.currentX, currentX),
+                pick(newer.currentY, currentY),
+                pick(newer.currentHeading, currentHeading),
+                pick(newer.lcdMode, lcdMode),
+                pick(newer.lcdEmotion, lcdEmotion),
+                newer.lcdTextPresent ? newer.lcdMessage : lcdMessage,
+                newer.lcdTextPresent ? newer.lcdSubMessage : lcdSubMessage,
+                pick(newer.dispenserRemaining, dispenserRemaining),
+                pick(newer.lastSyncAt, lastSyncAt),
+                lcdTextPresent || newer.lcdTextPresent
+        );
+    }
+
+    public void applyTo(Robot robot) {
+        robot.updateBatteryLevel(batteryLevel);
+        robot.updateCharging(isCharging);
+        robot.updateLocation(currentLocation, currentX, currentY, currentHeading);
+        robot.updateLcdState(lcdMode, lcdEmotion, lcdMessage, lcdSubMessage);
+        if (lcdTextPresent) {
+            robot.replaceLcdText(lcdMessage, lcdSubMessage);
+        }
+        robot.updateDispenserRemaining(dispenserRemaining);
+        if (lastSyncAt != null) {
+            robot.updateLastSyncAt(lastSyncAt);
+        }
+    }
+
+    private static <T> T pick(T newer, T current) {
+        return newer != null ? newer : current;
+    }
+}
@@ -0,0 +1,284 @@
+package site.silverbot.api.robot.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import site.silverbot.domain.robot.RobotEventEffectType;
+import site.silverbot.domain.robot.RobotEventOutboxStatus;
+
+@Repository
+@RequiredArgsConstructor
+public class RobotEventOutboxJdbcRepository {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public int[] batchInsert(List<NewOutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return new int[0];
+        }
+        String sql = """
+                INSERT INTO robot_event_outbox (elder_id, robot_id, effect_type, medication_id, activity_type, user_id, location, message, occurred_at, status, attempts, created_at)
+                VALUES (:elderId, :robotId, :effectType, :medicationId, :activityType, :userId, :location, :message, :occurredAt, :status, 0, CURRENT_TIMESTAMP)
+                """;
+        SqlParameterSource[] batch = entries.stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("elderId", entry.elderId())
+                        .addValue("robotId", entry.robotId())
+                        .addValue("effectType", entry.effectType().name())
+                        .addValue("medicationId", entry.medicationId(), Types.BIGINT)
+                        .addValue("activityType", entry.activityType(), Types.VARCHAR)
+                        .addValue("userId", entry.userId(), Types.BIGINT)
+                        .addValue("location", entry.location(), Types.VARCHAR)
+                        .addValue("message", entry.message(), Types.VARCHAR)
+                        .addValue("occurredAt", entry.occurredAt(), Types.TIMESTAMP)
+                        .addValue("status", RobotEventOutboxStatus.PENDING.name()))
+                .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(sql, batch);
+    }
+
+    public List<OutboxEntry> claimPending(int limit, LocalDateTime now) {
+        String candidateSql = """
+                SELECT DISTINCT elder_id
+                FROM (
+                    SELECT elder_id
+                    FROM robot_event_outbox
+                    WHERE status = :pending
+                    ORDER BY id
+                    LIMIT :limit
+                ) candidates
+                """;
+        List<Long> elderIds = jdbcTemplate.queryForList(
+                candidateSql,
+                new MapSqlParameterSource()
+                        .addValue("pending", RobotEventOutboxStatus.PENDING.name())
+                        .addValue("limit", limit),
+                Long.class
+        );
+        if (elderIds.isEmpty()) {
+            return List.of();
+        }
+        String lockSql = """
+                SELECT id
+                FROM elder
+                WHERE id IN (:elderIds)
+                ORDER BY id
+                FOR UPDATE
+                """;
+        jdbcTemplate.queryForList(lockSql, Map.of("elderIds", elderIds), Long.class);
+
+        String claimToken = UUID.randomUUID().toString();
+        String claimSql = """
+                UPDATE robot_event_outbox
+                SET status = :processing,
+                    claim_token = :claimToken,
+                    claimed_at = :now
+                WHERE status = :pending
+                  AND id IN (
+                      SELECT candidate.id
+                      FROM robot_event_outbox candidate
+                      WHERE candidate.status = :pending
+                        AND candidate.elder_id IN (:elderIds)
+                        AND NOT EXISTS (
+                            SELECT 1
+                            FROM robot_event_outbox in_flight
+                            WHERE in_flight.elder_id = candidate.elder_id
+                              AND in_flight.status = :processing
+                        )
+                      ORDER BY candidate.id
+                      LIMIT :limit
+                  )
+                """;
+        int claimed = jdbcTemplate.update(
+                claimSql,
+                new MapSqlParameterSource()
+                        .addValue("processing", RobotEventOutboxStatus.PROCESSING.name())
+                        .addValue("pending", RobotEventOutboxStatus.PENDING.name())
+                        .addValue("claimToken", claimToken)
+                        .addValue("now", now)
+                        .addValue("elderIds", elderIds)
+                        .addValue("limit", limit)
+        );
+        if (claimed == 0) {
+            return List.of();
+        }
+
+        String selectSql = """
+                SELECT id, elder_id, robot_id, effect_type, medication_id, activity_type, user_id, location, message, occurred_at, attempts, created_at
+                FROM robot_event_outbox
+                WHERE claim_token = :claimToken
+                ORDER BY id
+                """;
+        return jdbcTemplate.query(selectSql, Map.of("claimToken", claimToken), outboxMapper());
+    }
+
+    public void markDone(Collection<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String sql = """
+                UPDATE robot_event_outbox
+                SET status = :status,
+                    processed_at = :now,
+                    claim_token = NULL
+                WHERE id IN (:ids)
+                """;
+        jdbcTemplate.update(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("status", RobotEventOutboxStatus.DONE.name())
+                        .addValue("now", now)
+        );
+    }
+
+    public void markFailed(Long id, int attempts, boolean retryable, String error) {
+        String sql = """
+                UPDATE robot_event_outbox
+                SET status = :status,
+                    attempts = :attempts,
+                    last_error = :error,
+                    claim_token = NULL
+                WHERE id = :id
+                """;
+        RobotEventOutboxStatus status = retryable ? RobotEventOutboxStatus.PENDING : RobotEventOutboxStatus.FAILED;
+        jdbcTemplate.update(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("id", id)
+                        .addValue("status", status.name())
+                        .addValue("attempts", attempts)
+                        .addValue("error", truncate(error), Types.VARCHAR)
+        );
+    }
+
+    public int release(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String sql = """
+                UPDATE robot_event_outbox
+                SET status = :pending,
+                    claim_token = NULL
+                WHERE id IN (:ids)
+                  AND status = :processing
+                """;
+        return jdbcTemplate.update(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("ids", ids)
+                        .addValue("pending", RobotEventOutboxStatus.PENDING.name())
+                        .addValue("processing", RobotEventOutboxStatus.PROCESSING.name())
+        );
+    }
+
+    public int releaseStale(LocalDateTime claimedBefore) {
+        String sql = """
+                UPDATE robot_event_outbox
+                SET status = :pending,
+                    claim_token = NULL
+                WHERE status = :processing
+                  AND claimed_at < :claimedBefore
+                """;
+        return jdbcTemplate.update(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("pending", RobotEventOutboxStatus.PENDING.name())
+                        .addValue("processing", RobotEventOutboxStatus.PROCESSING.name())
+                        .addValue("claimedBefore", claimedBefore)
+        );
+    }
+
+    public int deleteProcessedBefore(LocalDateTime processedBefore, int limit) {
+        String sql = """
+                DELETE FROM robot_event_outbox
+                WHERE id IN (
+                    SELECT id
+                    FROM robot_event_outbox
+                    WHERE status = :done
+                      AND processed_at < :processedBefore
+                    ORDER BY id
+                    LIMIT :limit
+                )
+                """;
+        return jdbcTemplate.update(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("done", RobotEventOutboxStatus.DONE.name())
+                        .addValue("processedBefore", processedBefore)
+                        .addValue("limit", limit)
+        );
+    }
+
+    private RowMapper<OutboxEntry> outboxMapper() {
+        return (rs, rowNum) -> new OutboxEntry(
+                rs.getLong("id"),
+                rs.getLong("elder_id"),
+                rs.getLong("robot_id"),
+                RobotEventEffectType.valueOf(rs.getString("effect_type")),
+                rs.getObject("medication_id", Long.class),
+                rs.getString("activity_type"),
+                rs.getObject("user_id", Long.class),
+                rs.getString("location"),
+                rs.getString("message"),
+                getLocalDateTime(rs, "occurred_at"),
+                rs.getInt("attempts"),
+                getLocalDateTime(rs, "created_at")
+        );
+    }
+
+    private LocalDateTime getLocalDateTime(ResultSet rs, String columnName) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(columnName);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private String truncate(String value) {
+        if (value == null || value.length() <= MAX_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    public record NewOutboxEntry(
+            Long elderId,
+            Long robotId,
+            RobotEventEffectType effectType,
+            Long medicationId,
+            String activityType,
+            Long userId,
+            String location,
+            String message,
+            LocalDateTime occurredAt
+    ) {
+    }
+
+    public record OutboxEntry(
+            Long id,
+            Long elderId,
+            Long robotId,
+            RobotEventEffectType effectType,
+            Long medicationId,
+            String activityType,
+            Long userId,
+            String location,
+            String message,
+            LocalDateTime occurredAt,
+            int attempts,
+            LocalDateTime createdAt
+    ) {
+    }
+}
@@ -0,0 +1,165 @@
+package site.silverbot.api.robot.repository;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RobotLcdEventJdbcRepository {
+    private static final Set<String> NON_POSTGRES_CAST_SQL_STATES = Set.of(
+            "HY004",
+            "22018",
+            "42S22"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public int[] batchInsert(List<NewLcdEvent> events) {
+        if (events.isEmpty()) {
+            return new int[0];
+        }
+        String sql = """
+                INSERT INTO robot_lcd_event (robot_id, elder_id, client_event_id, event_type, event_action, medication_id, location, confidence, payload, occurred_at, created_at)
+                VALUES (:robotId, :elderId, :clientEventId, :eventType, :eventAction, :medicationId, :location, :confidence, CAST(:payload AS jsonb), :occurredAt, CURRENT_TIMESTAMP)
+                """;
+        String fallbackSql = """
+                INSERT INTO robot_lcd_event (robot_id, elder_id, client_event_id, event_type, event_action, medication_id, location, confidence, payload, occurred_at, created_at)
+                VALUES (:robotId, :elderId, :clientEventId, :eventType, :eventAction, :medicationId, :location, :confidence, :payload, :occurredAt, CURRENT_TIMESTAMP)
+                """;
+        SqlParameterSource[] batch = events.stream()
+                .map(this::toParams)
+                .toArray(SqlParameterSource[]::new);
+        claimClientEventIds(events);
+
+        try {
+            return jdbcTemplate.batchUpdate(sql, batch);
+        } catch (DataAccessException ex) {
+            if (!isUnsupportedTypeCast(ex, "jsonb")) {
+                throw ex;
+            }
+            return jdbcTemplate.batchUpdate(fallbackSql, batch);
+        }
+    }
+
+    public Set<String> findExistingClientEventIds(Long robotId, Collection<String> clientEventIds) {
+        if (clientEventIds.isEmpty()) {
+            return Set.of();
+        }
+        String sql = """
+                SELECT client_event_id
+                FROM robot_lcd_event_client_event
+                WHERE robot_id = :robotId
+                  AND client_event_id IN (:clientEventIds)
+                """;
+        return new HashSet<>(jdbcTemplate.queryForList(
+                sql,
+                new MapSqlParameterSource()
+                        .addValue("robotId", robotId)
+                        .addValue("clientEventIds", clientEventIds),
+                String.class
+        ));
+    }
+
+    private void claimClientEventIds(List<NewLcdEvent> events) {
+        SqlParameterSource[] keys = events.stream()
+                .filter(event -> event.clientEventId() != null)
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("robotId", event.robotId())
+                        .addValue("clientEventId", event.clientEventId()))
+                .toArray(SqlParameterSource[]::new);
+        if (keys.length == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO robot_lcd_event_client_event (robot_id, client_event_id, created_at)
+                VALUES (:robotId, :clientEventId, CURRENT_TIMESTAMP)
+                """, keys);
+    }
+
+    private MapSqlParameterSource toParams(NewLcdEvent event) {
+        return new MapSqlParameterSource()
+                .addValue("robotId", event.robotId())
+                .addValue("elderId", event.elderId(), Types.BIGINT)
+                .addValue("clientEventId", event.clientEventId(), Types.VARCHAR)
+                .addValue("eventType", event.eventType())
+                .addValue("eventAction", event.eventAction(), Types.VARCHAR)
+                .addValue("medicationId", event.medicationId(), Types.BIGINT)
+                .addValue("location", event.location(), Types.VARCHAR)
+                .addValue("confidence", event.confidence(), Types.REAL)
+                .addValue("payload", event.payload(), Types.VARCHAR)
+                .addValue("occurredAt", event.occurredAt(), Types.TIMESTAMP);
+    }
+
+    private boolean isUnsupportedTypeCast(DataAccessException ex, String typeName) {
+        String sqlState = findSqlState(ex);
+        if (sqlState != null) {
+            if (isPostgresSqlState(sqlState)) {
+                return false;
+            }
+            if (NON_POSTGRES_CAST_SQL_STATES.contains(sqlState)) {
+                return true;
+            }
+        }
+
+        String message = ex.getMessage();
+        if (message == null) {
+            return false;
+        }
+        String normalized = message.toLowerCase(Locale.ROOT);
+        String targetType = typeName.toLowerCase(Locale.ROOT);
+        return normalized.contains(targetType)
+                && (normalized.contains("unknown")
+                || normalized.contains("not found")
+                || normalized.contains("cannot cast")
+                || normalized.contains("data conversion"));
+    }
+
+    private String findSqlState(DataAccessException ex) {
+        Throwable current = ex;
+        while (current != null) {
+            if (current instanceof SQLException sqlException) {
+                String sqlState = sqlException.getSQLState();
+                if (sqlState != null && !sqlState.isBlank()) {
+                    return sqlState;
+                }
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    private boolean isPostgresSqlState(String sqlState) {
+        return sqlState.startsWith("22P")
+                || sqlState.startsWith("23P")
+                || sqlState.startsWith("42P")
+                || "42704".equals(sqlState)
+                || "42846".equals(sqlState);
+    }
+
+    public record NewLcdEvent(
+            Long robotId,
+            Long elderId,
+            String clientEventId,
+            String eventType,
+            String eventAction,
+            Long medicationId,
+            String location,
+            Float confidence,
+            String payload,
+            LocalDateTime occurredAt
+    ) {
+    }
+}
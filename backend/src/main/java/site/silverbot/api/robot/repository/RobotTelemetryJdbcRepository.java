@@ -0,0 +1,151 @@
+package site.silverbot.api.robot.repository;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import site.silverbot.api.robot.model.BufferedTelemetry;
+import site.silverbot.api.robot.model.RobotTelemetry;
+
+@Repository
+@RequiredArgsConstructor
+public class RobotTelemetryJdbcRepository {
+    private static final Set<String> NON_POSTGRES_CAST_SQL_STATES = Set.of(
+            "HY004",
+            "22018",
+            "42S22"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public int[] batchUpdate(Collection<BufferedTelemetry> bufferedTelemetry) {
+        if (bufferedTelemetry.isEmpty()) {
+            return new int[0];
+        }
+        String sql = """
+                UPDATE robot
+                SET battery_level = COALESCE(:batteryLevel, battery_level),
+                    is_charging = COALESCE(:isCharging, is_charging),
+                    current_location = COALESCE(:currentLocation, current_location),
+                    current_x = COALESCE(:currentX, current_x),
+                    current_y = COALESCE(:currentY, current_y),
+                    current_heading = COALESCE(:currentHeading, current_heading),
+                    lcd_mode = COALESCE(CAST(:lcdMode AS lcd_mode), lcd_mode),
+                    lcd_emotion = COALESCE(CAST(:lcdEmotion AS lcd_emotion), lcd_emotion),
+                    lcd_message = CASE WHEN :lcdTextPresent THEN :lcdMessage ELSE lcd_message END,
+                    lcd_sub_message = CASE WHEN :lcdTextPresent THEN :lcdSubMessage ELSE lcd_sub_message END,
+                    dispenser_remaining = COALESCE(:dispenserRemaining, dispenser_remaining),
+                    last_sync_at = COALESCE(:lastSyncAt, last_sync_at),
+                    updated_at = CURRENT_TIMESTAMP
+                WHERE id = :id
+                  AND telemetry_version = :telemetryVersion
+                  AND (:lastSyncAt IS NULL OR last_sync_at IS NULL OR last_sync_at <= :lastSyncAt)
+                """;
+        String fallbackSql = """
+                UPDATE robot
+                SET battery_level = COALESCE(:batteryLevel, battery_level),
+                    is_charging = COALESCE(:isCharging, is_charging),
+                    current_location = COALESCE(:currentLocation, current_location),
+                    current_x = COALESCE(:currentX, current_x),
+                    current_y = COALESCE(:currentY, current_y),
+                    current_heading = COALESCE(:currentHeading, current_heading),
+                    lcd_mode = COALESCE(:lcdMode, lcd_mode),
+                    lcd_emotion = COALESCE(:lcdEmotion, lcd_emotion),
+                    lcd_message = CASE WHEN :lcdTextPresent THEN :lcdMessage ELSE lcd_message END,
+                    lcd_sub_message = CASE WHEN :lcdTextPresent THEN :lcdSubMessage ELSE lcd_sub_message END,
+                    dispenser_remaining = COALESCE(:dispenserRemaining, dispenser_remaining),
+                    last_sync_at = COALESCE(:lastSyncAt, last_sync_at),
+                    updated_at = CURRENT_TIMESTAMP
+                WHERE id = :id
+                  AND telemetry_version = :telemetryVersion
+                  AND (:lastSyncAt IS NULL OR last_sync_at IS NULL OR last_sync_at <= :lastSyncAt)
+                """;
+        SqlParameterSource[] batch = bufferedTelemetry.stream()
+                .map(this::toParams)
+                .toArray(SqlParameterSource[]::new);
+
+        try {
+            return jdbcTemplate.batchUpdate(sql, batch);
+        } catch (DataAccessException ex) {
+            if (!isUnsupportedTypeCast(ex, "lcd_mode") && !isUnsupportedTypeCast(ex, "lcd_emotion")) {
+                throw ex;
+            }
+            return jdbcTemplate.batchUpdate(fallbackSql, batch);
+        }
+    }
+
+    private MapSqlParameterSource toParams(BufferedTelemetry buffered) {
+        RobotTelemetry telemetry = buffered.telemetry();
+        return new MapSqlParameterSource()
+                .addValue("id", buffered.robotId())
+                .addValue("telemetryVersion", buffered.telemetryVersion())
+                .addValue("batteryLevel", telemetry.batteryLevel(), Types.INTEGER)
+                .addValue("isCharging", telemetry.isCharging(), Types.BOOLEAN)
+                .addValue("currentLocation", telemetry.currentLocation(), Types.VARCHAR)
+                .addValue("currentX", telemetry.currentX(), Types.REAL)
+                .addValue("currentY", telemetry.currentY(), Types.REAL)
+                .addValue("currentHeading", telemetry.currentHeading(), Types.INTEGER)
+                .addValue("lcdMode", telemetry.lcdMode() == null ? null : telemetry.lcdMode().name(), Types.VARCHAR)
+                .addValue("lcdEmotion", telemetry.lcdEmotion() == null ? null : telemetry.lcdEmotion().name(), Types.VARCHAR)
+                .addValue("lcdMessage", telemetry.lcdMessage(), Types.VARCHAR)
+                .addValue("lcdSubMessage", telemetry.lcdSubMessage(), Types.VARCHAR)
+                .addValue("lcdTextPresent", telemetry.lcdTextPresent(), Types.BOOLEAN)
+                .addValue("dispenserRemaining", telemetry.dispenserRemaining(), Types.INTEGER)
+                .addValue("lastSyncAt", telemetry.lastSyncAt(), Types.TIMESTAMP);
+    }
+
+    private boolean isUnsupportedTypeCast(DataAccessException ex, String typeName) {
+        String sqlState = findSqlState(ex);
+        if (sqlState != null) {
+            if (isPostgresSqlState(sqlState)) {
+                return false;
+            }
+            if (NON_POSTGRES_CAST_SQL_STATES.contains(sqlState)) {
+                return true;
+            }
+        }
+
+        String message = ex.getMessage();
+        if (message == null) {
+            return false;
+        }
+        String normalized = message.toLowerCase(Locale.ROOT);
+        String targetType = typeName.toLowerCase(Locale.ROOT);
+        return normalized.contains(targetType)
+                && (normalized.contains("unknown")
+                || normalized.contains("not found")
+                || normalized.contains("cannot cast")
+                || normalized.contains("data conversion"));
+    }
+
+    private String findSqlState(DataAccessException ex) {
+        Throwable current = ex;
+        while (current != null) {
+            if (current instanceof SQLException sqlException) {
+                String sqlState = sqlException.getSQLState();
+                if (sqlState != null && !sqlState.isBlank()) {
+                    return sqlState;
+                }
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    private boolean isPostgresSqlState(String sqlState) {
+        return sqlState.startsWith("22P")
+                || sqlState.startsWith("23P")
+                || sqlState.startsWith("42P")
+                || "42704".equals(sqlState)
+                || "42846".equals(sqlState);
+    }
+}
@@ -16,6 +16,9 @@ public record ReportRobotEventsRequest(
         List<@Valid RobotEventRequest> events
 ) {
     public record RobotEventRequest(
+            @Size(max = 64)
+            String eventId,
+
             @NotBlank
             @Size(max = 40)
             String type,
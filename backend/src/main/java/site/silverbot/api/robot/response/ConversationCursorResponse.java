@@ -0,0 +1,11 @@
+package site.silverbot.api.robot.response;
+
+import java.util.List;
+
+public record ConversationCursorResponse(
+        List<ConversationResponse> conversations,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
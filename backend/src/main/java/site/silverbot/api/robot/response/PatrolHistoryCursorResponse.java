@@ -0,0 +1,11 @@
+package site.silverbot.api.robot.response;
+
+import java.util.List;
+
+public record PatrolHistoryCursorResponse(
+        List<PatrolHistoryEntryResponse> patrols,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -5,6 +5,7 @@ import java.time.OffsetDateTime;
 public record RobotEventsReportResponse(
         boolean received,
         int processedCount,
+        int duplicateCount,
         int medicationTakenCount,
         int medicationDeferredCount,
         OffsetDateTime serverTime
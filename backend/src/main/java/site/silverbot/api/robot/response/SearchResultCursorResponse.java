@@ -0,0 +1,11 @@
+package site.silverbot.api.robot.response;
+
+import java.util.List;
+
+public record SearchResultCursorResponse(
+        List<SearchResultResponse> results,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
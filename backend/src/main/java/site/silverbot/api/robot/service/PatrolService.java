@@ -3,6 +3,8 @@ package site.silverbot.api.robot.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +19,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import site.silverbot.api.common.Cursor;
+import site.silverbot.api.common.CursorSlice;
 import site.silverbot.api.common.service.CurrentUserService;
 import site.silverbot.api.robot.request.ReportPatrolRequest;
+import site.silverbot.api.robot.response.PatrolHistoryCursorResponse;
 import site.silverbot.api.robot.response.PatrolHistoryEntryResponse;
 import site.silverbot.api.robot.response.PatrolHistoryResponse;
 import site.silverbot.api.robot.response.PatrolItemResponse;
@@ -27,8 +32,8 @@ import site.silverbot.api.robot.response.PatrolReportResponse;
 import site.silverbot.api.robot.response.PatrolSnapshotListResponse;
 import site.silverbot.api.robot.response.PatrolSnapshotResponse;
 import site.silverbot.domain.elder.Elder;
-import site.silverbot.domain.elder.ElderRepository;
 import site.silverbot.domain.patrol.PatrolItem;
+import site.silverbot.domain.patrol.PatrolItemRepository;
 import site.silverbot.domain.patrol.PatrolItemStatus;
 import site.silverbot.domain.patrol.PatrolOverallStatus;
 import site.silverbot.domain.patrol.PatrolResult;
@@ -37,7 +42,6 @@ import site.silverbot.domain.patrol.PatrolSnapshot;
 import site.silverbot.domain.patrol.PatrolSnapshotRepository;
 import site.silverbot.domain.robot.Robot;
 import site.silverbot.domain.robot.RobotRepository;
-import site.silverbot.domain.user.User;
 
 @Service
 @RequiredArgsConstructor
@@ -46,15 +50,15 @@ public class PatrolService {
     private static final int MAX_PAGE_SIZE = 100;
 
     private final PatrolResultRepository patrolResultRepository;
+    private final PatrolItemRepository patrolItemRepository;
     private final PatrolSnapshotRepository patrolSnapshotRepository;
     private final RobotRepository robotRepository;
-    private final ElderRepository elderRepository;
     private final CurrentUserService currentUserService;
 
     @Transactional(readOnly = true)
     public PatrolLatestResponse getLatestPatrol(Long elderId) {
         validateUserPrincipalForElderRead();
-        getOwnedElder(elderId);
+        currentUserService.validateElderOwnership(elderId, "Patrol access denied");
 
         PatrolResult patrolResult = patrolResultRepository.findTopByElderIdOrderByCompletedAtDescIdDesc(elderId)
                 .orElse(null);
@@ -67,14 +71,14 @@ public class PatrolService {
                 patrolResult.getPatrolId(),
                 patrolResult.getOverallStatus(),
                 patrolResult.getCompletedAt(),
-                patrolResult.getItems().stream().map(this::toItemResponse).toList()
+                loadItems(List.of(patrolResult)).getOrDefault(patrolResult.getId(), List.of())
         );
     }
 
     @Transactional(readOnly = true)
     public PatrolHistoryResponse getPatrolHistory(Long elderId, int page, int size) {
         validateUserPrincipalForElderRead();
-        getOwnedElder(elderId);
+        currentUserService.validateElderOwnership(elderId, "Patrol access denied");
         validatePage(page, size);
 
         Page<PatrolResult> patrolPage = patrolResultRepository.findByElderIdOrderByCompletedAtDescIdDesc(
@@ -82,12 +86,8 @@ public class PatrolService {
                 PageRequest.of(page, size)
         );
 
-        List<PatrolHistoryEntryResponse> responses = patrolPage.getContent().stream()
-                .map(this::toHistoryEntry)
-                .toList();
-
         return new PatrolHistoryResponse(
-                responses,
+                toHistoryEntries(patrolPage.getContent()),
                 patrolPage.getNumber(),
                 patrolPage.getSize(),
                 patrolPage.getTotalElements(),
@@ -96,6 +96,32 @@ public class PatrolService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public PatrolHistoryCursorResponse getPatrolHistoryByCursor(Long elderId, String cursor, int size) {
+        validateUserPrincipalForElderRead();
+        currentUserService.validateElderOwnership(elderId, "Patrol access denied");
+        validatePage(0, size);
+
+        Cursor after = Cursor.decode(cursor);
+        CursorSlice<PatrolResult> slice = CursorSlice.of(
+                patrolResultRepository.findByElderIdBefore(
+                        elderId,
+                        after.sortKey(),
+                        after.id(),
+                        CursorSlice.limit(size)
+                ),
+                size,
+                patrolResult -> Cursor.of(patrolResult.getCompletedAt(), patrolResult.getId())
+        );
+
+        return new PatrolHistoryCursorResponse(
+                toHistoryEntries(slice.content()),
+                size,
+                slice.hasNext(),
+                slice.nextCursor()
+        );
+    }
+
     @Transactional(readOnly = true)
     public PatrolSnapshotListResponse getPatrolSnapshots(String patrolId) {
         validateUserPrincipalForElderRead();
@@ -176,15 +202,30 @@ public class PatrolService {
         return toReportResponse(saved);
     }
 
-    private PatrolHistoryEntryResponse toHistoryEntry(PatrolResult patrolResult) {
-        return new PatrolHistoryEntryResponse(
-                patrolResult.getId(),
-                patrolResult.getPatrolId(),
-                patrolResult.getOverallStatus(),
-                patrolResult.getStartedAt(),
-                patrolResult.getCompletedAt(),
-                patrolResult.getItems().stream().map(this::toItemResponse).toList()
-        );
+    private List<PatrolHistoryEntryResponse> toHistoryEntries(List<PatrolResult> patrolResults) {
+        Map<Long, List<PatrolItemResponse>> itemsByResultId = loadItems(patrolResults);
+        return patrolResults.stream()
+                .map(patrolResult -> new PatrolHistoryEntryResponse(
+                        patrolResult.getId(),
+                        patrolResult.getPatrolId(),
+                        patrolResult.getOverallStatus(),
+                        patrolResult.getStartedAt(),
+                        patrolResult.getCompletedAt(),
+                        itemsByResultId.getOrDefault(patrolResult.getId(), List.of())
+                ))
+                .toList();
+    }
+
+    private Map<Long, List<PatrolItemResponse>> loadItems(List<PatrolResult> patrolResults) {
+        if (patrolResults.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> patrolResultIds = patrolResults.stream().map(PatrolResult::getId).toList();
+        return patrolItemRepository.findAllByPatrolResultIdIn(patrolResultIds).stream()
+                .collect(Collectors.groupingBy(
+                        item -> item.getPatrolResult().getId(),
+                        Collectors.mapping(this::toItemResponse, Collectors.toList())
+                ));
     }
 
     private PatrolItemResponse toItemResponse(PatrolItem item) {
@@ -278,21 +319,11 @@ public class PatrolService {
         return elder;
     }
 
-    private Elder getOwnedElder(Long elderId) {
-        Elder elder = elderRepository.findById(elderId)
-                .orElseThrow(() -> new EntityNotFoundException("Elder not found"));
-        User user = currentUserService.getCurrentUser();
-        if (elder.getUser() == null || !elder.getUser().getId().equals(user.getId())) {
-            throw new AccessDeniedException("Patrol access denied");
-        }
-        return elder;
-    }
-
     private void validateElderOwnership(Elder elder) {
-        User user = currentUserService.getCurrentUser();
-        if (elder == null || elder.getUser() == null || !elder.getUser().getId().equals(user.getId())) {
+        if (elder == null) {
             throw new AccessDeniedException("Patrol access denied");
         }
+        currentUserService.validateElderOwnership(elder.getId(), "Patrol access denied");
     }
 
     private void validateUserPrincipalForElderRead() {
@@ -323,11 +354,8 @@ public class PatrolService {
             return;
         }
 
-        User user = currentUserService.getCurrentUser();
         Elder elder = requireRobotElder(robot);
-        if (elder.getUser() == null || !elder.getUser().getId().equals(user.getId())) {
-            throw new AccessDeniedException("Patrol access denied");
-        }
+        currentUserService.validateElderOwnership(elder.getId(), "Patrol access denied");
     }
 
     private boolean hasRole(Authentication authentication, String role) {
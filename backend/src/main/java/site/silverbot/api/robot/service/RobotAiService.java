@@ -19,11 +19,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import site.silverbot.api.common.Cursor;
+import site.silverbot.api.common.CursorSlice;
 import site.silverbot.api.common.service.CurrentUserService;
 import site.silverbot.api.robot.request.CreateConversationRequest;
 import site.silverbot.api.robot.request.CreateSearchResultRequest;
+import site.silverbot.api.robot.response.ConversationCursorResponse;
 import site.silverbot.api.robot.response.ConversationListResponse;
 import site.silverbot.api.robot.response.ConversationResponse;
+import site.silverbot.api.robot.response.SearchResultCursorResponse;
 import site.silverbot.api.robot.response.SearchResultListResponse;
 import site.silverbot.api.robot.response.SearchResultResponse;
 import site.silverbot.domain.conversation.Conversation;
@@ -90,6 +94,26 @@ public class RobotAiService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public ConversationCursorResponse getConversationsByCursor(Long robotId, String cursor, int size) {
+        validatePage(0, size);
+        getAccessibleRobot(robotId, true);
+
+        Cursor after = Cursor.decode(cursor);
+        CursorSlice<Conversation> slice = CursorSlice.of(
+                conversationRepository.findByRobotIdBefore(robotId, after.sortKey(), after.id(), CursorSlice.limit(size)),
+                size,
+                conversation -> Cursor.of(conversation.getRecordedAt(), conversation.getId())
+        );
+
+        return new ConversationCursorResponse(
+                slice.content().stream().map(this::toConversationResponse).toList(),
+                size,
+                slice.hasNext(),
+                slice.nextCursor()
+        );
+    }
+
     public SearchResultResponse createSearchResult(Long robotId, CreateSearchResultRequest request) {
         Robot robot = getAccessibleRobot(robotId, true);
         Elder elder = requireRobotElder(robot);
@@ -146,6 +170,26 @@ public class RobotAiService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public SearchResultCursorResponse getSearchResultsByCursor(Long robotId, String cursor, int size) {
+        validatePage(0, size);
+        getAccessibleRobot(robotId, true);
+
+        Cursor after = Cursor.decode(cursor);
+        CursorSlice<SearchResult> slice = CursorSlice.of(
+                searchResultRepository.findByRobotIdBefore(robotId, after.sortKey(), after.id(), CursorSlice.limit(size)),
+                size,
+                searchResult -> Cursor.of(searchResult.getSearchedAt(), searchResult.getId())
+        );
+
+        return new SearchResultCursorResponse(
+                slice.content().stream().map(this::toSearchResultResponse).toList(),
+                size,
+                slice.hasNext(),
+                slice.nextCursor()
+        );
+    }
+
     private Robot getAccessibleRobot(Long robotId, boolean allowRobotPrincipal) {
         Robot robot = robotRepository.findById(robotId)
                 .orElseThrow(() -> new EntityNotFoundException("Robot not found"));
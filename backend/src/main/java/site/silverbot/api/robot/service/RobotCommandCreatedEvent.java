@@ -0,0 +1,9 @@
+package site.silverbot.api.robot.service;
+
+import site.silverbot.api.robot.response.RobotSyncResponse;
+
+public record RobotCommandCreatedEvent(
+        Long robotId,
+        RobotSyncResponse.PendingCommandResponse command
+) {
+}
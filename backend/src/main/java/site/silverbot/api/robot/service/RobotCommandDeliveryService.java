@@ -0,0 +1,113 @@
+package site.silverbot.api.robot.service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import site.silverbot.api.common.ApiResponse;
+import site.silverbot.api.robot.response.RobotSyncResponse;
+import site.silverbot.websocket.WebSocketMessageService;
+import site.silverbot.websocket.cluster.ClusterInvalidations;
+import site.silverbot.websocket.dto.RobotCommandMessage;
+
+@Service
+@RequiredArgsConstructor
+public class RobotCommandDeliveryService {
+    public static final long MAX_POLL_TIMEOUT_MILLIS = 60_000L;
+    private static final String INVALIDATION_TOPIC = "robot-command";
+
+    private final RobotCommandService robotCommandService;
+    private final RobotPendingCommandTracker robotPendingCommandTracker;
+    private final WebSocketMessageService webSocketMessageService;
+    private final ClusterInvalidations clusterInvalidations;
+
+    private final Map<Long, DeferredResult<ApiResponse<RobotSyncResponse>>> waiters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeToClusterCommands() {
+        clusterInvalidations.register(INVALIDATION_TOPIC, robotId -> {
+            robotPendingCommandTracker.markPending(robotId);
+            deliver(robotId);
+        });
+    }
+
+    public DeferredResult<ApiResponse<RobotSyncResponse>> awaitPendingCommands(Long robotId, long timeoutMillis) {
+        validateRobotPrincipal(robotId);
+        long timeout = Math.max(1L, Math.min(timeoutMillis, MAX_POLL_TIMEOUT_MILLIS));
+        DeferredResult<ApiResponse<RobotSyncResponse>> waiter =
+                new DeferredResult<>(timeout, emptyResponse());
+        waiter.onCompletion(() -> waiters.remove(robotId, waiter));
+
+        DeferredResult<ApiResponse<RobotSyncResponse>> previous = waiters.put(robotId, waiter);
+        if (previous != null) {
+            previous.setResult(emptyResponse());
+        }
+        if (robotPendingCommandTracker.hasPending(robotId)) {
+            deliver(robotId);
+        }
+        return waiter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommandCreated(RobotCommandCreatedEvent event) {
+        robotPendingCommandTracker.markPending(event.robotId());
+        RobotSyncResponse.PendingCommandResponse command = event.command();
+        webSocketMessageService.sendRobotCommand(event.robotId(), new RobotCommandMessage.Payload(
+                event.robotId(),
+                command.commandId(),
+                command.command().name(),
+                command.params(),
+                command.issuedAt()
+        ));
+        deliver(event.robotId());
+        clusterInvalidations.publish(INVALIDATION_TOPIC, event.robotId());
+    }
+
+    public int waitingCount() {
+        return waiters.size();
+    }
+
+    private void deliver(Long robotId) {
+        DeferredResult<ApiResponse<RobotSyncResponse>> waiter = waiters.remove(robotId);
+        if (waiter == null) {
+            return;
+        }
+        boolean delivered = robotCommandService.deliverPendingCommands(robotId, commands ->
+                waiter.setResult(ApiResponse.success(new RobotSyncResponse(commands)))
+        );
+        if (!delivered && !waiter.isSetOrExpired()) {
+            waiters.putIfAbsent(robotId, waiter);
+        }
+    }
+
+    private void validateRobotPrincipal(Long robotId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            throw new AuthenticationCredentialsNotFoundException("User not authenticated");
+        }
+        boolean hasRobotRole = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ROBOT".equals(authority.getAuthority()));
+        if (!hasRobotRole) {
+            throw new AccessDeniedException("Robot role required");
+        }
+        if (!String.valueOf(robotId).equals(authentication.getName())) {
+            throw new AccessDeniedException("Robot access denied");
+        }
+    }
+
+    private ApiResponse<RobotSyncResponse> emptyResponse() {
+        return ApiResponse.success(new RobotSyncResponse(List.of()));
+    }
+}
@@ -9,9 +9,15 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import site.silverbot.api.robot.request.RobotCommandRequest;
 import site.silverbot.api.robot.response.CommandResponse;
 import site.silverbot.api.robot.response.RobotSyncResponse;
@@ -32,6 +38,8 @@ public class RobotCommandService {
     private final RobotRepository robotRepository;
     private final RobotCommandRepository robotCommandRepository;
     private final ObjectMapper objectMapper;
+    private final RobotPendingCommandTracker robotPendingCommandTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommandResponse createCommand(Long robotId, RobotCommandRequest request) {
@@ -53,6 +61,15 @@ public class RobotCommandService {
                 .build();
 
         robotCommandRepository.save(command);
+        eventPublisher.publishEvent(new RobotCommandCreatedEvent(
+                robot.getId(),
+                new RobotSyncResponse.PendingCommandResponse(
+                        command.getCommandId(),
+                        command.getCommand(),
+                        request.params(),
+                        command.getIssuedAt()
+                )
+        ));
 
         return new CommandResponse(
                 command.getCommandId(),
@@ -66,6 +83,11 @@ public class RobotCommandService {
 
     @Transactional
     public List<RobotSyncResponse.PendingCommandResponse> consumePendingCommands(Long robotId) {
+        if (!robotPendingCommandTracker.hasPending(robotId)) {
+            return List.of();
+        }
+        markDrainedAfterCommit(robotId, robotPendingCommandTracker.beginDrain());
+
         List<RobotCommand> pendingCommands = robotCommandRepository
                 .findAllByRobotIdAndStatusOrderByIssuedAtAscIdAsc(robotId, CommandStatus.PENDING);
         if (pendingCommands.isEmpty()) {
@@ -86,6 +108,34 @@ public class RobotCommandService {
         return responses;
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean deliverPendingCommands(
+            Long robotId,
+            Predicate<List<RobotSyncResponse.PendingCommandResponse>> handoff
+    ) {
+        List<RobotSyncResponse.PendingCommandResponse> commands = consumePendingCommands(robotId);
+        if (commands.isEmpty()) {
+            return false;
+        }
+        if (!handoff.test(commands)) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+        return true;
+    }
+
+    private void markDrainedAfterCommit(Long robotId, long drainSequence) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                robotPendingCommandTracker.markDrained(robotId, drainSequence);
+            }
+        });
+    }
+
     private void validateCommand(CommandType command, Map<String, Object> params) {
         if (command == null) {
             throw new IllegalArgumentException("command is required");
@@ -0,0 +1,39 @@
+package site.silverbot.api.robot.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RobotEventIdCache {
+    private final Map<String, Boolean> recentIds;
+
+    public RobotEventIdCache(@Value("${app.robot.event-id-cache-size:10000}") int maxSize) {
+        this.recentIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized boolean contains(Long robotId, String eventId) {
+        return recentIds.get(key(robotId, eventId)) != null;
+    }
+
+    public synchronized void addAll(Long robotId, Collection<String> eventIds) {
+        for (String eventId : eventIds) {
+            recentIds.put(key(robotId, eventId), Boolean.TRUE);
+        }
+    }
+
+    public synchronized int size() {
+        return recentIds.size();
+    }
+
+    private String key(Long robotId, String eventId) {
+        return robotId + ":" + eventId;
+    }
+}
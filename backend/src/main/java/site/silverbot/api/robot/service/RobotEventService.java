@@ -5,10 +5,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -16,21 +25,21 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
 import site.silverbot.api.activity.model.ActivityType;
-import site.silverbot.api.activity.repository.ActivityJdbcRepository;
 import site.silverbot.api.common.service.CurrentUserService;
-import site.silverbot.api.medication.model.MedicationMethod;
-import site.silverbot.api.medication.model.MedicationStatus;
 import site.silverbot.api.medication.model.MedicationTimeOfDay;
 import site.silverbot.api.medication.repository.MedicationJdbcRepository;
-import site.silverbot.api.notification.service.NotificationService;
+import site.silverbot.api.robot.repository.RobotEventOutboxJdbcRepository;
+import site.silverbot.api.robot.repository.RobotLcdEventJdbcRepository;
 import site.silverbot.api.robot.request.ReportRobotEventsRequest;
 import site.silverbot.api.robot.response.RobotEventsReportResponse;
 import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.robot.Robot;
-import site.silverbot.domain.robot.RobotLcdEvent;
-import site.silverbot.domain.robot.RobotLcdEventRepository;
+import site.silverbot.domain.robot.RobotEventEffectType;
 import site.silverbot.domain.robot.RobotRepository;
 import site.silverbot.domain.user.User;
 
@@ -79,10 +88,10 @@ public class RobotEventService {
     );
 
     private final RobotRepository robotRepository;
-    private final RobotLcdEventRepository robotLcdEventRepository;
+    private final RobotLcdEventJdbcRepository robotLcdEventJdbcRepository;
     private final MedicationJdbcRepository medicationJdbcRepository;
-    private final ActivityJdbcRepository activityJdbcRepository;
-    private final NotificationService notificationService;
+    private final RobotEventOutboxJdbcRepository robotEventOutboxJdbcRepository;
+    private final RobotEventIdCache robotEventIdCache;
     private final CurrentUserService currentUserService;
     private final ObjectMapper objectMapper;
 
@@ -90,52 +99,126 @@ public class RobotEventService {
     public RobotEventsReportResponse reportEvents(Long robotId, ReportRobotEventsRequest request) {
         Robot robot = getAccessibleRobot(robotId, true);
 
-        int processedCount = 0;
-        int medicationTakenCount = 0;
-        int medicationDeferredCount = 0;
-
+        List<NormalizedEvent> normalizedEvents = new ArrayList<>();
         for (ReportRobotEventsRequest.RobotEventRequest event : request.events()) {
+            String eventId = StringUtils.hasText(event.eventId()) ? event.eventId().trim() : null;
             String normalizedType = normalizeRequired(event.type(), "type");
             String normalizedAction = normalizeOptional(event.action());
             LocalDateTime occurredAt = resolveOccurredAt(event.timestamp(), event.detectedAt());
             validateEventData(normalizedType, normalizedAction, event.medicationId());
+            normalizedEvents.add(new NormalizedEvent(event, eventId, normalizedType, normalizedAction, occurredAt));
+        }
+        List<NormalizedEvent> events = excludeDuplicates(robot.getId(), normalizedEvents);
 
-            robotLcdEventRepository.save(RobotLcdEvent.builder()
-                    .robot(robot)
-                    .elder(robot.getElder())
-                    .eventType(normalizedType)
-                    .eventAction(normalizedAction)
-                    .medicationId(event.medicationId())
-                    .location(event.location())
-                    .confidence(event.confidence())
-                    .payload(serializePayload(event.payload()))
-                    .occurredAt(occurredAt)
-                    .build());
+        EventBatch batch = new EventBatch(robot, loadMedications(robot, events));
+        int medicationTakenCount = 0;
+        int medicationDeferredCount = 0;
+
+        for (NormalizedEvent event : events) {
+            batch.lcdEvents().add(new RobotLcdEventJdbcRepository.NewLcdEvent(
+                    robot.getId(),
+                    robot.getElder() == null ? null : robot.getElder().getId(),
+                    event.eventId(),
+                    event.type(),
+                    event.action(),
+                    event.request().medicationId(),
+                    event.request().location(),
+                    event.request().confidence(),
+                    serializePayload(event.request().payload()),
+                    event.occurredAt()
+            ));
 
             SideEffectResult sideEffectResult = applySideEffects(
-                    robot,
-                    normalizedType,
-                    normalizedAction,
-                    event.medicationId(),
-                    occurredAt,
-                    event.location()
+                    batch,
+                    event.type(),
+                    event.action(),
+                    event.request().medicationId(),
+                    event.occurredAt(),
+                    event.request().location()
             );
-            processedCount++;
             medicationTakenCount += sideEffectResult.medicationTakenCount();
             medicationDeferredCount += sideEffectResult.medicationDeferredCount();
         }
 
+        try {
+            robotLcdEventJdbcRepository.batchInsert(batch.lcdEvents());
+        } catch (DuplicateKeyException ex) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Robot event is already being processed");
+        }
+        robotEventOutboxJdbcRepository.batchInsert(batch.sideEffects());
+
         return new RobotEventsReportResponse(
                 true,
-                processedCount,
+                events.size(),
+                normalizedEvents.size() - events.size(),
                 medicationTakenCount,
                 medicationDeferredCount,
                 OffsetDateTime.now()
         );
     }
 
-    private SideEffectResult applySideEffects(
+    private List<NormalizedEvent> excludeDuplicates(Long robotId, List<NormalizedEvent> events) {
+        Set<String> seenIds = new HashSet<>();
+        List<NormalizedEvent> candidates = new ArrayList<>();
+        for (NormalizedEvent event : events) {
+            if (event.eventId() == null) {
+                candidates.add(event);
+                continue;
+            }
+            if (seenIds.add(event.eventId()) && !robotEventIdCache.contains(robotId, event.eventId())) {
+                candidates.add(event);
+            }
+        }
+        if (seenIds.isEmpty()) {
+            return candidates;
+        }
+
+        Set<String> candidateIds = candidates.stream()
+                .map(NormalizedEvent::eventId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> existingIds = robotLcdEventJdbcRepository.findExistingClientEventIds(robotId, candidateIds);
+        rememberEventIdsAfterCommit(robotId, seenIds);
+        if (existingIds.isEmpty()) {
+            return candidates;
+        }
+        return candidates.stream()
+                .filter(event -> event.eventId() == null || !existingIds.contains(event.eventId()))
+                .toList();
+    }
+
+    private void rememberEventIdsAfterCommit(Long robotId, Set<String> eventIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            robotEventIdCache.addAll(robotId, eventIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                robotEventIdCache.addAll(robotId, eventIds);
+            }
+        });
+    }
+
+    private Map<Long, MedicationJdbcRepository.MedicationData> loadMedications(
             Robot robot,
+            List<NormalizedEvent> events
+    ) {
+        Set<Long> medicationIds = events.stream()
+                .filter(event -> ACTION_TAKE.equals(event.action()) || ACTION_LATER.equals(event.action()))
+                .map(event -> event.request().medicationId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Elder elder = robot.getElder();
+        if (medicationIds.isEmpty() || elder == null) {
+            return Map.of();
+        }
+        return medicationJdbcRepository.findMedicationsByIdsAndElderId(elder.getId(), medicationIds).stream()
+                .collect(Collectors.toMap(MedicationJdbcRepository.MedicationData::id, Function.identity()));
+    }
+
+    private SideEffectResult applySideEffects(
+            EventBatch batch,
             String eventType,
             String action,
             Long medicationId,
@@ -143,16 +226,16 @@ public class RobotEventService {
             String location
     ) {
         if (ACTION_TAKE.equals(action)) {
-            handleMedicationTaken(robot, medicationId, occurredAt);
-            insertActivity(robot, ActivityType.MEDICATION_TAKEN, occurredAt, location);
+            handleMedicationTaken(batch, medicationId, occurredAt);
+            addActivity(batch, ActivityType.MEDICATION_TAKEN, occurredAt, location);
             return SideEffectResult.taken();
         }
 
         if (ACTION_LATER.equals(action)) {
-            handleMedicationDeferred(robot, medicationId);
+            handleMedicationDeferred(batch, medicationId, occurredAt);
             ActivityType activityType = resolveActivityType(eventType, action);
             if (activityType != null) {
-                insertActivity(robot, activityType, occurredAt, location);
+                addActivity(batch, activityType, occurredAt, location);
             }
             return SideEffectResult.later();
         }
@@ -163,19 +246,18 @@ public class RobotEventService {
 
         ActivityType activityType = resolveActivityType(eventType, action);
         if (activityType != null) {
-            insertActivity(robot, activityType, occurredAt, location);
+            addActivity(batch, activityType, occurredAt, location);
         }
         return SideEffectResult.none();
     }
 
-    private void handleMedicationTaken(Robot robot, Long medicationId, LocalDateTime occurredAt) {
+    private void handleMedicationTaken(EventBatch batch, Long medicationId, LocalDateTime occurredAt) {
         if (medicationId == null) {
             return;
         }
 
-        Elder elder = requireRobotElder(robot);
-        MedicationJdbcRepository.MedicationData medication = medicationJdbcRepository
-                .findMedicationByIdAndElderId(elder.getId(), medicationId)
+        Elder elder = requireRobotElder(batch.robot());
+        MedicationJdbcRepository.MedicationData medication = batch.medication(medicationId)
                 .orElseThrow(() -> new EntityNotFoundException("Medication not found"));
 
         MedicationTimeOfDay timeOfDay = MedicationTimeOfDay.from(occurredAt);
@@ -183,19 +265,21 @@ public class RobotEventService {
             throw new IllegalArgumentException("Medication frequency does not match event time-of-day");
         }
 
-        medicationJdbcRepository.upsertMedicationRecord(
+        batch.sideEffects().add(new RobotEventOutboxJdbcRepository.NewOutboxEntry(
                 elder.getId(),
+                batch.robot().getId(),
+                RobotEventEffectType.MEDICATION_TAKEN,
                 medication.id(),
-                occurredAt.toLocalDate(),
-                timeOfDay,
-                MedicationStatus.TAKEN,
-                occurredAt,
-                MedicationMethod.BUTTON
-        );
+                null,
+                null,
+                null,
+                null,
+                occurredAt
+        ));
     }
 
-    private void handleMedicationDeferred(Robot robot, Long medicationId) {
-        Elder elder = robot.getElder();
+    private void handleMedicationDeferred(EventBatch batch, Long medicationId, LocalDateTime occurredAt) {
+        Elder elder = batch.robot().getElder();
         if (elder == null || elder.getUser() == null) {
             return;
         }
@@ -203,7 +287,7 @@ public class RobotEventService {
         String elderName = StringUtils.hasText(elder.getName()) ? elder.getName() : "어르신";
         String message;
         if (medicationId != null) {
-            var medication = medicationJdbcRepository.findMedicationByIdAndElderId(elder.getId(), medicationId);
+            var medication = batch.medication(medicationId);
             if (medication.isPresent()) {
                 message = elderName + " 어르신이 [" + medication.get().name() + "] 복약을 나중에 하기로 했습니다.";
             } else {
@@ -213,13 +297,17 @@ public class RobotEventService {
             message = elderName + " 어르신이 복약을 나중에 하기로 했습니다.";
         }
 
-        notificationService.createMedicationNotification(
-                elder.getUser().getId(),
+        batch.sideEffects().add(new RobotEventOutboxJdbcRepository.NewOutboxEntry(
                 elder.getId(),
-                "복약 알림 연기",
+                batch.robot().getId(),
+                RobotEventEffectType.MEDICATION_DEFERRED,
+                medicationId,
+                null,
+                elder.getUser().getId(),
+                null,
                 message,
-                "/elders/" + elder.getId() + "/medications"
-        );
+                occurredAt
+        ));
     }
 
     private Robot getAccessibleRobot(Long robotId, boolean allowRobotPrincipal) {
@@ -264,19 +352,22 @@ public class RobotEventService {
         return elder;
     }
 
-    private void insertActivity(Robot robot, ActivityType activityType, LocalDateTime occurredAt, String location) {
+    private void addActivity(EventBatch batch, ActivityType activityType, LocalDateTime occurredAt, String location) {
+        Robot robot = batch.robot();
         if (activityType == null || robot.getElder() == null) {
             return;
         }
-        activityJdbcRepository.insert(
+        batch.sideEffects().add(new RobotEventOutboxJdbcRepository.NewOutboxEntry(
                 robot.getElder().getId(),
                 robot.getId(),
-                activityType,
-                activityTitle(activityType),
+                RobotEventEffectType.ACTIVITY,
+                null,
+                activityType.name(),
                 null,
                 location,
+                null,
                 occurredAt
-        );
+        ));
     }
 
     private ActivityType resolveActivityType(String eventType, String action) {
@@ -290,20 +381,6 @@ public class RobotEventService {
         }
     }
 
-    private String activityTitle(ActivityType type) {
-        return switch (type) {
-            case WAKE_UP -> "기상 감지";
-            case SLEEP -> "취침 감지";
-            case MEDICATION_TAKEN -> "복약 완료";
-            case MEDICATION_MISSED -> "복약 미실시";
-            case PATROL_COMPLETE -> "순찰 완료";
-            case OUT_DETECTED -> "외출 감지";
-            case RETURN_DETECTED -> "귀가 감지";
-            case CONVERSATION -> "대화 기록";
-            case EMERGENCY -> "긴급 이벤트";
-        };
-    }
-
     private String normalizeRequired(String value, String fieldName) {
         if (!StringUtils.hasText(value)) {
             throw new IllegalArgumentException(fieldName + " is required");
@@ -402,6 +479,30 @@ public class RobotEventService {
         }
     }
 
+    private record NormalizedEvent(
+            ReportRobotEventsRequest.RobotEventRequest request,
+            String eventId,
+            String type,
+            String action,
+            LocalDateTime occurredAt
+    ) {
+    }
+
+    private record EventBatch(
+            Robot robot,
+            Map<Long, MedicationJdbcRepository.MedicationData> medications,
+            List<RobotLcdEventJdbcRepository.NewLcdEvent> lcdEvents,
+            List<RobotEventOutboxJdbcRepository.NewOutboxEntry> sideEffects
+    ) {
+        private EventBatch(Robot robot, Map<Long, MedicationJdbcRepository.MedicationData> medications) {
+            this(robot, medications, new ArrayList<>(), new ArrayList<>());
+        }
+
+        private Optional<MedicationJdbcRepository.MedicationData> medication(Long medicationId) {
+            return Optional.ofNullable(medications.get(medicationId));
+        }
+    }
+
     private record SideEffectResult(int medicationTakenCount, int medicationDeferredCount) {
         private static SideEffectResult none() {
             return new SideEffectResult(0, 0);
@@ -0,0 +1,220 @@
+package site.silverbot.api.robot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import site.silverbot.api.robot.repository.RobotEventOutboxJdbcRepository;
+import site.silverbot.api.robot.repository.RobotEventOutboxJdbcRepository.OutboxEntry;
+
+@Slf4j
+@Component
+public class RobotEventSideEffectDispatcher {
+    private static final Duration STALE_CLAIM_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration STALE_RELEASE_INTERVAL = Duration.ofMinutes(1);
+
+    private final RobotEventSideEffectProcessor processor;
+    private final RobotEventOutboxJdbcRepository robotEventOutboxJdbcRepository;
+    private final ThreadPoolExecutor[] workers;
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger lastClaimed = new AtomicInteger();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private LocalDateTime lastStaleRelease;
+    private final Timer processingTimer;
+    private final Counter failureCounter;
+
+    public RobotEventSideEffectDispatcher(
+            RobotEventSideEffectProcessor processor,
+            RobotEventOutboxJdbcRepository robotEventOutboxJdbcRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.robot.side-effects.workers:4}") int workerCount,
+            @Value("${app.robot.side-effects.queue-capacity:1000}") int queueCapacity,
+            @Value("${app.robot.side-effects.max-attempts:5}") int maxAttempts
+    ) {
+        this.processor = processor;
+        this.robotEventOutboxJdbcRepository = robotEventOutboxJdbcRepository;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.workers = new ThreadPoolExecutor[workerCount];
+        int perWorkerCapacity = Math.max(1, queueCapacity / workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new ThreadPoolExecutor(
+                    1,
+                    1,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(perWorkerCapacity),
+                    new CustomizableThreadFactory("robot-event-worker-" + i + "-")
+            );
+        }
+
+        Gauge.builder("robot.event.side_effects.in_flight", inFlight, AtomicInteger::get)
+                .description("Side effects claimed from the outbox and queued on workers")
+                .register(meterRegistry);
+        Gauge.builder("robot.event.side_effects.claimed", lastClaimed, AtomicInteger::get)
+                .description("Side effects claimed by the last outbox poll")
+                .register(meterRegistry);
+        Gauge.builder("robot.event.side_effects.lag", lagMillis, value -> value.get() / 1000.0)
+                .baseUnit("seconds")
+                .description("Age of the oldest side effect claimed by the last outbox poll")
+                .register(meterRegistry);
+        this.processingTimer = Timer.builder("robot.event.side_effects.processing")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("robot.event.side_effects.failures")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.robot.side-effects.poll-interval-ms:500}")
+    public void dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        releaseStale(now);
+
+        int capacity = queueCapacity - inFlight.get();
+        if (capacity <= 0) {
+            return;
+        }
+        List<OutboxEntry> claimed = processor.claimPending(capacity);
+        recordClaim(claimed, now);
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<OutboxEntry> rejected = new ArrayList<>();
+        for (Map.Entry<Long, List<OutboxEntry>> group : groupByElder(claimed).entrySet()) {
+            List<OutboxEntry> entries = group.getValue();
+            inFlight.addAndGet(entries.size());
+            try {
+                workerFor(group.getKey()).execute(() -> processInOrder(entries));
+            } catch (RejectedExecutionException ex) {
+                inFlight.addAndGet(-entries.size());
+                rejected.addAll(entries);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            processor.release(rejected);
+        }
+    }
+
+    public int drain() {
+        int processed = 0;
+        while (true) {
+            List<OutboxEntry> claimed = processor.claimPending(queueCapacity);
+            if (claimed.isEmpty()) {
+                return processed;
+            }
+            for (List<OutboxEntry> entries : groupByElder(claimed).values()) {
+                inFlight.addAndGet(entries.size());
+                processInOrder(entries);
+            }
+            processed += claimed.size();
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor worker : workers) {
+            worker.shutdown();
+        }
+    }
+
+    private void processInOrder(List<OutboxEntry> entries) {
+        try {
+            processingTimer.record(() -> processor.processAll(entries));
+            inFlight.addAndGet(-entries.size());
+            return;
+        } catch (RuntimeException ex) {
+            log.debug("Batch of {} side effects failed, retrying one by one", entries.size(), ex);
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            OutboxEntry entry = entries.get(i);
+            boolean blocked = false;
+            try {
+                processingTimer.record(() -> processor.process(entry));
+            } catch (RuntimeException ex) {
+                failureCounter.increment();
+                blocked = recordFailure(entry, ex);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            if (blocked) {
+                releaseRemaining(entries.subList(i + 1, entries.size()));
+                return;
+            }
+        }
+    }
+
+    private void releaseRemaining(List<OutboxEntry> remaining) {
+        if (remaining.isEmpty()) {
+            return;
+        }
+        inFlight.addAndGet(-remaining.size());
+        try {
+            processor.release(remaining);
+        } catch (RuntimeException ex) {
+            log.error("Failed to release {} side effects after an earlier failure", remaining.size(), ex);
+        }
+    }
+
+    private boolean recordFailure(OutboxEntry entry, RuntimeException ex) {
+        try {
+            boolean retryable = processor.recordFailure(entry, ex, maxAttempts);
+            log.warn("Failed to apply robot event side effect {} (retry: {})", entry.id(), retryable, ex);
+            return retryable;
+        } catch (RuntimeException recordEx) {
+            log.error("Failed to record side effect failure {}", entry.id(), recordEx);
+            return true;
+        }
+    }
+
+    private Map<Long, List<OutboxEntry>> groupByElder(List<OutboxEntry> entries) {
+        Map<Long, List<OutboxEntry>> byElder = new LinkedHashMap<>();
+        for (OutboxEntry entry : entries) {
+            byElder.computeIfAbsent(entry.elderId(), key -> new ArrayList<>()).add(entry);
+        }
+        return byElder;
+    }
+
+    private ThreadPoolExecutor workerFor(Long elderId) {
+        return workers[Math.floorMod(elderId.hashCode(), workers.length)];
+    }
+
+    private void releaseStale(LocalDateTime now) {
+        if (lastStaleRelease != null && now.isBefore(lastStaleRelease.plus(STALE_RELEASE_INTERVAL))) {
+            return;
+        }
+        lastStaleRelease = now;
+        robotEventOutboxJdbcRepository.releaseStale(now.minus(STALE_CLAIM_TIMEOUT));
+    }
+
+    private void recordClaim(List<OutboxEntry> claimed, LocalDateTime now) {
+        lastClaimed.set(claimed.size());
+        lagMillis.set(claimed.isEmpty() || claimed.get(0).createdAt() == null
+                ? 0L
+                : Math.max(0L, Duration.between(claimed.get(0).createdAt(), now).toMillis()));
+    }
+}
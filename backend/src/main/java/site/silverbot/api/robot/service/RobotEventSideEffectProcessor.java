@@ -0,0 +1,149 @@
+package site.silverbot.api.robot.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import site.silverbot.api.activity.model.ActivityType;
+import site.silverbot.api.activity.repository.ActivityJdbcRepository;
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
+import site.silverbot.api.medication.model.MedicationMethod;
+import site.silverbot.api.medication.model.MedicationStatus;
+import site.silverbot.api.medication.model.MedicationTimeOfDay;
+import site.silverbot.api.medication.repository.MedicationJdbcRepository;
+import site.silverbot.api.medication.service.MedicationRollupService;
+import site.silverbot.api.notification.service.NotificationCoalescer;
+import site.silverbot.api.notification.service.NotificationService.NotificationDraft;
+import site.silverbot.api.robot.repository.RobotEventOutboxJdbcRepository;
+import site.silverbot.api.robot.repository.RobotEventOutboxJdbcRepository.OutboxEntry;
+import site.silverbot.domain.notification.NotificationType;
+
+@Service
+@RequiredArgsConstructor
+public class RobotEventSideEffectProcessor {
+    private static final String DEFERRED_NOTIFICATION_TITLE = "복약 알림 연기";
+
+    private final RobotEventOutboxJdbcRepository robotEventOutboxJdbcRepository;
+    private final MedicationJdbcRepository medicationJdbcRepository;
+    private final MedicationRollupService medicationRollupService;
+    private final ActivityJdbcRepository activityJdbcRepository;
+    private final NotificationCoalescer notificationCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public List<OutboxEntry> claimPending(int limit) {
+        return robotEventOutboxJdbcRepository.claimPending(limit, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void processAll(List<OutboxEntry> entries) {
+        List<MedicationJdbcRepository.MedicationRecordUpsert> takenRecords = new ArrayList<>();
+        List<ActivityJdbcRepository.NewActivity> activities = new ArrayList<>();
+        List<NotificationDraft> deferredNotifications = new ArrayList<>();
+        Map<Long, Set<DashboardSection>> changedSections = new HashMap<>();
+        for (OutboxEntry entry : entries) {
+            switch (entry.effectType()) {
+                case MEDICATION_TAKEN -> {
+                    takenRecords.add(toTakenRecord(entry));
+                    markChanged(changedSections, entry.elderId(), DashboardSection.MEDICATION);
+                }
+                case MEDICATION_DEFERRED -> deferredNotifications.add(toDeferredNotification(entry));
+                case ACTIVITY -> {
+                    activities.add(toActivity(entry));
+                    markChanged(changedSections, entry.elderId(), DashboardSection.SUMMARY);
+                }
+            }
+        }
+        medicationJdbcRepository.upsertMedicationRecords(takenRecords);
+        medicationRollupService.recordsChanged(takenRecords);
+        activityJdbcRepository.batchInsert(activities);
+        notificationCoalescer.submit(NotificationType.MEDICATION, deferredNotifications);
+        robotEventOutboxJdbcRepository.markDone(entries.stream().map(OutboxEntry::id).toList(), LocalDateTime.now());
+        changedSections.forEach((elderId, sections) ->
+                eventPublisher.publishEvent(new DashboardChangedEvent(elderId, null, sections)));
+    }
+
+    @Transactional
+    public void process(OutboxEntry entry) {
+        processAll(List.of(entry));
+    }
+
+    @Transactional
+    public boolean recordFailure(OutboxEntry entry, RuntimeException ex, int maxAttempts) {
+        int attempts = entry.attempts() + 1;
+        boolean retryable = attempts < maxAttempts;
+        robotEventOutboxJdbcRepository.markFailed(entry.id(), attempts, retryable, ex.toString());
+        return retryable;
+    }
+
+    @Transactional
+    public int release(List<OutboxEntry> entries) {
+        return robotEventOutboxJdbcRepository.release(entries.stream().map(OutboxEntry::id).toList());
+    }
+
+    @Transactional
+    public int purgeProcessed(LocalDateTime processedBefore, int limit) {
+        return robotEventOutboxJdbcRepository.deleteProcessedBefore(processedBefore, limit);
+    }
+
+    private void markChanged(Map<Long, Set<DashboardSection>> changedSections, Long elderId, DashboardSection section) {
+        changedSections.computeIfAbsent(elderId, id -> EnumSet.noneOf(DashboardSection.class)).add(section);
+    }
+
+    private MedicationJdbcRepository.MedicationRecordUpsert toTakenRecord(OutboxEntry entry) {
+        return new MedicationJdbcRepository.MedicationRecordUpsert(
+                entry.elderId(),
+                entry.medicationId(),
+                entry.occurredAt().toLocalDate(),
+                MedicationTimeOfDay.from(entry.occurredAt()),
+                MedicationStatus.TAKEN,
+                entry.occurredAt(),
+                MedicationMethod.BUTTON
+        );
+    }
+
+    private NotificationDraft toDeferredNotification(OutboxEntry entry) {
+        return new NotificationDraft(
+                entry.userId(),
+                entry.elderId(),
+                DEFERRED_NOTIFICATION_TITLE,
+                entry.message(),
+                "/elders/" + entry.elderId() + "/medications"
+        );
+    }
+
+    private ActivityJdbcRepository.NewActivity toActivity(OutboxEntry entry) {
+        ActivityType activityType = ActivityType.valueOf(entry.activityType());
+        return new ActivityJdbcRepository.NewActivity(
+                entry.elderId(),
+                entry.robotId(),
+                activityType,
+                activityTitle(activityType),
+                null,
+                entry.location(),
+                entry.occurredAt()
+        );
+    }
+
+    private String activityTitle(ActivityType type) {
+        return switch (type) {
+            case WAKE_UP -> "기상 감지";
+            case SLEEP -> "취침 감지";
+            case MEDICATION_TAKEN -> "복약 완료";
+            case MEDICATION_MISSED -> "복약 미실시";
+            case PATROL_COMPLETE -> "순찰 완료";
+            case OUT_DETECTED -> "외출 감지";
+            case RETURN_DETECTED -> "귀가 감지";
+            case CONVERSATION -> "대화 기록";
+            case EMERGENCY -> "긴급 이벤트";
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package site.silverbot.api.robot.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RobotHeartbeatRegistry {
+    public static final Duration DISCONNECT_THRESHOLD = Duration.ofSeconds(120);
+    public static final Duration OFFLINE_NOTIFY_THRESHOLD = Duration.ofMinutes(30);
+
+    private static final Comparator<Deadline> DEADLINE_ORDER = Comparator
+            .comparing(Deadline::dueAt)
+            .thenComparing(Deadline::robotId);
+
+    private final ConcurrentHashMap<Long, Deadline> deadlinesByRobotId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Deadline> deadlines = new ConcurrentSkipListSet<>(DEADLINE_ORDER);
+
+    public void recordHeartbeat(Long robotId, LocalDateTime syncedAt) {
+        schedule(robotId, Deadline.disconnect(robotId, syncedAt));
+    }
+
+    public void trackDisconnected(Long robotId, LocalDateTime lastSyncAt) {
+        if (lastSyncAt == null) {
+            return;
+        }
+        schedule(robotId, Deadline.offlineNotify(robotId, lastSyncAt));
+    }
+
+    public void refreshFromStore(Long robotId, LocalDateTime lastSyncAt) {
+        if (lastSyncAt == null) {
+            return;
+        }
+        Deadline refreshed = Deadline.disconnect(robotId, lastSyncAt);
+        deadlinesByRobotId.compute(robotId, (id, current) -> {
+            if (current != null && current.lastSyncAt() != null && !current.lastSyncAt().isBefore(lastSyncAt)) {
+                return current;
+            }
+            if (current != null) {
+                deadlines.remove(current);
+            }
+            deadlines.add(refreshed);
+            return refreshed;
+        });
+    }
+
+    public LocalDateTime getLastHeartbeat(Long robotId) {
+        Deadline deadline = deadlinesByRobotId.get(robotId);
+        return deadline == null ? null : deadline.lastSyncAt();
+    }
+
+    public List<ExpiredHeartbeat> pollExpired(LocalDateTime now) {
+        List<ExpiredHeartbeat> expired = new ArrayList<>();
+        Deadline upperBound = new Deadline(Long.MAX_VALUE, null, Stage.DISCONNECT, now);
+        for (Deadline candidate : deadlines.headSet(upperBound, true)) {
+            Deadline[] polled = new Deadline[1];
+            deadlinesByRobotId.computeIfPresent(candidate.robotId(), (robotId, current) -> {
+                if (!current.equals(candidate)) {
+                    return current;
+                }
+                deadlines.remove(current);
+                polled[0] = current;
+                Deadline next = current.next();
+                if (next != null) {
+                    deadlines.add(next);
+                }
+                return next;
+            });
+            if (polled[0] == null) {
+                deadlines.remove(candidate);
+                continue;
+            }
+            expired.add(new ExpiredHeartbeat(polled[0].robotId(), polled[0].lastSyncAt(), polled[0].stage()));
+        }
+        return expired;
+    }
+
+    public void requeue(List<ExpiredHeartbeat> expired) {
+        for (ExpiredHeartbeat heartbeat : expired) {
+            Deadline restored = heartbeat.stage() == Stage.DISCONNECT
+                    ? Deadline.disconnect(heartbeat.robotId(), heartbeat.lastSyncAt())
+                    : Deadline.offlineNotify(heartbeat.robotId(), heartbeat.lastSyncAt());
+            deadlinesByRobotId.compute(heartbeat.robotId(), (robotId, current) -> {
+                if (current != null && !Objects.equals(current.lastSyncAt(), heartbeat.lastSyncAt())) {
+                    return current;
+                }
+                if (current != null) {
+                    deadlines.remove(current);
+                }
+                deadlines.add(restored);
+                return restored;
+            });
+        }
+    }
+
+    public int size() {
+        return deadlinesByRobotId.size();
+    }
+
+    private void schedule(Long robotId, Deadline deadline) {
+        deadlinesByRobotId.compute(robotId, (id, current) -> {
+            if (current != null) {
+                deadlines.remove(current);
+            }
+            deadlines.add(deadline);
+            return deadline;
+        });
+    }
+
+    public enum Stage {
+        DISCONNECT,
+        OFFLINE_NOTIFY
+    }
+
+    public record ExpiredHeartbeat(Long robotId, LocalDateTime lastSyncAt, Stage stage) {
+    }
+
+    private record Deadline(Long robotId, LocalDateTime lastSyncAt, Stage stage, LocalDateTime dueAt) {
+        private static Deadline disconnect(Long robotId, LocalDateTime lastSyncAt) {
+            LocalDateTime dueAt = lastSyncAt == null ? LocalDateTime.MIN : lastSyncAt.plus(DISCONNECT_THRESHOLD);
+            return new Deadline(robotId, lastSyncAt, Stage.DISCONNECT, dueAt);
+        }
+
+        private static Deadline offlineNotify(Long robotId, LocalDateTime lastSyncAt) {
+            return new Deadline(robotId, lastSyncAt, Stage.OFFLINE_NOTIFY, lastSyncAt.plus(OFFLINE_NOTIFY_THRESHOLD));
+        }
+
+        private Deadline next() {
+            if (stage == Stage.DISCONNECT && lastSyncAt != null) {
+                return offlineNotify(robotId, lastSyncAt);
+            }
+            return null;
+        }
+    }
+}
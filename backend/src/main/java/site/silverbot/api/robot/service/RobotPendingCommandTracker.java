@@ -0,0 +1,48 @@
+package site.silverbot.api.robot.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RobotPendingCommandTracker {
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> lastCommandSequences = new ConcurrentHashMap<>();
+    private final Map<Long, DrainMark> drainMarks = new ConcurrentHashMap<>();
+    private final long recheckIntervalMillis;
+
+    public RobotPendingCommandTracker(
+            @Value("${app.robot.command-recheck-interval-ms:60000}") long recheckIntervalMillis
+    ) {
+        this.recheckIntervalMillis = recheckIntervalMillis;
+    }
+
+    public boolean hasPending(Long robotId) {
+        DrainMark drainMark = drainMarks.get(robotId);
+        if (drainMark == null) {
+            return true;
+        }
+        Long lastCommandSequence = lastCommandSequences.get(robotId);
+        if (lastCommandSequence != null && lastCommandSequence > drainMark.sequence()) {
+            return true;
+        }
+        return System.currentTimeMillis() - drainMark.drainedAtMillis() >= recheckIntervalMillis;
+    }
+
+    public long beginDrain() {
+        return sequence.incrementAndGet();
+    }
+
+    public void markDrained(Long robotId, long drainSequence) {
+        drainMarks.put(robotId, new DrainMark(drainSequence, System.currentTimeMillis()));
+    }
+
+    public void markPending(Long robotId) {
+        lastCommandSequences.put(robotId, sequence.incrementAndGet());
+    }
+
+    private record DrainMark(long sequence, long drainedAtMillis) {
+    }
+}
@@ -5,7 +5,9 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
@@ -15,6 +17,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import site.silverbot.api.common.service.CurrentUserService;
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
+import site.silverbot.api.dashboard.service.DashboardDeltaPublisher;
+import site.silverbot.api.robot.model.RobotTelemetry;
 import site.silverbot.api.robot.request.RobotSyncRequest;
 import site.silverbot.api.robot.request.UpdateRobotLcdModeRequest;
 import site.silverbot.api.robot.request.UpdateRobotLocationRequest;
@@ -29,7 +35,6 @@ import site.silverbot.domain.robot.LcdMode;
 import site.silverbot.domain.robot.NetworkStatus;
 import site.silverbot.domain.robot.Robot;
 import site.silverbot.domain.robot.RobotRepository;
-import site.silverbot.domain.user.User;
 import site.silverbot.websocket.WebSocketMessageService;
 import site.silverbot.websocket.dto.LcdModeMessage;
 
@@ -44,11 +49,16 @@ public class RobotService {
     private final RobotStatusNotifier robotStatusNotifier;
     private final CurrentUserService currentUserService;
     private final WebSocketMessageService webSocketMessageService;
+    private final RobotHeartbeatRegistry robotHeartbeatRegistry;
+    private final RobotTelemetryBuffer robotTelemetryBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DashboardDeltaPublisher dashboardDeltaPublisher;
 
     public RobotStatusResponse getStatus(Long robotId) {
         Robot robot = getRobot(robotId);
+        RobotTelemetry telemetry = robotTelemetryBuffer.resolve(robot);
 
-        int remaining = robot.getDispenserRemaining();
+        int remaining = telemetry.dispenserRemaining();
         int capacity = robot.getDispenserCapacity();
 
         int daysUntilEmpty = (int) Math.ceil(Math.max(remaining, 0) / 2.0);
@@ -72,12 +82,12 @@ public class RobotService {
         return new RobotStatusResponse(
                 robot.getId(),
                 robot.getSerialNumber(),
-                robot.getBatteryLevel(),
-                robot.getIsCharging(),
+                telemetry.batteryLevel(),
+                telemetry.isCharging(),
                 robot.getNetworkStatus(),
-                robot.getCurrentLocation(),
-                robot.getLcdMode(),
-                robot.getLastSyncAt(),
+                telemetry.currentLocation(),
+                telemetry.lcdMode(),
+                telemetry.lastSyncAt(),
                 dispenser,
                 settings
         );
@@ -86,12 +96,13 @@ public class RobotService {
     public RobotLcdResponse getLcd(Long robotId) {
         Robot robot = getRobot(robotId);
         validateLcdAccess(robot);
+        RobotTelemetry telemetry = robotTelemetryBuffer.resolve(robot);
 
-        String message = normalizeLcdText(robot.getLcdMessage());
-        String subMessage = normalizeLcdText(robot.getLcdSubMessage());
+        String message = normalizeLcdText(telemetry.lcdMessage());
+        String subMessage = normalizeLcdText(telemetry.lcdSubMessage());
         return new RobotLcdResponse(
-                robot.getLcdMode().name(),
-                robot.getLcdEmotion().name().toLowerCase(Locale.ROOT),
+                telemetry.lcdMode().name(),
+                telemetry.lcdEmotion().name().toLowerCase(Locale.ROOT),
                 message,
                 subMessage,
                 null,
@@ -109,7 +120,9 @@ public class RobotService {
         String message = request.normalizedMessage();
         String subMessage = request.normalizedSubMessage();
 
+        robotTelemetryBuffer.applyTo(robot);
         robot.updateLcdState(mode, emotion, message, subMessage);
+        publishRobotChanged(robot);
         robotRepository.flush();
 
         String modeName = robot.getLcdMode().name();
@@ -140,13 +153,20 @@ public class RobotService {
     public RobotSyncResponse sync(Long robotId, RobotSyncRequest request) {
         Robot robot = getRobot(robotId);
 
-        applySync(robot, request);
-
-        boolean statusChanged = robot.updateNetworkStatus(NetworkStatus.CONNECTED);
-        robot.updateLastSyncAt(LocalDateTime.now());
-        robot.clearOfflineNotification();
-        if (statusChanged) {
-            robotStatusNotifier.notifyStatusChanged(robot);
+        LocalDateTime syncedAt = LocalDateTime.now();
+        RobotTelemetry previous = robotTelemetryBuffer.resolve(robot);
+        robotTelemetryBuffer.record(robot, toTelemetry(request, syncedAt));
+        robotHeartbeatRegistry.recordHeartbeat(robotId, syncedAt);
+        publishTelemetryChanged(robot, previous);
+
+        if (robot.getNetworkStatus() != NetworkStatus.CONNECTED || robot.getOfflineNotifiedAt() != null) {
+            robotTelemetryBuffer.applyTo(robot);
+            boolean statusChanged = robot.updateNetworkStatus(NetworkStatus.CONNECTED);
+            robot.clearOfflineNotification();
+            publishRobotChanged(robot);
+            if (statusChanged) {
+                robotStatusNotifier.notifyStatusChanged(robot);
+            }
         }
 
         return new RobotSyncResponse(robotCommandService.consumePendingCommands(robotId));
@@ -157,6 +177,7 @@ public class RobotService {
         Robot robot = getRobot(robotId);
         boolean statusChanged = robot.updateNetworkStatus(status);
         if (statusChanged) {
+            publishRobotChanged(robot);
             robotStatusNotifier.notifyStatusChanged(robot);
         }
         return statusChanged;
@@ -166,42 +187,55 @@ public class RobotService {
     public RobotLocationUpdateResponse updateLocation(Long robotId, UpdateRobotLocationRequest request) {
         Robot robot = getRobot(robotId);
         validateLocationWriteAccess(robot);
+        robotTelemetryBuffer.applyTo(robot);
         robot.updateLocation(request.roomId(), request.x(), request.y(), request.heading());
+        publishRobotChanged(robot);
         return new RobotLocationUpdateResponse(true, OffsetDateTime.now());
     }
 
+    private void publishTelemetryChanged(Robot robot, RobotTelemetry previous) {
+        RobotTelemetry current = robotTelemetryBuffer.resolve(robot);
+        if (Objects.equals(previous.batteryLevel(), current.batteryLevel())
+                && Objects.equals(previous.currentLocation(), current.currentLocation())) {
+            return;
+        }
+        dashboardDeltaPublisher.publishRobotTelemetry(robot, current);
+    }
+
+    private void publishRobotChanged(Robot robot) {
+        if (robot.getElder() != null) {
+            eventPublisher.publishEvent(DashboardChangedEvent.forElder(robot.getElder().getId(), DashboardSection.ROBOT));
+        }
+    }
+
     private Robot getRobot(Long robotId) {
         return robotRepository.findById(robotId)
                 .orElseThrow(() -> new EntityNotFoundException("Robot not found"));
     }
 
-    private void applySync(Robot robot, RobotSyncRequest request) {
+    private RobotTelemetry toTelemetry(RobotSyncRequest request, LocalDateTime syncedAt) {
         if (request == null) {
-            return;
+            return new RobotTelemetry(null, null, null, null, null, null, null, null, null, null, null, syncedAt, false);
         }
 
-        robot.updateBatteryLevel(request.batteryLevel());
-        robot.updateCharging(request.isCharging());
-
         RobotSyncRequest.CurrentLocation location = request.currentLocation();
-        if (location != null) {
-            robot.updateLocation(location.roomId(), location.x(), location.y(), location.heading());
-        }
-
         RobotSyncRequest.LcdState lcdState = request.lcdState();
-        if (lcdState != null) {
-            robot.updateLcdState(
-                    parseMode(lcdState.mode()),
-                    parseEmotion(lcdState.emotion()),
-                    lcdState.message(),
-                    lcdState.subMessage()
-            );
-        }
-
         RobotSyncRequest.Dispenser dispenser = request.dispenser();
-        if (dispenser != null) {
-            robot.updateDispenserRemaining(dispenser.remaining());
-        }
+        return new RobotTelemetry(
+                request.batteryLevel(),
+                request.isCharging(),
+                location == null ? null : location.roomId(),
+                location == null ? null : location.x(),
+                location == null ? null : location.y(),
+                location == null ? null : location.heading(),
+                lcdState == null ? null : parseMode(lcdState.mode()),
+                lcdState == null ? null : parseEmotion(lcdState.emotion()),
+                lcdState == null ? null : lcdState.message(),
+                lcdState == null ? null : lcdState.subMessage(),
+                dispenser == null ? null : dispenser.remaining(),
+                syncedAt,
+                lcdState != null
+        );
     }
 
     private void validateLocationWriteAccess(Robot robot) {
@@ -229,8 +263,7 @@ public class RobotService {
         }
 
         Elder elder = robot.getElder();
-        User user = currentUserService.getCurrentUser();
-        if (elder == null || elder.getUser() == null || !elder.getUser().getId().equals(user.getId())) {
+        if (elder == null || !currentUserService.isElderOwner(elder.getId())) {
             throw new AccessDeniedException(deniedMessage);
         }
     }
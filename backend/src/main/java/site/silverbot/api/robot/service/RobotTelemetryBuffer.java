@@ -0,0 +1,85 @@
+package site.silverbot.api.robot.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.silverbot.api.robot.model.BufferedTelemetry;
+import site.silverbot.api.robot.model.RobotTelemetry;
+import site.silverbot.api.robot.repository.RobotTelemetryJdbcRepository;
+import site.silverbot.domain.robot.Robot;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RobotTelemetryBuffer {
+    private final RobotTelemetryJdbcRepository robotTelemetryJdbcRepository;
+
+    private final Map<Long, BufferedTelemetry> latestByRobotId = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyRobotIds = ConcurrentHashMap.newKeySet();
+
+    public void record(Robot robot, RobotTelemetry telemetry) {
+        BufferedTelemetry buffered = new BufferedTelemetry(robot.getId(), telemetry, robot.getTelemetryVersion());
+        latestByRobotId.merge(robot.getId(), buffered, BufferedTelemetry::merge);
+        dirtyRobotIds.add(robot.getId());
+    }
+
+    public RobotTelemetry resolve(Robot robot) {
+        return resolve(robot.getId(), RobotTelemetry.from(robot));
+    }
+
+    public RobotTelemetry resolve(Long robotId, RobotTelemetry persisted) {
+        BufferedTelemetry buffered = latestByRobotId.get(robotId);
+        return buffered == null ? persisted : persisted.merge(buffered.telemetry());
+    }
+
+    public void applyTo(Robot robot) {
+        dirtyRobotIds.remove(robot.getId());
+        BufferedTelemetry buffered = latestByRobotId.remove(robot.getId());
+        if (buffered != null) {
+            buffered.telemetry().applyTo(robot);
+        }
+        robot.increaseTelemetryVersion();
+    }
+
+    public int pendingCount() {
+        return dirtyRobotIds.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.robot.telemetry-flush-interval-ms:5000}")
+    public void flush() {
+        List<BufferedTelemetry> batch = new ArrayList<>();
+        for (Long robotId : dirtyRobotIds) {
+            if (!dirtyRobotIds.remove(robotId)) {
+                continue;
+            }
+            BufferedTelemetry buffered = latestByRobotId.get(robotId);
+            if (buffered != null) {
+                batch.add(buffered);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            robotTelemetryJdbcRepository.batchUpdate(batch);
+        } catch (RuntimeException ex) {
+            batch.forEach(buffered -> dirtyRobotIds.add(buffered.robotId()));
+            log.warn("Failed to flush telemetry for {} robots", batch.size(), ex);
+            return;
+        }
+        batch.forEach(buffered -> latestByRobotId.remove(buffered.robotId(), buffered));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
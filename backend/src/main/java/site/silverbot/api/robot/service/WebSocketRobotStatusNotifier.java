@@ -1,9 +1,13 @@
 package site.silverbot.api.robot.service;
 
 import java.time.Duration;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import site.silverbot.api.notification.service.NotificationService;
+import site.silverbot.api.notification.service.NotificationCoalescer;
+import site.silverbot.api.notification.service.NotificationService.NotificationDraft;
+import site.silverbot.api.robot.model.RobotTelemetry;
+import site.silverbot.domain.notification.NotificationType;
 import site.silverbot.domain.robot.Robot;
 import site.silverbot.websocket.WebSocketMessageService;
 import site.silverbot.websocket.dto.RobotStatusMessage;
@@ -12,19 +16,21 @@ import site.silverbot.websocket.dto.RobotStatusMessage;
 @RequiredArgsConstructor
 public class WebSocketRobotStatusNotifier implements RobotStatusNotifier {
     private final WebSocketMessageService webSocketMessageService;
-    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final RobotTelemetryBuffer robotTelemetryBuffer;
 
     @Override
     public void notifyStatusChanged(Robot robot) {
+        RobotTelemetry telemetry = robotTelemetryBuffer.resolve(robot);
         webSocketMessageService.sendRobotStatus(
                 robot.getId(),
                 new RobotStatusMessage.Payload(
                         robot.getId(),
                         robot.getElder() == null ? null : robot.getElder().getId(),
-                        robot.getBatteryLevel(),
+                        telemetry.batteryLevel(),
                         robot.getNetworkStatus() == null ? null : robot.getNetworkStatus().name(),
-                        robot.getCurrentLocation(),
-                        robot.getLcdMode() == null ? null : robot.getLcdMode().name()
+                        telemetry.currentLocation(),
+                        telemetry.lcdMode() == null ? null : telemetry.lcdMode().name()
                 )
         );
     }
@@ -35,12 +41,12 @@ public class WebSocketRobotStatusNotifier implements RobotStatusNotifier {
             return;
         }
         long minutes = Math.max(1, offlineDuration.toMinutes());
-        notificationService.createActivityNotification(
+        notificationCoalescer.submit(NotificationType.ACTIVITY, List.of(new NotificationDraft(
                 robot.getElder().getUser().getId(),
                 robot.getElder().getId(),
                 "로봇 연결이 끊겼습니다",
                 "로봇이 약 " + minutes + "분 동안 오프라인 상태입니다.",
                 "/elders/" + robot.getElder().getId() + "/robot"
-        );
+        )));
     }
 }
@@ -7,16 +7,15 @@ import java.util.List;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.authentication.AnonymousAuthenticationToken;
-import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import site.silverbot.api.common.service.CurrentUserService;
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
 import site.silverbot.api.schedule.request.CreateScheduleRequest;
 import site.silverbot.api.schedule.request.CreateVoiceScheduleRequest;
 import site.silverbot.api.schedule.request.UpdateScheduleRequest;
@@ -28,8 +27,6 @@ import site.silverbot.domain.schedule.Schedule;
 import site.silverbot.domain.schedule.ScheduleRepository;
 import site.silverbot.domain.schedule.ScheduleSource;
 import site.silverbot.domain.schedule.ScheduleType;
-import site.silverbot.domain.user.User;
-import site.silverbot.domain.user.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -37,7 +34,8 @@ import site.silverbot.domain.user.UserRepository;
 public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final ElderRepository elderRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ScheduleResponse createSchedule(Long elderId, CreateScheduleRequest request) {
         Elder elder = getOwnedElder(elderId);
@@ -51,6 +49,7 @@ public class ScheduleService {
                 .source(ScheduleSource.MANUAL)
                 .remindBeforeMinutes(request.remindBeforeMinutes())
                 .build());
+        publishScheduleChanged(elder.getId());
         return toResponse(saved);
     }
 
@@ -97,6 +96,7 @@ public class ScheduleService {
                 request.type(),
                 request.remindBeforeMinutes()
         );
+        publishScheduleChanged(elderId);
         return toResponse(schedule);
     }
 
@@ -104,6 +104,7 @@ public class ScheduleService {
         getOwnedElder(elderId);
         Schedule schedule = getOwnedSchedule(elderId, scheduleId);
         scheduleRepository.delete(schedule);
+        publishScheduleChanged(elderId);
     }
 
     public ScheduleResponse createVoiceSchedule(Long elderId, CreateVoiceScheduleRequest request) {
@@ -121,9 +122,14 @@ public class ScheduleService {
                 .confidence(request.confidence())
                 .remindBeforeMinutes(request.remindBeforeMinutes())
                 .build());
+        publishScheduleChanged(elder.getId());
         return toResponse(saved);
     }
 
+    private void publishScheduleChanged(Long elderId) {
+        eventPublisher.publishEvent(DashboardChangedEvent.forElder(elderId, DashboardSection.SCHEDULES));
+    }
+
     private Specification<Schedule> byElderId(Long elderId) {
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("elder").get("id"), elderId);
     }
@@ -171,28 +177,13 @@ public class ScheduleService {
     }
 
     private Elder getOwnedElder(Long elderId) {
-        Elder elder = elderRepository.findById(elderId)
+        currentUserService.validateElderOwnership(elderId, "Schedule access denied");
+        return elderRepository.findById(elderId)
                 .orElseThrow(() -> new EntityNotFoundException("Elder not found"));
-        validateOwnership(elder);
-        return elder;
     }
 
     private void validateOwnership(Elder elder) {
-        User currentUser = getCurrentUser();
-        if (!elder.getUser().getId().equals(currentUser.getId())) {
-            throw new AccessDeniedException("Schedule access denied");
-        }
-    }
-
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null
-                || !authentication.isAuthenticated()
-                || authentication instanceof AnonymousAuthenticationToken) {
-            throw new AuthenticationCredentialsNotFoundException("User not authenticated");
-        }
-        return userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        currentUserService.validateElderOwnership(elder.getId(), "Schedule access denied");
     }
 
     private ScheduleResponse toResponse(Schedule schedule) {
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import site.silverbot.api.common.service.CurrentUserService;
 import site.silverbot.api.notification.service.NotificationService;
+import site.silverbot.api.notification.service.NotificationSettingsCache;
 import site.silverbot.api.user.request.UpdateMySettingsRequest;
 import site.silverbot.api.user.response.MySettingsResponse;
 import site.silverbot.domain.user.ThemeMode;
@@ -16,12 +17,12 @@ import site.silverbot.domain.user.User;
 @Transactional(readOnly = true)
 public class MySettingsService {
     private final CurrentUserService currentUserService;
-    private final NotificationService notificationService;
+    private final NotificationSettingsCache notificationSettingsCache;
     private final ObjectMapper objectMapper;
 
     public MySettingsResponse getMySettings() {
         User user = currentUserService.getCurrentUser();
-        NotificationService.NotificationSettings settings = notificationService.parseSettings(user.getNotificationSettings());
+        NotificationService.NotificationSettings settings = notificationSettingsCache.get(user.getId());
         return toResponse(user.getTheme(), settings);
     }
 
@@ -29,12 +30,12 @@ public class MySettingsService {
     public MySettingsResponse updateMySettings(UpdateMySettingsRequest request) {
         User user = currentUserService.getCurrentUser();
         if (request == null) {
-            NotificationService.NotificationSettings settings = notificationService.parseSettings(user.getNotificationSettings());
+            NotificationService.NotificationSettings settings = notificationSettingsCache.get(user.getId());
             return toResponse(user.getTheme(), settings);
         }
 
         ThemeMode nextTheme = request.theme() == null ? user.getTheme() : request.theme();
-        NotificationService.NotificationSettings currentSettings = notificationService.parseSettings(user.getNotificationSettings());
+        NotificationService.NotificationSettings currentSettings = notificationSettingsCache.get(user.getId());
         UpdateMySettingsRequest.NotificationSettingsRequest update = request.notificationSettings();
 
         NotificationService.NotificationSettings mergedSettings = update == null
@@ -50,6 +51,7 @@ public class MySettingsService {
 
         user.updateTheme(nextTheme);
         user.updateNotificationSettings(mergedSettings.toJson(objectMapper));
+        notificationSettingsCache.evict(user.getId());
 
         return toResponse(nextTheme, mergedSettings);
     }
@@ -1,8 +1,8 @@
 package site.silverbot.config;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
@@ -29,6 +29,7 @@ public class JwtTokenProvider {
     private static final String TYPE_REFRESH = "refresh";
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -38,6 +39,7 @@ public class JwtTokenProvider {
             @Value("${app.jwt.refresh-token-expiration}") long refreshTokenExpiration
     ) {
         this.key = Keys.hmacShaKeyFor(resolveKey(secret));
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -50,45 +52,43 @@ public class JwtTokenProvider {
         return createToken(subject, null, null, TYPE_REFRESH, refreshTokenExpiration);
     }
 
-    public boolean validateToken(String token) {
+    public Optional<VerifiedClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
         try {
-            parseClaims(token);
-            return true;
-        } catch (ExpiredJwtException ex) {
-            return false;
+            return Optional.of(VerifiedClaims.of(parseClaims(token)));
         } catch (JwtException | IllegalArgumentException ex) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
     public boolean isRefreshToken(String token) {
-        return TYPE_REFRESH.equals(getTokenType(token));
+        return verify(token).filter(VerifiedClaims::isRefreshToken).isPresent();
     }
 
     public boolean isAccessToken(String token) {
-        return TYPE_ACCESS.equals(getTokenType(token));
+        return verify(token).filter(VerifiedClaims::isAccessToken).isPresent();
     }
 
     public Optional<Long> getSubjectAsLong(String token) {
-        try {
-            String subject = parseClaims(token).getSubject();
-            if (subject == null) {
-                return Optional.empty();
-            }
-            return Optional.of(Long.parseLong(subject));
-        } catch (JwtException | IllegalArgumentException ex) {
-            return Optional.empty();
-        }
+        return verify(token).flatMap(VerifiedClaims::subjectAsLong);
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
-        String subject = claims.getSubject();
-        String role = claims.get(CLAIM_ROLE, String.class);
-        List<SimpleGrantedAuthority> authorities = role == null
+        return getAuthentication(verify(token)
+                .orElseThrow(() -> new JwtException("Invalid JWT token")));
+    }
+
+    public Authentication getAuthentication(VerifiedClaims claims) {
+        List<SimpleGrantedAuthority> authorities = claims.role() == null
                 ? Collections.emptyList()
-                : List.of(new SimpleGrantedAuthority("ROLE_" + role));
-        return new UsernamePasswordAuthenticationToken(subject, null, authorities);
+                : List.of(new SimpleGrantedAuthority("ROLE_" + claims.role()));
+        return new UsernamePasswordAuthenticationToken(claims.subject(), null, authorities);
     }
 
     public long getAccessTokenExpiration() {
@@ -121,20 +121,7 @@ public class JwtTokenProvider {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private String getTokenType(String token) {
-        try {
-            Claims claims = parseClaims(token);
-            return claims.get(CLAIM_TYPE, String.class);
-        } catch (JwtException | IllegalArgumentException ex) {
-            return null;
-        }
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     private byte[] resolveKey(String secret) {
@@ -149,4 +136,42 @@ public class JwtTokenProvider {
             throw new IllegalStateException("Unable to initialize JWT secret", ex);
         }
     }
+
+    public record VerifiedClaims(
+            String subject,
+            String role,
+            String email,
+            String type,
+            Instant expiresAt
+    ) {
+        private static VerifiedClaims of(Claims claims) {
+            Date expiration = claims.getExpiration();
+            return new VerifiedClaims(
+                    claims.getSubject(),
+                    claims.get(CLAIM_ROLE, String.class),
+                    claims.get(CLAIM_EMAIL, String.class),
+                    claims.get(CLAIM_TYPE, String.class),
+                    expiration == null ? null : expiration.toInstant()
+            );
+        }
+
+        public boolean isAccessToken() {
+            return TYPE_ACCESS.equals(type);
+        }
+
+        public boolean isRefreshToken() {
+            return TYPE_REFRESH.equals(type);
+        }
+
+        public Optional<Long> subjectAsLong() {
+            if (subject == null) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(Long.parseLong(subject));
+            } catch (NumberFormatException ex) {
+                return Optional.empty();
+            }
+        }
+    }
 }
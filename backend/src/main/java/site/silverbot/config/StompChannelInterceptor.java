@@ -1,9 +1,7 @@
 package site.silverbot.config;
 
-import java.lang.reflect.Method;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationContext;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -14,15 +12,22 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import site.silverbot.api.common.service.OwnershipCache;
+import site.silverbot.domain.robot.RobotRepository;
 
 @Component
 @RequiredArgsConstructor
 public class StompChannelInterceptor implements org.springframework.messaging.support.ChannelInterceptor {
-    private static final String JWT_TOKEN_PROVIDER_BEAN = "jwtTokenProvider";
     private static final String USER_NOTIFICATION_PREFIX = "/topic/user/";
     private static final String USER_NOTIFICATION_SUFFIX = "/notifications";
+    private static final String ELDER_TOPIC_PREFIX = "/topic/elder/";
+    private static final String ELDER_DASHBOARD_SUFFIX = "/dashboard";
+    private static final String ROBOT_TOPIC_PREFIX = "/topic/robot/";
+    private static final String ROBOT_COMMANDS_SUFFIX = "/commands";
 
-    private final ApplicationContext applicationContext;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final OwnershipCache ownershipCache;
+    private final RobotRepository robotRepository;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -75,26 +80,10 @@ public class StompChannelInterceptor implements org.springframework.messaging.su
     }
 
     private Authentication authenticate(String token) {
-        Object provider = resolveJwtTokenProvider();
-        try {
-            Method validateToken = provider.getClass().getMethod("validateToken", String.class);
-            Method getAuthentication = provider.getClass().getMethod("getAuthentication", String.class);
-
-            Object valid = validateToken.invoke(provider, token);
-            if (!(valid instanceof Boolean) || !(Boolean) valid) {
-                throw new AuthenticationCredentialsNotFoundException("WebSocket token is invalid");
-            }
-
-            Object authentication = getAuthentication.invoke(provider, token);
-            if (authentication instanceof Authentication auth) {
-                return auth;
-            }
-            throw new AuthenticationCredentialsNotFoundException("WebSocket authentication is invalid");
-        } catch (AuthenticationCredentialsNotFoundException exception) {
-            throw exception;
-        } catch (ReflectiveOperationException exception) {
-            throw new AuthenticationCredentialsNotFoundException("WebSocket token validation failed", exception);
-        }
+        return jwtTokenProvider.verify(token)
+                .filter(JwtTokenProvider.VerifiedClaims::isAccessToken)
+                .map(jwtTokenProvider::getAuthentication)
+                .orElseThrow(() -> new AuthenticationCredentialsNotFoundException("WebSocket token is invalid"));
     }
 
     private Authentication resolveAuthentication(StompHeaderAccessor accessor) {
@@ -109,6 +98,14 @@ public class StompChannelInterceptor implements org.springframework.messaging.su
         if (!StringUtils.hasText(destination)) {
             return;
         }
+        if (destination.startsWith(ELDER_TOPIC_PREFIX) && destination.endsWith(ELDER_DASHBOARD_SUFFIX)) {
+            validateElderDashboardSubscription(destination, authentication);
+            return;
+        }
+        if (destination.startsWith(ROBOT_TOPIC_PREFIX) && destination.endsWith(ROBOT_COMMANDS_SUFFIX)) {
+            validateRobotCommandSubscription(destination, authentication);
+            return;
+        }
         if (!destination.startsWith(USER_NOTIFICATION_PREFIX) || !destination.endsWith(USER_NOTIFICATION_SUFFIX)) {
             return;
         }
@@ -125,10 +122,48 @@ public class StompChannelInterceptor implements org.springframework.messaging.su
         }
     }
 
-    private Object resolveJwtTokenProvider() {
-        if (!applicationContext.containsBean(JWT_TOKEN_PROVIDER_BEAN)) {
-            throw new AuthenticationCredentialsNotFoundException("JwtTokenProvider bean not found");
+    private void validateElderDashboardSubscription(String destination, Authentication authentication) {
+        String requestedElderId = destination.substring(
+                ELDER_TOPIC_PREFIX.length(),
+                destination.length() - ELDER_DASHBOARD_SUFFIX.length()
+        );
+        long elderId;
+        try {
+            elderId = Long.parseLong(requestedElderId);
+        } catch (NumberFormatException exception) {
+            throw new AccessDeniedException("Invalid dashboard topic");
+        }
+        Long ownerUserId = ownershipCache.findOwnerUserId(elderId)
+                .orElseThrow(() -> new AccessDeniedException("Invalid dashboard topic"));
+        if (!String.valueOf(ownerUserId).equals(authentication.getName())) {
+            throw new AccessDeniedException("Not allowed to subscribe to other user's dashboard topic");
+        }
+    }
+
+    private void validateRobotCommandSubscription(String destination, Authentication authentication) {
+        String requestedRobotId = destination.substring(
+                ROBOT_TOPIC_PREFIX.length(),
+                destination.length() - ROBOT_COMMANDS_SUFFIX.length()
+        );
+        long robotId;
+        try {
+            robotId = Long.parseLong(requestedRobotId);
+        } catch (NumberFormatException exception) {
+            throw new AccessDeniedException("Invalid robot command topic");
+        }
+        boolean isRobot = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ROBOT".equals(authority.getAuthority()));
+        if (isRobot) {
+            if (!String.valueOf(robotId).equals(authentication.getName())) {
+                throw new AccessDeniedException("Not allowed to subscribe to other robot's command topic");
+            }
+            return;
+        }
+        Long ownerUserId = robotRepository.findElderIdById(robotId)
+                .flatMap(ownershipCache::findOwnerUserId)
+                .orElseThrow(() -> new AccessDeniedException("Invalid robot command topic"));
+        if (!String.valueOf(ownerUserId).equals(authentication.getName())) {
+            throw new AccessDeniedException("Not allowed to subscribe to other user's robot command topic");
         }
-        return applicationContext.getBean(JWT_TOKEN_PROVIDER_BEAN);
     }
 }
@@ -0,0 +1,20 @@
+package site.silverbot.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final long asyncRequestTimeoutMillis;
+
+    public WebMvcConfig(@Value("${app.web.async-request-timeout-ms:1800000}") long asyncRequestTimeoutMillis) {
+        this.asyncRequestTimeoutMillis = asyncRequestTimeoutMillis;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeoutMillis);
+    }
+}
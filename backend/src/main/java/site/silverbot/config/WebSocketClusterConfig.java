@@ -0,0 +1,38 @@
+package site.silverbot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import site.silverbot.websocket.cluster.BrokerMode;
+import site.silverbot.websocket.cluster.ClusterMessageBus;
+import site.silverbot.websocket.cluster.InMemoryClusterMessageBus;
+import site.silverbot.websocket.cluster.PostgresNotifyClusterMessageBus;
+
+@Configuration
+public class WebSocketClusterConfig {
+    @Bean
+    public ClusterMessageBus clusterMessageBus(
+            @Value("${app.websocket.broker.mode:SIMPLE}") BrokerMode brokerMode,
+            @Value("${app.websocket.cluster.channel:silverbot_ws}") String channel,
+            @Value("${app.websocket.cluster.poll-timeout-ms:500}") int pollTimeoutMs,
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        if (brokerMode == BrokerMode.SIMPLE) {
+            return new InMemoryClusterMessageBus();
+        }
+        PostgresNotifyClusterMessageBus bus = new PostgresNotifyClusterMessageBus(
+                dataSource,
+                objectMapper,
+                meterRegistry,
+                channel,
+                pollTimeoutMs
+        );
+        bus.start();
+        return bus;
+    }
+}
@@ -6,9 +6,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import site.silverbot.websocket.SlowConsumerEvictionHandler;
+import site.silverbot.websocket.WebSocketDeliveryMetrics;
+import site.silverbot.websocket.cluster.BrokerMode;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -16,14 +22,46 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final StompChannelInterceptor stompChannelInterceptor;
     private final WebSocketHandshakeInterceptor handshakeInterceptor;
     private final List<String> allowedOrigins;
+    private final BrokerMode brokerMode;
+    private final RelayProperties relay;
+    private final WebSocketDeliveryMetrics deliveryMetrics;
+    private final ThreadPoolTaskExecutor inboundExecutor;
+    private final ThreadPoolTaskExecutor outboundExecutor;
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeLimit;
+    private final int messageSizeLimit;
 
     public WebSocketConfig(
             StompChannelInterceptor stompChannelInterceptor,
             WebSocketHandshakeInterceptor handshakeInterceptor,
-            @Value("${app.cors.allowed-origins}") String allowedOrigins
+            WebSocketDeliveryMetrics deliveryMetrics,
+            @Value("${app.cors.allowed-origins}") String allowedOrigins,
+            @Value("${app.websocket.broker.mode:SIMPLE}") BrokerMode brokerMode,
+            @Value("${app.websocket.broker.relay.host:localhost}") String relayHost,
+            @Value("${app.websocket.broker.relay.port:61613}") int relayPort,
+            @Value("${app.websocket.broker.relay.login:guest}") String relayLogin,
+            @Value("${app.websocket.broker.relay.passcode:guest}") String relayPasscode,
+            @Value("${app.websocket.broker.relay.virtual-host:}") String relayVirtualHost,
+            @Value("${app.websocket.inbound.pool-size:8}") int inboundPoolSize,
+            @Value("${app.websocket.inbound.queue-capacity:1000}") int inboundQueueCapacity,
+            @Value("${app.websocket.outbound.pool-size:16}") int outboundPoolSize,
+            @Value("${app.websocket.outbound.queue-capacity:10000}") int outboundQueueCapacity,
+            @Value("${app.websocket.transport.send-time-limit-ms:5000}") int sendTimeLimitMs,
+            @Value("${app.websocket.transport.send-buffer-size-limit:262144}") int sendBufferSizeLimit,
+            @Value("${app.websocket.transport.message-size-limit:65536}") int messageSizeLimit
     ) {
         this.stompChannelInterceptor = stompChannelInterceptor;
         this.handshakeInterceptor = handshakeInterceptor;
+        this.brokerMode = brokerMode;
+        this.relay = new RelayProperties(relayHost, relayPort, relayLogin, relayPasscode, relayVirtualHost);
+        this.deliveryMetrics = deliveryMetrics;
+        this.inboundExecutor = channelExecutor("ws-inbound-", inboundPoolSize, inboundQueueCapacity);
+        this.outboundExecutor = channelExecutor("ws-outbound-", outboundPoolSize, outboundQueueCapacity);
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.messageSizeLimit = messageSizeLimit;
+        deliveryMetrics.bindExecutor("inbound", inboundExecutor);
+        deliveryMetrics.bindExecutor("outbound", outboundExecutor);
         this.allowedOrigins = Arrays.stream(allowedOrigins.split(","))
                 .map(String::trim)
                 .filter(origin -> !origin.isBlank())
@@ -40,12 +78,53 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        if (brokerMode == BrokerMode.RELAY) {
+            StompBrokerRelayRegistration registration = registry.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relay.host())
+                    .setRelayPort(relay.port())
+                    .setClientLogin(relay.login())
+                    .setClientPasscode(relay.passcode())
+                    .setSystemLogin(relay.login())
+                    .setSystemPasscode(relay.passcode());
+            if (!relay.virtualHost().isBlank()) {
+                registration.setVirtualHost(relay.virtualHost());
+            }
+        } else {
+            registry.enableSimpleBroker("/topic");
+        }
         registry.setApplicationDestinationPrefixes("/app");
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompChannelInterceptor);
+        registration.interceptors(stompChannelInterceptor)
+                .taskExecutor(inboundExecutor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(deliveryMetrics)
+                .taskExecutor(outboundExecutor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(handler -> new SlowConsumerEvictionHandler(handler, deliveryMetrics));
+    }
+
+    private ThreadPoolTaskExecutor channelExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private record RelayProperties(String host, int port, String login, String passcode, String virtualHost) {
     }
 }
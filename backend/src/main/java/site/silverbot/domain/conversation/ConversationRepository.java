@@ -1,9 +1,28 @@
 package site.silverbot.domain.conversation;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ConversationRepository extends JpaRepository<Conversation, Long> {
     Page<Conversation> findByRobotIdOrderByRecordedAtDescIdDesc(Long robotId, Pageable pageable);
+
+    @Query("""
+            SELECT c
+              FROM Conversation c
+             WHERE c.robot.id = :robotId
+               AND (c.recordedAt < :recordedAt OR (c.recordedAt = :recordedAt AND c.id < :id))
+             ORDER BY c.recordedAt DESC, c.id DESC
+            """)
+    List<Conversation> findByRobotIdBefore(
+            @Param("robotId") Long robotId,
+            @Param("recordedAt") LocalDateTime recordedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
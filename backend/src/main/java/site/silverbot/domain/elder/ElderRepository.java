@@ -1,9 +1,19 @@
 package site.silverbot.domain.elder;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ElderRepository extends JpaRepository<Elder, Long> {
     List<Elder> findAllByUserId(Long userId);
+
+    @Query("select e.id from Elder e where e.id > :afterId order by e.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select e.user.id from Elder e where e.id = :elderId")
+    Optional<Long> findUserIdById(@Param("elderId") Long elderId);
 }
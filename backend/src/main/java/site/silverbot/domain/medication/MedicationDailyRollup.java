@@ -0,0 +1,58 @@
+package site.silverbot.domain.medication;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "medication_daily_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_medication_daily_rollup_elder_date", columnNames = {
+                "elder_id",
+                "rollup_date"
+        })
+)
+public class MedicationDailyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "elder_id", nullable = false)
+    private Long elderId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "morning_expected", nullable = false)
+    private int morningExpected;
+
+    @Column(name = "morning_taken", nullable = false)
+    private int morningTaken;
+
+    @Column(name = "morning_missed", nullable = false)
+    private int morningMissed;
+
+    @Column(name = "evening_expected", nullable = false)
+    private int eveningExpected;
+
+    @Column(name = "evening_taken", nullable = false)
+    private int eveningTaken;
+
+    @Column(name = "evening_missed", nullable = false)
+    private int eveningMissed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
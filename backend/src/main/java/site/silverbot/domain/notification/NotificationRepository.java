@@ -1,6 +1,8 @@
 package site.silverbot.domain.notification;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -15,8 +17,48 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Page<Notification> findAllByUserIdAndIsReadOrderByCreatedAtDesc(Long userId, boolean isRead, Pageable pageable);
 
+    @Query("""
+            SELECT n
+              FROM Notification n
+             WHERE n.user.id = :userId
+               AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+             ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findAllByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT n
+              FROM Notification n
+             WHERE n.user.id = :userId
+               AND n.isRead = :isRead
+               AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+             ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findAllByUserIdAndIsReadBefore(
+            @Param("userId") Long userId,
+            @Param("isRead") boolean isRead,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     long countByUserIdAndIsReadFalse(Long userId);
 
+    @Query("""
+            SELECT n.user.id AS userId,
+                   COUNT(n) AS unreadCount
+              FROM Notification n
+             WHERE n.user.id IN :userIds
+               AND n.isRead = false
+             GROUP BY n.user.id
+            """)
+    List<UnreadCountView> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
     Optional<Notification> findByIdAndUserId(Long id, Long userId);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
@@ -28,4 +70,10 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
                AND n.isRead = false
             """)
     int markAllAsReadByUserId(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    interface UnreadCountView {
+        Long getUserId();
+
+        long getUnreadCount();
+    }
 }
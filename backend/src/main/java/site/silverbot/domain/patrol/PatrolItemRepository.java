@@ -0,0 +1,18 @@
+package site.silverbot.domain.patrol;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PatrolItemRepository extends JpaRepository<PatrolItem, Long> {
+    @Query("""
+            SELECT i
+              FROM PatrolItem i
+             WHERE i.patrolResult.id IN :patrolResultIds
+             ORDER BY i.checkedAt ASC, i.id ASC
+            """)
+    List<PatrolItem> findAllByPatrolResultIdIn(@Param("patrolResultIds") Collection<Long> patrolResultIds);
+}
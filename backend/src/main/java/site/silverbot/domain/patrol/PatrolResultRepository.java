@@ -1,18 +1,33 @@
 package site.silverbot.domain.patrol;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PatrolResultRepository extends JpaRepository<PatrolResult, Long> {
-    @EntityGraph(attributePaths = "items")
     Optional<PatrolResult> findTopByElderIdOrderByCompletedAtDescIdDesc(Long elderId);
 
-    @EntityGraph(attributePaths = "items")
     Page<PatrolResult> findByElderIdOrderByCompletedAtDescIdDesc(Long elderId, Pageable pageable);
 
+    @Query("""
+            SELECT p
+              FROM PatrolResult p
+             WHERE p.elder.id = :elderId
+               AND (p.completedAt < :completedAt OR (p.completedAt = :completedAt AND p.id < :id))
+             ORDER BY p.completedAt DESC, p.id DESC
+            """)
+    List<PatrolResult> findByElderIdBefore(
+            @Param("elderId") Long elderId,
+            @Param("completedAt") LocalDateTime completedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     Optional<PatrolResult> findByPatrolId(String patrolId);
 }
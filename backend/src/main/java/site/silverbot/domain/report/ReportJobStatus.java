@@ -0,0 +1,7 @@
+package site.silverbot.domain.report;
+
+public enum ReportJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
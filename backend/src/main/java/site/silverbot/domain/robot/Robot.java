@@ -106,6 +106,9 @@ public class Robot {
     @Column(name = "offline_notified_at")
     private LocalDateTime offlineNotifiedAt;
 
+    @Column(name = "telemetry_version", nullable = false)
+    private Long telemetryVersion = 0L;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -221,6 +224,11 @@ public class Robot {
         }
     }
 
+    public void replaceLcdText(String message, String subMessage) {
+        this.lcdMessage = message;
+        this.lcdSubMessage = subMessage;
+    }
+
     public void updateDispenserRemaining(Integer remaining) {
         if (remaining != null) {
             this.dispenserRemaining = remaining;
@@ -231,6 +239,10 @@ public class Robot {
         this.lastSyncAt = lastSyncAt;
     }
 
+    public void increaseTelemetryVersion() {
+        this.telemetryVersion = telemetryVersion + 1;
+    }
+
     public void clearOfflineNotification() {
         this.offlineNotifiedAt = null;
     }
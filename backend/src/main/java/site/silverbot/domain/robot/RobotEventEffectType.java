@@ -0,0 +1,7 @@
+package site.silverbot.domain.robot;
+
+public enum RobotEventEffectType {
+    MEDICATION_TAKEN,
+    MEDICATION_DEFERRED,
+    ACTIVITY
+}
@@ -0,0 +1,85 @@
+package site.silverbot.domain.robot;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "robot_event_outbox",
+        indexes = {
+                @Index(name = "idx_robot_event_outbox_status_id", columnList = "status, id"),
+                @Index(name = "idx_robot_event_outbox_claim_token", columnList = "claim_token")
+        }
+)
+public class RobotEventOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "elder_id", nullable = false)
+    private Long elderId;
+
+    @Column(name = "robot_id", nullable = false)
+    private Long robotId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "effect_type", nullable = false, length = 30)
+    private RobotEventEffectType effectType;
+
+    @Column(name = "medication_id")
+    private Long medicationId;
+
+    @Column(name = "activity_type", length = 30)
+    private String activityType;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(length = 50)
+    private String location;
+
+    @Column(length = 500)
+    private String message;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RobotEventOutboxStatus status = RobotEventOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
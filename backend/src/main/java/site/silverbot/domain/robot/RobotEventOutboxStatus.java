@@ -0,0 +1,8 @@
+package site.silverbot.domain.robot;
+
+public enum RobotEventOutboxStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,7 +27,13 @@ import site.silverbot.domain.elder.Elder;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "robot_lcd_event")
+@Table(
+        name = "robot_lcd_event",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_robot_lcd_event_client_event",
+                columnNames = {"robot_id", "client_event_id", "occurred_at"}
+        )
+)
 public class RobotLcdEvent {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,6 +49,9 @@ public class RobotLcdEvent {
     @OnDelete(action = OnDeleteAction.SET_NULL)
     private Elder elder;
 
+    @Column(name = "client_event_id", length = 64)
+    private String clientEventId;
+
     @Column(name = "event_type", nullable = false, length = 40)
     private String eventType;
 
@@ -71,6 +81,7 @@ public class RobotLcdEvent {
     private RobotLcdEvent(
             Robot robot,
             Elder elder,
+            String clientEventId,
             String eventType,
             String eventAction,
             Long medicationId,
@@ -81,6 +92,7 @@ public class RobotLcdEvent {
     ) {
         this.robot = robot;
         this.elder = elder;
+        this.clientEventId = clientEventId;
         this.eventType = eventType;
         this.eventAction = eventAction;
         this.medicationId = medicationId;
@@ -0,0 +1,45 @@
+package site.silverbot.domain.robot;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@IdClass(RobotLcdEventClientEvent.Key.class)
+@Table(name = "robot_lcd_event_client_event")
+public class RobotLcdEventClientEvent {
+    @Id
+    @Column(name = "robot_id", nullable = false)
+    private Long robotId;
+
+    @Id
+    @Column(name = "client_event_id", nullable = false, length = 64)
+    private String clientEventId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long robotId;
+        private String clientEventId;
+    }
+}
@@ -1,9 +1,14 @@
 package site.silverbot.domain.robot;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RobotRepository extends JpaRepository<Robot, Long> {
     Optional<Robot> findBySerialNumber(String serialNumber);
@@ -15,4 +20,63 @@ public interface RobotRepository extends JpaRepository<Robot, Long> {
     List<Robot> findByElderIdIn(List<Long> elderIds);
 
     List<Robot> findAllByElderIdIn(List<Long> elderIds);
+
+    @Query("select r.elder.id from Robot r where r.id = :robotId")
+    Optional<Long> findElderIdById(@Param("robotId") Long robotId);
+
+    @Query("""
+            SELECT r
+              FROM Robot r
+              LEFT JOIN FETCH r.elder e
+              LEFT JOIN FETCH e.user
+             WHERE r.id IN :ids
+            """)
+    List<Robot> findAllWithElderByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT r.id AS id,
+                   r.networkStatus AS networkStatus,
+                   r.lastSyncAt AS lastSyncAt
+              FROM Robot r
+             WHERE r.networkStatus = site.silverbot.domain.robot.NetworkStatus.CONNECTED
+                OR (r.offlineNotifiedAt IS NULL AND r.lastSyncAt IS NOT NULL)
+            """)
+    List<HeartbeatView> findHeartbeatCandidates();
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Robot r
+               SET r.networkStatus = site.silverbot.domain.robot.NetworkStatus.DISCONNECTED,
+                   r.updatedAt = :now
+             WHERE r.id IN :ids
+               AND r.networkStatus <> site.silverbot.domain.robot.NetworkStatus.DISCONNECTED
+               AND (r.lastSyncAt IS NULL OR r.lastSyncAt <= :cutoff)
+            """)
+    int markDisconnected(
+            @Param("ids") Collection<Long> ids,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Robot r
+               SET r.offlineNotifiedAt = :now
+             WHERE r.id IN :ids
+               AND r.offlineNotifiedAt IS NULL
+               AND r.lastSyncAt <= :cutoff
+            """)
+    int markOfflineNotified(
+            @Param("ids") Collection<Long> ids,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("now") LocalDateTime now
+    );
+
+    interface HeartbeatView {
+        Long getId();
+
+        NetworkStatus getNetworkStatus();
+
+        LocalDateTime getLastSyncAt();
+    }
 }
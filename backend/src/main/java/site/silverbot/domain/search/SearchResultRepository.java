@@ -1,9 +1,28 @@
 package site.silverbot.domain.search;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SearchResultRepository extends JpaRepository<SearchResult, Long> {
     Page<SearchResult> findByRobotIdOrderBySearchedAtDescIdDesc(Long robotId, Pageable pageable);
+
+    @Query("""
+            SELECT s
+              FROM SearchResult s
+             WHERE s.robot.id = :robotId
+               AND (s.searchedAt < :searchedAt OR (s.searchedAt = :searchedAt AND s.id < :id))
+             ORDER BY s.searchedAt DESC, s.id DESC
+            """)
+    List<SearchResult> findByRobotIdBefore(
+            @Param("robotId") Long robotId,
+            @Param("searchedAt") LocalDateTime searchedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
@@ -3,9 +3,14 @@ package site.silverbot.domain.user;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("select u.notificationSettings from User u where u.id = :userId")
+    Optional<String> findNotificationSettingsById(@Param("userId") Long userId);
 }
@@ -0,0 +1,18 @@
+package site.silverbot.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.silverbot.api.medication.service.MedicationRollupJob;
+
+@Component
+@RequiredArgsConstructor
+public class MedicationRollupScheduler {
+    private final MedicationRollupJob medicationRollupJob;
+
+    @Scheduled(cron = "${app.medication.rollup.cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void rollForward() {
+        medicationRollupJob.rollForward();
+    }
+}
@@ -0,0 +1,20 @@
+package site.silverbot.scheduler;
+
+import java.time.LocalDateTime;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.silverbot.api.medication.service.MissedDoseDetector;
+
+@Component
+@RequiredArgsConstructor
+public class MissedDoseScheduler {
+    private final MissedDoseDetector missedDoseDetector;
+
+    @Scheduled(fixedDelayString = "${app.medication.missed-dose.interval-ms:60000}")
+    public void detectMissedDoses() {
+        missedDoseDetector.detect(LocalDateTime.now());
+    }
+}
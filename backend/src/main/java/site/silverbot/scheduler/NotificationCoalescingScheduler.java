@@ -0,0 +1,18 @@
+package site.silverbot.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.silverbot.api.notification.service.NotificationCoalescer;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalescingScheduler {
+    private final NotificationCoalescer notificationCoalescer;
+
+    @Scheduled(fixedDelayString = "${app.notification.coalescing.flush-interval-ms:1000}")
+    public void flush() {
+        notificationCoalescer.flush();
+    }
+}
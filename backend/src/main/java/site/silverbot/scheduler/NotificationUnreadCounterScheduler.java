@@ -0,0 +1,21 @@
+package site.silverbot.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.silverbot.api.notification.service.NotificationUnreadCounter;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounterScheduler {
+    private final NotificationUnreadCounter notificationUnreadCounter;
+
+    @Scheduled(
+            fixedDelayString = "${app.notification.unread-counter.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.notification.unread-counter.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        notificationUnreadCounter.reconcile();
+    }
+}
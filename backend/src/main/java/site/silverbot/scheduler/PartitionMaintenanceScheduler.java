@@ -0,0 +1,20 @@
+package site.silverbot.scheduler;
+
+import java.time.LocalDate;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.silverbot.api.partition.service.PartitionMaintenanceJob;
+
+@Component
+@RequiredArgsConstructor
+public class PartitionMaintenanceScheduler {
+    private final PartitionMaintenanceJob partitionMaintenanceJob;
+
+    @Scheduled(cron = "${app.partition.maintenance.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        partitionMaintenanceJob.maintain(LocalDate.now());
+    }
+}
@@ -3,10 +3,22 @@ package site.silverbot.scheduler;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.silverbot.api.dashboard.model.DashboardSection;
+import site.silverbot.api.dashboard.service.DashboardChangedEvent;
+import site.silverbot.api.robot.service.RobotHeartbeatRegistry;
+import site.silverbot.api.robot.service.RobotHeartbeatRegistry.ExpiredHeartbeat;
 import site.silverbot.api.robot.service.RobotStatusNotifier;
 import site.silverbot.domain.robot.NetworkStatus;
 import site.silverbot.domain.robot.Robot;
@@ -15,39 +27,118 @@ import site.silverbot.domain.robot.RobotRepository;
 @Component
 @RequiredArgsConstructor
 public class RobotConnectionScheduler {
-    private static final Duration DISCONNECT_THRESHOLD = Duration.ofSeconds(120);
-    private static final Duration OFFLINE_NOTIFY_THRESHOLD = Duration.ofMinutes(30);
-
     private final RobotRepository robotRepository;
     private final RobotStatusNotifier robotStatusNotifier;
+    private final RobotHeartbeatRegistry robotHeartbeatRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadHeartbeats() {
+        for (RobotRepository.HeartbeatView robot : robotRepository.findHeartbeatCandidates()) {
+            if (robot.getNetworkStatus() == NetworkStatus.DISCONNECTED) {
+                robotHeartbeatRegistry.trackDisconnected(robot.getId(), robot.getLastSyncAt());
+            } else {
+                robotHeartbeatRegistry.recordHeartbeat(robot.getId(), robot.getLastSyncAt());
+            }
+        }
+    }
 
     @Scheduled(fixedRateString = "30000")
     @Transactional
     public void checkRobotConnections() {
         LocalDateTime now = LocalDateTime.now();
-        List<Robot> robots = robotRepository.findAll();
+        List<ExpiredHeartbeat> expired = robotHeartbeatRegistry.pollExpired(now);
+        if (expired.isEmpty()) {
+            return;
+        }
+        requeueOnRollback(expired);
 
+        Map<Long, ExpiredHeartbeat> disconnects = byRobotId(expired, RobotHeartbeatRegistry.Stage.DISCONNECT);
+        Map<Long, ExpiredHeartbeat> offlineNotifies = byRobotId(expired, RobotHeartbeatRegistry.Stage.OFFLINE_NOTIFY);
+        if (!disconnects.isEmpty()) {
+            disconnect(disconnects, now);
+        }
+        if (!offlineNotifies.isEmpty()) {
+            notifyOffline(offlineNotifies, now);
+        }
+    }
+
+    private void disconnect(Map<Long, ExpiredHeartbeat> expired, LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(RobotHeartbeatRegistry.DISCONNECT_THRESHOLD);
+        List<Robot> robots = robotRepository.findAllWithElderByIdIn(expired.keySet()).stream()
+                .filter(robot -> robot.getNetworkStatus() != NetworkStatus.DISCONNECTED)
+                .filter(robot -> !refreshedFromStore(robot, cutoff))
+                .toList();
+        if (robots.isEmpty()) {
+            return;
+        }
+
+        robotRepository.markDisconnected(robots.stream().map(Robot::getId).toList(), cutoff, now);
         for (Robot robot : robots) {
-            LocalDateTime lastSyncAt = robot.getLastSyncAt();
-            if (lastSyncAt == null) {
-                boolean changed = robot.updateNetworkStatus(NetworkStatus.DISCONNECTED);
-                if (changed) {
-                    robotStatusNotifier.notifyStatusChanged(robot);
-                }
+            if (robot.getElder() != null) {
+                eventPublisher.publishEvent(DashboardChangedEvent.forElder(robot.getElder().getId(), DashboardSection.ROBOT));
+            }
+            if (isHeartbeatRenewed(expired.get(robot.getId()))) {
                 continue;
             }
+            robot.updateNetworkStatus(NetworkStatus.DISCONNECTED);
+            robotStatusNotifier.notifyStatusChanged(robot);
+        }
+    }
 
-            Duration offlineDuration = Duration.between(lastSyncAt, now);
-            if (offlineDuration.compareTo(DISCONNECT_THRESHOLD) >= 0) {
-                boolean changed = robot.updateNetworkStatus(NetworkStatus.DISCONNECTED);
-                if (changed) {
-                    robotStatusNotifier.notifyStatusChanged(robot);
-                }
-                if (robot.needsOfflineNotification(OFFLINE_NOTIFY_THRESHOLD, now)) {
-                    robotStatusNotifier.notifyOffline(robot, offlineDuration);
-                    robot.markOfflineNotified(now);
-                }
+    private void notifyOffline(Map<Long, ExpiredHeartbeat> expired, LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(RobotHeartbeatRegistry.OFFLINE_NOTIFY_THRESHOLD);
+        LocalDateTime disconnectCutoff = now.minus(RobotHeartbeatRegistry.DISCONNECT_THRESHOLD);
+        Map<Long, Robot> robots = robotRepository.findAllWithElderByIdIn(expired.keySet()).stream()
+                .filter(robot -> !refreshedFromStore(robot, disconnectCutoff))
+                .filter(robot -> robot.needsOfflineNotification(RobotHeartbeatRegistry.OFFLINE_NOTIFY_THRESHOLD, now))
+                .collect(Collectors.toMap(Robot::getId, Function.identity()));
+        if (robots.isEmpty()) {
+            return;
+        }
+
+        robotRepository.markOfflineNotified(robots.keySet(), cutoff, now);
+        for (Robot robot : robots.values()) {
+            if (isHeartbeatRenewed(expired.get(robot.getId()))) {
+                continue;
             }
+            robotStatusNotifier.notifyOffline(robot, Duration.between(robot.getLastSyncAt(), now));
+        }
+    }
+
+    private boolean refreshedFromStore(Robot robot, LocalDateTime cutoff) {
+        if (robot.getLastSyncAt() == null || !robot.getLastSyncAt().isAfter(cutoff)) {
+            return false;
+        }
+        robotHeartbeatRegistry.refreshFromStore(robot.getId(), robot.getLastSyncAt());
+        return true;
+    }
+
+    private boolean isHeartbeatRenewed(ExpiredHeartbeat expired) {
+        LocalDateTime lastHeartbeat = robotHeartbeatRegistry.getLastHeartbeat(expired.robotId());
+        return lastHeartbeat != null
+                && expired.lastSyncAt() != null
+                && lastHeartbeat.isAfter(expired.lastSyncAt());
+    }
+
+    private Map<Long, ExpiredHeartbeat> byRobotId(List<ExpiredHeartbeat> expired, RobotHeartbeatRegistry.Stage stage) {
+        return expired.stream()
+                .filter(heartbeat -> heartbeat.stage() == stage)
+                .collect(Collectors.toMap(ExpiredHeartbeat::robotId, Function.identity()));
+    }
+
+    private void requeueOnRollback(List<ExpiredHeartbeat> expired) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    robotHeartbeatRegistry.requeue(expired);
+                }
+            }
+        });
     }
 }
@@ -0,0 +1,44 @@
+package site.silverbot.scheduler;
+
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import site.silverbot.api.robot.service.RobotEventSideEffectProcessor;
+
+@Slf4j
+@Component
+public class RobotEventOutboxPurgeScheduler {
+    private final RobotEventSideEffectProcessor robotEventSideEffectProcessor;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public RobotEventOutboxPurgeScheduler(
+            RobotEventSideEffectProcessor robotEventSideEffectProcessor,
+            @Value("${app.robot.side-effects.outbox.retention-days:7}") int retentionDays,
+            @Value("${app.robot.side-effects.outbox.purge-batch-size:5000}") int batchSize
+    ) {
+        this.robotEventSideEffectProcessor = robotEventSideEffectProcessor;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.robot.side-effects.outbox.purge-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        if (retentionDays <= 0) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = robotEventSideEffectProcessor.purgeProcessed(cutoff, batchSize);
+            total += deleted;
+        } while (deleted >= batchSize);
+        if (total > 0) {
+            log.info("Purged {} processed robot event outbox entries older than {}", total, cutoff);
+        }
+    }
+}
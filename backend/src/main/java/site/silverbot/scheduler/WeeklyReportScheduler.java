@@ -7,18 +7,23 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import site.silverbot.api.report.service.ReportService;
+import site.silverbot.api.report.service.WeeklyReportJob;
 
 @Component
 @RequiredArgsConstructor
 public class WeeklyReportScheduler {
-    private final ReportService reportService;
+    private final WeeklyReportJob weeklyReportJob;
 
     @Scheduled(cron = "${app.report.weekly-cron:0 0 6 ? * MON}", zone = "Asia/Seoul")
     public void generatePreviousWeekReports() {
         LocalDate previousWeekStart = LocalDate.now()
                 .minusWeeks(1)
                 .with(DayOfWeek.MONDAY);
-        reportService.generateWeeklyReportsForAllElders(previousWeekStart);
+        weeklyReportJob.run(previousWeekStart);
+    }
+
+    @Scheduled(fixedDelayString = "${app.report.batch.resume-interval-ms:600000}")
+    public void resumeUnfinishedReports() {
+        weeklyReportJob.resumeUnfinished();
     }
 }
@@ -0,0 +1,28 @@
+package site.silverbot.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+@Slf4j
+public class SlowConsumerEvictionHandler extends WebSocketHandlerDecorator {
+    private final WebSocketDeliveryMetrics deliveryMetrics;
+
+    public SlowConsumerEvictionHandler(WebSocketHandler delegate, WebSocketDeliveryMetrics deliveryMetrics) {
+        super(delegate);
+        this.deliveryMetrics = deliveryMetrics;
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+            deliveryMetrics.recordEviction();
+            log.warn("Closed unreliable WebSocket session={} principal={}",
+                    session.getId(),
+                    session.getPrincipal() == null ? null : session.getPrincipal().getName());
+        }
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
@@ -0,0 +1,156 @@
+package site.silverbot.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WebSocketDeliveryMetrics implements ExecutorChannelInterceptor {
+    private static final String SYSTEM_TOPIC = "system";
+    private static final String OTHER_TOPIC = "other";
+    private static final String ID_SEGMENT = "{id}";
+    private static final Set<String> KNOWN_TOPICS = Set.of(
+            "/topic/robot/{id}/status",
+            "/topic/robot/{id}/lcd",
+            "/topic/robot/{id}/commands",
+            "/topic/elder/{id}/status",
+            "/topic/elder/{id}/dashboard",
+            "/topic/user/{id}/notifications",
+            "/topic/emergency"
+    );
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TopicMeters> topics = new ConcurrentHashMap<>();
+    private final ThreadLocal<HandleContext> handling = new ThreadLocal<>();
+    private final Counter evictionCounter;
+
+    public WebSocketDeliveryMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.evictionCounter = Counter.builder("websocket.sessions.evicted")
+                .description("Sessions closed as unreliable, mostly slow consumers over the send limits")
+                .register(meterRegistry);
+    }
+
+    public void bindExecutor(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.channel.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    public void recordEviction() {
+        evictionCounter.increment();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        metersFor(message).queued().incrementAndGet();
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || ex != null) {
+            TopicMeters meters = metersFor(message);
+            meters.queued().decrementAndGet();
+            meters.dropped().increment();
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        TopicMeters meters = metersFor(message);
+        meters.queued().decrementAndGet();
+        handling.set(new HandleContext(meters, System.nanoTime()));
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        HandleContext context = handling.get();
+        handling.remove();
+        if (context == null) {
+            return;
+        }
+        context.meters().sendLatency().record(System.nanoTime() - context.startedAt(), TimeUnit.NANOSECONDS);
+        if (ex != null) {
+            context.meters().dropped().increment();
+        }
+    }
+
+    static String topicOf(String destination) {
+        if (destination == null || destination.isEmpty()) {
+            return SYSTEM_TOPIC;
+        }
+        StringBuilder topic = new StringBuilder(destination.length());
+        int start = 0;
+        while (start <= destination.length()) {
+            int end = destination.indexOf('/', start);
+            if (end < 0) {
+                end = destination.length();
+            }
+            if (start > 0) {
+                topic.append('/');
+            }
+            String segment = destination.substring(start, end);
+            topic.append(isNumeric(segment) ? ID_SEGMENT : segment);
+            start = end + 1;
+        }
+        String template = topic.toString();
+        return KNOWN_TOPICS.contains(template) ? template : OTHER_TOPIC;
+    }
+
+    private TopicMeters metersFor(Message<?> message) {
+        String topic = topicOf(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        return topics.computeIfAbsent(topic, this::registerTopic);
+    }
+
+    private TopicMeters registerTopic(String topic) {
+        AtomicInteger queued = new AtomicInteger();
+        Gauge.builder("websocket.outbound.queued", queued, AtomicInteger::get)
+                .tag("topic", topic)
+                .description("Outbound messages waiting for a channel worker")
+                .register(meterRegistry);
+        Timer sendLatency = Timer.builder("websocket.outbound.send")
+                .tag("topic", topic)
+                .description("Time spent handing an outbound message to the session")
+                .register(meterRegistry);
+        Counter dropped = Counter.builder("websocket.outbound.dropped")
+                .tag("topic", topic)
+                .register(meterRegistry);
+        return new TopicMeters(queued, sendLatency, dropped);
+    }
+
+    private static boolean isNumeric(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record TopicMeters(AtomicInteger queued, Timer sendLatency, Counter dropped) {
+    }
+
+    private record HandleContext(TopicMeters meters, long startedAt) {
+    }
+}
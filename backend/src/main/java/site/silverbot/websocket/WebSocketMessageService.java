@@ -3,46 +3,55 @@ package site.silverbot.websocket;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import site.silverbot.websocket.cluster.ClusterMessageFanout;
+import site.silverbot.websocket.dto.DashboardDeltaMessage;
 import site.silverbot.websocket.dto.ElderStatusMessage;
 import site.silverbot.websocket.dto.EmergencyMessage;
 import site.silverbot.websocket.dto.LcdModeMessage;
 import site.silverbot.websocket.dto.NotificationMessage;
+import site.silverbot.websocket.dto.RobotCommandMessage;
 import site.silverbot.websocket.dto.RobotStatusMessage;
 
 @Service
 @RequiredArgsConstructor
 public class WebSocketMessageService {
     private final SimpMessagingTemplate messagingTemplate;
+    private final ClusterMessageFanout clusterMessageFanout;
 
     public void sendRobotStatus(long robotId, RobotStatusMessage.Payload payload) {
-        messagingTemplate.convertAndSend(
-                "/topic/robot/" + robotId + "/status",
-                RobotStatusMessage.of(payload)
-        );
+        send("/topic/robot/" + robotId + "/status", RobotStatusMessage.of(payload));
     }
 
     public void sendLcdMode(long robotId, LcdModeMessage.Payload payload) {
-        messagingTemplate.convertAndSend(
-                "/topic/robot/" + robotId + "/lcd",
-                LcdModeMessage.of(payload)
-        );
+        send("/topic/robot/" + robotId + "/lcd", LcdModeMessage.of(payload));
+    }
+
+    public void sendRobotCommand(long robotId, RobotCommandMessage.Payload payload) {
+        send("/topic/robot/" + robotId + "/commands", RobotCommandMessage.of(payload));
     }
 
     public void sendElderStatus(long elderId, ElderStatusMessage.Payload payload) {
-        messagingTemplate.convertAndSend(
-                "/topic/elder/" + elderId + "/status",
-                ElderStatusMessage.of(payload)
-        );
+        send("/topic/elder/" + elderId + "/status", ElderStatusMessage.of(payload));
+    }
+
+    public void sendDashboardDelta(long elderId, DashboardDeltaMessage.Payload payload) {
+        send(dashboardDestination(elderId), DashboardDeltaMessage.of(payload));
+    }
+
+    public String dashboardDestination(long elderId) {
+        return "/topic/elder/" + elderId + "/dashboard";
     }
 
     public void sendNotification(long userId, NotificationMessage.Payload payload) {
-        messagingTemplate.convertAndSend(
-                "/topic/user/" + userId + "/notifications",
-                NotificationMessage.of(payload)
-        );
+        send("/topic/user/" + userId + "/notifications", NotificationMessage.of(payload));
     }
 
     public void broadcastEmergency(EmergencyMessage.Payload payload) {
-        messagingTemplate.convertAndSend("/topic/emergency", EmergencyMessage.of(payload));
+        send("/topic/emergency", EmergencyMessage.of(payload));
+    }
+
+    private void send(String destination, Object message) {
+        messagingTemplate.convertAndSend(destination, message);
+        clusterMessageFanout.publish(destination, message);
     }
 }
@@ -0,0 +1,7 @@
+package site.silverbot.websocket.cluster;
+
+public enum BrokerMode {
+    SIMPLE,
+    RELAY,
+    POSTGRES
+}
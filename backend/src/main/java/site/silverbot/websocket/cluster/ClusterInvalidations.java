@@ -0,0 +1,77 @@
+package site.silverbot.websocket.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class ClusterInvalidations {
+    private static final String PREFIX = "invalidate:";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ClusterMessageBus clusterMessageBus;
+    private final Map<String, Consumer<Long>> handlers = new ConcurrentHashMap<>();
+
+    public ClusterInvalidations(ClusterMessageBus clusterMessageBus) {
+        this.clusterMessageBus = clusterMessageBus;
+        clusterMessageBus.subscribe(this::receive);
+    }
+
+    public void register(String topic, Consumer<Long> handler) {
+        handlers.put(topic, handler);
+    }
+
+    public void publishAfterCommit(String topic, Long key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(topic, key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(topic, key);
+            }
+        });
+    }
+
+    public void publish(String topic, Long key) {
+        clusterMessageBus.publish(new ClusterMessage(nodeId, PREFIX + topic, key));
+    }
+
+    public static boolean isInvalidation(String destination) {
+        return destination != null && destination.startsWith(PREFIX);
+    }
+
+    private void receive(ClusterMessage message) {
+        if (nodeId.equals(message.origin()) || !isInvalidation(message.destination())) {
+            return;
+        }
+        Consumer<Long> handler = handlers.get(message.destination().substring(PREFIX.length()));
+        Long key = toKey(message.payload());
+        if (handler == null || key == null) {
+            return;
+        }
+        try {
+            handler.accept(key);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to apply cluster invalidation {} for {}", message.destination(), key, ex);
+        }
+    }
+
+    private Long toKey(Object payload) {
+        if (payload instanceof Number number) {
+            return number.longValue();
+        }
+        if (payload instanceof JsonNode node && node.canConvertToLong()) {
+            return node.asLong();
+        }
+        return null;
+    }
+}
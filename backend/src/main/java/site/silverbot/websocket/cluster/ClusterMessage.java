@@ -0,0 +1,4 @@
+package site.silverbot.websocket.cluster;
+
+public record ClusterMessage(String origin, String destination, Object payload) {
+}
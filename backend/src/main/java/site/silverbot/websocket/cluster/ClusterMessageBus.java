@@ -0,0 +1,9 @@
+package site.silverbot.websocket.cluster;
+
+import java.util.function.Consumer;
+
+public interface ClusterMessageBus {
+    void publish(ClusterMessage message);
+
+    void subscribe(Consumer<ClusterMessage> subscriber);
+}
@@ -0,0 +1,43 @@
+package site.silverbot.websocket.cluster;
+
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ClusterMessageFanout {
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ClusterMessageBus clusterMessageBus;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BrokerMode brokerMode;
+
+    public ClusterMessageFanout(
+            ClusterMessageBus clusterMessageBus,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${app.websocket.broker.mode:SIMPLE}") BrokerMode brokerMode
+    ) {
+        this.clusterMessageBus = clusterMessageBus;
+        this.messagingTemplate = messagingTemplate;
+        this.brokerMode = brokerMode;
+        clusterMessageBus.subscribe(this::deliver);
+    }
+
+    public void publish(String destination, Object payload) {
+        if (brokerMode == BrokerMode.RELAY) {
+            return;
+        }
+        clusterMessageBus.publish(new ClusterMessage(nodeId, destination, payload));
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    private void deliver(ClusterMessage message) {
+        if (nodeId.equals(message.origin()) || ClusterInvalidations.isInvalidation(message.destination())) {
+            return;
+        }
+        messagingTemplate.convertAndSend(message.destination(), message.payload());
+    }
+}
@@ -0,0 +1,21 @@
+package site.silverbot.websocket.cluster;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+public class InMemoryClusterMessageBus implements ClusterMessageBus {
+    private final List<Consumer<ClusterMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ClusterMessage message) {
+        for (Consumer<ClusterMessage> subscriber : subscribers) {
+            subscriber.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,223 @@
+package site.silverbot.websocket.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+@Slf4j
+public class PostgresNotifyClusterMessageBus implements ClusterMessageBus {
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final long RECONNECT_BACKOFF_MS = 1000L;
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final int pollTimeoutMs;
+    private final List<Consumer<ClusterMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter droppedCounter;
+    private final Counter reconnectCounter;
+    private final Object publishLock = new Object();
+    private volatile boolean running;
+    private Thread listenerThread;
+    private Connection publishConnection;
+
+    public PostgresNotifyClusterMessageBus(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            String channel,
+            int pollTimeoutMs
+    ) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid LISTEN/NOTIFY channel: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.publishedCounter = Counter.builder("websocket.cluster.messages")
+                .tag("direction", "published")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("websocket.cluster.messages")
+                .tag("direction", "received")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("websocket.cluster.messages")
+                .tag("direction", "dropped")
+                .description("Messages that could not be published or read")
+                .register(meterRegistry);
+        this.reconnectCounter = Counter.builder("websocket.cluster.listener.reconnects")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(ClusterMessage message) {
+        String body;
+        try {
+            Map<String, Object> envelope = new LinkedHashMap<>();
+            envelope.put("origin", message.origin());
+            envelope.put("destination", message.destination());
+            envelope.put("payload", message.payload());
+            body = objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException ex) {
+            droppedCounter.increment();
+            log.warn("Failed to serialize cluster message for {}", message.destination(), ex);
+            return;
+        }
+        if (body.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            droppedCounter.increment();
+            log.warn("Cluster message for {} exceeds NOTIFY payload limit, delivered locally only",
+                    message.destination());
+            return;
+        }
+        try {
+            publishNotification(body);
+            publishedCounter.increment();
+        } catch (SQLException ex) {
+            droppedCounter.increment();
+            log.warn("Failed to publish cluster message for {}", message.destination(), ex);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "websocket-cluster-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    public synchronized void shutdown() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+        synchronized (publishLock) {
+            closePublishConnection();
+        }
+    }
+
+    private void publishNotification(String body) throws SQLException {
+        synchronized (publishLock) {
+            try {
+                sendNotify(body);
+            } catch (SQLException ex) {
+                closePublishConnection();
+                sendNotify(body);
+            }
+        }
+    }
+
+    private void sendNotify(String body) throws SQLException {
+        if (publishConnection == null) {
+            publishConnection = dataSource.getConnection();
+            publishConnection.setAutoCommit(true);
+        }
+        try (PreparedStatement statement = publishConnection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, channel);
+            statement.setString(2, body);
+            statement.execute();
+        }
+    }
+
+    private void closePublishConnection() {
+        if (publishConnection == null) {
+            return;
+        }
+        try {
+            publishConnection.close();
+        } catch (SQLException ex) {
+            log.debug("Failed to close cluster publish connection", ex);
+        }
+        publishConnection = null;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for cluster messages on channel {}", channel);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                reconnectCounter.increment();
+                log.warn("Cluster message listener lost its connection, reconnecting", ex);
+                try {
+                    Thread.sleep(RECONNECT_BACKOFF_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String body) {
+        ClusterMessage message;
+        try {
+            JsonNode envelope = objectMapper.readTree(body);
+            message = new ClusterMessage(
+                    envelope.path("origin").asText(null),
+                    envelope.path("destination").asText(null),
+                    envelope.get("payload")
+            );
+        } catch (JsonProcessingException ex) {
+            droppedCounter.increment();
+            log.warn("Ignoring unreadable cluster message", ex);
+            return;
+        }
+        if (message.destination() == null) {
+            droppedCounter.increment();
+            return;
+        }
+        receivedCounter.increment();
+        for (Consumer<ClusterMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException ex) {
+                log.warn("Failed to deliver cluster message to {}", message.destination(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package site.silverbot.websocket.dto;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+public record DashboardDeltaMessage(
+        WebSocketMessageType type,
+        Payload payload,
+        OffsetDateTime timestamp
+) {
+    public static DashboardDeltaMessage of(Payload payload) {
+        return new DashboardDeltaMessage(WebSocketMessageType.DASHBOARD_DELTA, payload, OffsetDateTime.now());
+    }
+
+    public record Payload(
+            Long elderId,
+            DashboardDeltaType delta,
+            Object data
+    ) {
+        public static Payload wakeUp(Long elderId, LocalDateTime wakeUpTime) {
+            return new Payload(elderId, DashboardDeltaType.WAKE_UP, new WakeUp(wakeUpTime));
+        }
+
+        public static Payload elderStatus(ElderStatusMessage.Payload status) {
+            return new Payload(status.elderId(), DashboardDeltaType.ELDER_STATUS, status);
+        }
+
+        public static Payload robotStatus(RobotStatusMessage.Payload status) {
+            return new Payload(status.elderId(), DashboardDeltaType.ROBOT_STATUS, status);
+        }
+    }
+
+    public record WakeUp(
+            LocalDateTime wakeUpTime
+    ) {
+    }
+}
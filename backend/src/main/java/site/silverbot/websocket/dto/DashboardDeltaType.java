@@ -0,0 +1,10 @@
+package site.silverbot.websocket.dto;
+
+public enum DashboardDeltaType {
+    MEDICATION_STATUS,
+    NOTIFICATIONS,
+    SCHEDULES,
+    WAKE_UP,
+    ELDER_STATUS,
+    ROBOT_STATUS
+}
@@ -1,5 +1,6 @@
 package site.silverbot.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.OffsetDateTime;
 
 public record NotificationMessage(
@@ -17,7 +18,12 @@ public record NotificationMessage(
             String title,
             String message,
             Long elderId,
-            String targetPath
+            String targetPath,
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            Long unreadCount
     ) {
+        public Payload(Long id, String type, String title, String message, Long elderId, String targetPath) {
+            this(id, type, title, message, elderId, targetPath, null);
+        }
     }
 }
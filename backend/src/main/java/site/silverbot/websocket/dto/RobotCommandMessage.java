@@ -0,0 +1,23 @@
+package site.silverbot.websocket.dto;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+public record RobotCommandMessage(
+        WebSocketMessageType type,
+        Payload payload,
+        OffsetDateTime timestamp
+) {
+    public static RobotCommandMessage of(Payload payload) {
+        return new RobotCommandMessage(WebSocketMessageType.ROBOT_COMMAND, payload, OffsetDateTime.now());
+    }
+
+    public record Payload(
+            Long robotId,
+            String commandId,
+            String command,
+            Object params,
+            LocalDateTime issuedAt
+    ) {
+    }
+}
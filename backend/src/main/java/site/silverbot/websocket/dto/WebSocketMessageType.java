@@ -5,5 +5,7 @@ public enum WebSocketMessageType {
     LCD_MODE_CHANGE,
     EMERGENCY_ALERT,
     NOTIFICATION,
-    ELDER_STATUS_UPDATE
+    ELDER_STATUS_UPDATE,
+    ROBOT_COMMAND,
+    DASHBOARD_DELTA
 }
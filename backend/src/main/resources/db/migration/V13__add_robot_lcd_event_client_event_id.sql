@@ -0,0 +1,4 @@
+ALTER TABLE robot_lcd_event ADD COLUMN IF NOT EXISTS client_event_id VARCHAR(64);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_robot_lcd_event_client_event
+    ON robot_lcd_event(robot_id, client_event_id);
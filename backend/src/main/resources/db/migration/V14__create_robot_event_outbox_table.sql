@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS robot_event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    elder_id BIGINT NOT NULL,
+    robot_id BIGINT NOT NULL,
+    effect_type VARCHAR(30) NOT NULL,
+    medication_id BIGINT,
+    activity_type VARCHAR(30),
+    user_id BIGINT,
+    location VARCHAR(50),
+    message VARCHAR(500),
+    occurred_at TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    claim_token VARCHAR(36),
+    claimed_at TIMESTAMP,
+    processed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_robot_event_outbox_status_id ON robot_event_outbox(status, id);
+CREATE INDEX IF NOT EXISTS idx_robot_event_outbox_claim_token ON robot_event_outbox(claim_token);
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS report_job_run (
+    id BIGSERIAL PRIMARY KEY,
+    job_name VARCHAR(50) NOT NULL,
+    period_start DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    last_elder_id BIGINT NOT NULL DEFAULT 0,
+    processed_count INT NOT NULL DEFAULT 0,
+    skipped_count INT NOT NULL DEFAULT 0,
+    failed_count INT NOT NULL DEFAULT 0,
+    elders_per_second DOUBLE PRECISION,
+    last_error VARCHAR(500),
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    CONSTRAINT uk_report_job_run_job_period UNIQUE (job_name, period_start)
+);
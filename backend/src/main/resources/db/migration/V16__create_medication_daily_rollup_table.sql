@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS medication_daily_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    elder_id BIGINT NOT NULL REFERENCES elder(id) ON DELETE CASCADE,
+    rollup_date DATE NOT NULL,
+    morning_expected INT NOT NULL DEFAULT 0,
+    morning_taken INT NOT NULL DEFAULT 0,
+    morning_missed INT NOT NULL DEFAULT 0,
+    evening_expected INT NOT NULL DEFAULT 0,
+    evening_taken INT NOT NULL DEFAULT 0,
+    evening_missed INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_medication_daily_rollup_elder_date UNIQUE (elder_id, rollup_date)
+);
@@ -0,0 +1,14 @@
+CREATE INDEX IF NOT EXISTS idx_notification_user_created_id
+    ON notification (user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notification_user_read_created_id
+    ON notification (user_id, is_read, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_patrol_result_elder_completed_id
+    ON patrol_result (elder_id, completed_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_conversation_robot_recorded_id
+    ON conversation (robot_id, recorded_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_search_result_robot_searched_id
+    ON search_result (robot_id, searched_at DESC, id DESC);
@@ -0,0 +1,133 @@
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent_table TEXT, partition_column TEXT, month_start DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    range_start DATE := date_trunc('month', month_start)::DATE;
+    range_end DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := parent_table || '_p' || to_char(month_start, 'YYYYMM');
+    default_name TEXT := parent_table || '_default';
+BEGIN
+    IF to_regclass(quote_ident(current_schema()) || '.' || quote_ident(partition_name)) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format(
+            'CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+            partition_name, parent_table);
+    IF to_regclass(quote_ident(current_schema()) || '.' || quote_ident(default_name)) IS NOT NULL THEN
+        EXECUTE format(
+                'WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                default_name, partition_column, range_start, partition_column, range_end, partition_name);
+    END IF;
+    EXECUTE format(
+            'ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+            parent_table, partition_name, range_start, range_end);
+    RETURN TRUE;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent_table TEXT, partition_column TEXT, from_month DATE, to_month DATE)
+RETURNS INT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::DATE;
+    created INT := 0;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        IF create_monthly_partition(parent_table, partition_column, month_start) THEN
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+ALTER TABLE robot_lcd_event RENAME TO robot_lcd_event_legacy;
+ALTER TABLE robot_lcd_event_legacy RENAME CONSTRAINT robot_lcd_event_pkey TO robot_lcd_event_legacy_pkey;
+ALTER SEQUENCE robot_lcd_event_id_seq OWNED BY NONE;
+
+CREATE TABLE robot_lcd_event (
+    id BIGINT NOT NULL DEFAULT nextval('robot_lcd_event_id_seq'::regclass),
+    robot_id BIGINT NOT NULL REFERENCES robot(id),
+    elder_id BIGINT REFERENCES elder(id),
+    event_type VARCHAR(40) NOT NULL,
+    event_action VARCHAR(40),
+    medication_id BIGINT,
+    location VARCHAR(50),
+    confidence FLOAT,
+    payload JSONB,
+    occurred_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    client_event_id VARCHAR(64),
+    CONSTRAINT robot_lcd_event_pkey PRIMARY KEY (id, occurred_at),
+    CONSTRAINT chk_robot_lcd_event_confidence CHECK (confidence IS NULL OR (confidence >= 0.0 AND confidence <= 1.0))
+) PARTITION BY RANGE (occurred_at);
+
+ALTER SEQUENCE robot_lcd_event_id_seq OWNED BY robot_lcd_event.id;
+
+SELECT create_monthly_partitions(
+        'robot_lcd_event',
+        'occurred_at',
+        LEAST(COALESCE((SELECT MIN(occurred_at) FROM robot_lcd_event_legacy), now())::DATE, now()::DATE),
+        (now() + INTERVAL '3 months')::DATE
+);
+CREATE TABLE robot_lcd_event_default PARTITION OF robot_lcd_event DEFAULT;
+
+INSERT INTO robot_lcd_event (
+    id, robot_id, elder_id, event_type, event_action, medication_id, location, confidence, payload,
+    occurred_at, created_at, client_event_id
+)
+SELECT id, robot_id, elder_id, event_type, event_action, medication_id, location, confidence, payload,
+       occurred_at, created_at, client_event_id
+FROM robot_lcd_event_legacy;
+
+DROP TABLE robot_lcd_event_legacy;
+
+CREATE INDEX IF NOT EXISTS idx_robot_lcd_event_robot_occurred ON robot_lcd_event(robot_id, occurred_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_robot_lcd_event_elder_occurred ON robot_lcd_event(elder_id, occurred_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_robot_lcd_event_action_occurred ON robot_lcd_event(event_action, occurred_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_robot_lcd_event_robot_action_occurred
+    ON robot_lcd_event(robot_id, event_action, occurred_at DESC, id DESC);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_robot_lcd_event_client_event
+    ON robot_lcd_event(robot_id, client_event_id, occurred_at);
+
+ALTER TABLE activity RENAME TO activity_legacy;
+ALTER TABLE activity_legacy RENAME CONSTRAINT activity_pkey TO activity_legacy_pkey;
+ALTER SEQUENCE activity_id_seq OWNED BY NONE;
+
+CREATE TABLE activity (
+    id BIGINT NOT NULL DEFAULT nextval('activity_id_seq'::regclass),
+    elder_id BIGINT NOT NULL REFERENCES elder(id),
+    robot_id BIGINT REFERENCES robot(id),
+    type activity_type NOT NULL,
+    title VARCHAR(100),
+    description TEXT,
+    location VARCHAR(50),
+    confidence FLOAT,
+    detected_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    CONSTRAINT activity_pkey PRIMARY KEY (id, detected_at),
+    CONSTRAINT chk_activity_confidence CHECK (confidence IS NULL OR (confidence >= 0.0 AND confidence <= 1.0))
+) PARTITION BY RANGE (detected_at);
+
+ALTER SEQUENCE activity_id_seq OWNED BY activity.id;
+
+SELECT create_monthly_partitions(
+        'activity',
+        'detected_at',
+        LEAST(COALESCE((SELECT MIN(detected_at) FROM activity_legacy), now())::DATE, now()::DATE),
+        (now() + INTERVAL '3 months')::DATE
+);
+CREATE TABLE activity_default PARTITION OF activity DEFAULT;
+
+INSERT INTO activity (id, elder_id, robot_id, type, title, description, location, confidence, detected_at, created_at)
+SELECT id, elder_id, robot_id, type, title, description, location, confidence, detected_at, created_at
+FROM activity_legacy;
+
+DROP TABLE activity_legacy;
+
+CREATE INDEX IF NOT EXISTS idx_activity_elder_detected ON activity(elder_id, detected_at DESC);
+CREATE INDEX IF NOT EXISTS idx_activity_type ON activity(type);
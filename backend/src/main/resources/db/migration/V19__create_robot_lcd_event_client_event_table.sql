@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS robot_lcd_event_client_event (
+    robot_id BIGINT NOT NULL REFERENCES robot(id) ON DELETE CASCADE,
+    client_event_id VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (robot_id, client_event_id)
+);
+
+INSERT INTO robot_lcd_event_client_event (robot_id, client_event_id, created_at)
+SELECT robot_id, client_event_id, MIN(created_at)
+FROM robot_lcd_event
+WHERE client_event_id IS NOT NULL
+GROUP BY robot_id, client_event_id
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_robot_event_outbox_done_processed_at
+    ON robot_event_outbox(processed_at)
+    WHERE status = 'DONE';
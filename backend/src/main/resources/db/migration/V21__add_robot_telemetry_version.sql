@@ -0,0 +1,2 @@
+ALTER TABLE robot
+    ADD COLUMN IF NOT EXISTS telemetry_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_robot_lcd_event_client_event_created_at
+    ON robot_lcd_event_client_event(created_at);
@@ -33,4 +33,29 @@ class JwtTokenProviderTest {
         assertThat(jwtTokenProvider.isRefreshToken(token)).isTrue();
         assertThat(jwtTokenProvider.isAccessToken(token)).isFalse();
     }
+
+    @Test
+    void verify_returnsClaimsFromSingleParse() {
+        String token = jwtTokenProvider.createAccessToken("7", "ROBOT", null);
+
+        JwtTokenProvider.VerifiedClaims claims = jwtTokenProvider.verify(token).orElseThrow();
+
+        assertThat(claims.isAccessToken()).isTrue();
+        assertThat(claims.subjectAsLong()).contains(7L);
+        assertThat(jwtTokenProvider.getAuthentication(claims).getAuthorities())
+                .extracting("authority")
+                .containsExactly("ROLE_ROBOT");
+    }
+
+    @Test
+    void verify_rejectsTamperedAndExpiredTokens() {
+        String token = jwtTokenProvider.createAccessToken("1", "WORKER", "test@test.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        JwtTokenProvider expiring = new JwtTokenProvider("test-secret", -1000L, -1000L);
+
+        assertThat(jwtTokenProvider.verify(tampered)).isEmpty();
+        assertThat(expiring.verify(expiring.createAccessToken("1", "WORKER", null))).isEmpty();
+        assertThat(jwtTokenProvider.verify("not-a-token")).isEmpty();
+    }
 }
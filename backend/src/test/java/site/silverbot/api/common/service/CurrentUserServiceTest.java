@@ -0,0 +1,122 @@
+package site.silverbot.api.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import site.silverbot.domain.elder.Elder;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.domain.elder.ElderStatus;
+import site.silverbot.domain.elder.Gender;
+import site.silverbot.domain.user.User;
+import site.silverbot.domain.user.UserRepository;
+import site.silverbot.domain.user.UserRole;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CurrentUserServiceTest {
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private ElderRepository elderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private Elder elder;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("소유자")
+                .email("principal-owner@test.com")
+                .password("password")
+                .role(UserRole.WORKER)
+                .build());
+        userRepository.save(User.builder()
+                .name("타인")
+                .email("principal-other@test.com")
+                .password("password")
+                .role(UserRole.WORKER)
+                .build());
+        elder = elderRepository.save(Elder.builder()
+                .user(owner)
+                .name("김옥분")
+                .birthDate(LocalDate.of(1946, 5, 15))
+                .gender(Gender.FEMALE)
+                .status(ElderStatus.SAFE)
+                .build());
+        entityManager.flush();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @WithMockUser(username = "principal-owner@test.com", roles = {"WORKER"})
+    void validateElderOwnership_resolvesPrincipalOncePerRequestAndCachesOwner() {
+        long firstQueries = countStatements(() ->
+                currentUserService.validateElderOwnership(elder.getId(), "denied"));
+        long repeatedQueries = countStatements(() -> {
+            currentUserService.validateElderOwnership(elder.getId(), "denied");
+            assertThat(currentUserService.getCurrentUserId()).isEqualTo(owner.getId());
+            assertThat(currentUserService.getCurrentPrincipal().role()).isEqualTo("WORKER");
+        });
+
+        assertThat(firstQueries).isEqualTo(2);
+        assertThat(repeatedQueries).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = "principal-other@test.com", roles = {"WORKER"})
+    void validateElderOwnership_deniesOtherUserAndReportsMissingElder() {
+        assertThatThrownBy(() -> currentUserService.validateElderOwnership(elder.getId(), "denied"))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(currentUserService.isElderOwner(elder.getId())).isFalse();
+        assertThatThrownBy(() -> currentUserService.validateElderOwnership(Long.MAX_VALUE, "denied"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            action.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package site.silverbot.api.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.websocket.cluster.ClusterInvalidations;
+import site.silverbot.websocket.cluster.InMemoryClusterMessageBus;
+
+@ExtendWith(MockitoExtension.class)
+class OwnershipCacheTest {
+
+    @Mock
+    private ElderRepository elderRepository;
+
+    @Test
+    void findOwnerUserId_evictsLeastRecentlyUsedEntryAtMaxSize() {
+        OwnershipCache cache = cache(2);
+        when(elderRepository.findUserIdById(anyLong())).thenReturn(Optional.of(10L));
+
+        cache.findOwnerUserId(1L);
+        cache.findOwnerUserId(2L);
+        cache.findOwnerUserId(1L);
+        cache.findOwnerUserId(3L);
+        cache.findOwnerUserId(1L);
+        cache.findOwnerUserId(2L);
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(elderRepository, times(1)).findUserIdById(1L);
+        verify(elderRepository, times(2)).findUserIdById(2L);
+    }
+
+    @Test
+    void findOwnerUserId_doesNotCacheLoadRacingAnEvictionWhoseGenerationWasTrimmed() {
+        OwnershipCache cache = cache(1);
+        when(elderRepository.findUserIdById(1L))
+                .thenAnswer(invocation -> {
+                    cache.evictElder(1L);
+                    cache.evictElder(2L);
+                    return Optional.of(10L);
+                })
+                .thenReturn(Optional.of(20L));
+
+        assertThat(cache.findOwnerUserId(1L)).contains(10L);
+        assertThat(cache.findOwnerUserId(1L)).contains(20L);
+        verify(elderRepository, times(2)).findUserIdById(1L);
+    }
+
+    private OwnershipCache cache(int maxSize) {
+        return new OwnershipCache(
+                elderRepository,
+                new SimpleMeterRegistry(),
+                new ClusterInvalidations(new InMemoryClusterMessageBus()),
+                maxSize
+        );
+    }
+}
@@ -18,6 +18,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import site.silverbot.api.dashboard.response.DashboardResponse;
+import site.silverbot.api.schedule.request.CreateScheduleRequest;
+import site.silverbot.api.schedule.service.ScheduleService;
 import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.elder.ElderRepository;
 import site.silverbot.domain.elder.Gender;
@@ -25,6 +27,7 @@ import site.silverbot.domain.emergency.EmergencyRepository;
 import site.silverbot.domain.robot.NetworkStatus;
 import site.silverbot.domain.robot.Robot;
 import site.silverbot.domain.robot.RobotRepository;
+import site.silverbot.domain.schedule.ScheduleType;
 import site.silverbot.domain.user.User;
 import site.silverbot.domain.user.UserRepository;
 import site.silverbot.domain.user.UserRole;
@@ -49,6 +52,9 @@ class DashboardServiceTest {
     @Autowired
     private RobotRepository robotRepository;
 
+    @Autowired
+    private ScheduleService scheduleService;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -128,6 +134,27 @@ class DashboardServiceTest {
         assertThat(response.todaySummary().medicationStatus().label()).isEqualTo("등록된 약 없음");
     }
 
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getDashboard_servesCachedSectionsUntilWriterInvalidates() {
+        DashboardResponse first = dashboardService.getDashboard(elder.getId());
+        insertMedication(elder.getId(), "혈압약", "1정", "MORNING", LocalDate.now(), null);
+
+        scheduleService.createSchedule(elder.getId(), new CreateScheduleRequest(
+                "병원 방문",
+                null,
+                LocalDate.now().atTime(10, 0),
+                "서울병원",
+                ScheduleType.HOSPITAL,
+                null
+        ));
+        DashboardResponse second = dashboardService.getDashboard(elder.getId());
+
+        assertThat(first.weeklySchedules()).isEmpty();
+        assertThat(second.weeklySchedules()).hasSize(1);
+        assertThat(second.todaySummary().medicationStatus().total()).isZero();
+    }
+
     @Test
     @WithMockUser(username = "other@test.com", roles = {"WORKER"})
     void getDashboard_deniesWhenCurrentUserIsNotOwner() {
@@ -0,0 +1,59 @@
+package site.silverbot.api.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import site.silverbot.websocket.cluster.BrokerMode;
+
+class DashboardSubscriptionRegistryTest {
+
+    @Test
+    void tracksDashboardSubscriptionsPerElder() {
+        DashboardSubscriptionRegistry registry = new DashboardSubscriptionRegistry(BrokerMode.SIMPLE);
+
+        registry.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s1", "sub-1",
+                "/topic/elder/3/dashboard")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-1",
+                "/topic/elder/3/dashboard")));
+        registry.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, "s2", "sub-2",
+                "/topic/elder/3/status")));
+
+        assertThat(registry.hasSubscribers(3L)).isTrue();
+        assertThat(registry.hasSubscribers(4L)).isFalse();
+
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, "s1", "sub-1", null)));
+        assertThat(registry.hasSubscribers(3L)).isTrue();
+
+        Message<byte[]> disconnect = frame(StompCommand.DISCONNECT, "s2", null, null);
+        registry.onDisconnect(new SessionDisconnectEvent(this, disconnect, "s2", CloseStatus.NORMAL));
+        assertThat(registry.hasSubscribers(3L)).isFalse();
+    }
+
+    @Test
+    void clusteredBrokerAlwaysPublishes() {
+        DashboardSubscriptionRegistry registry = new DashboardSubscriptionRegistry(BrokerMode.POSTGRES);
+
+        assertThat(registry.hasSubscribers(3L)).isTrue();
+    }
+
+    private Message<byte[]> frame(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,202 @@
+package site.silverbot.api.export.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import site.silverbot.api.export.model.ExportFormat;
+import site.silverbot.api.export.model.ExportSection;
+import site.silverbot.api.export.service.ElderExportService.ExportRequest;
+import site.silverbot.domain.elder.Elder;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.domain.elder.Gender;
+import site.silverbot.domain.robot.Robot;
+import site.silverbot.domain.robot.RobotRepository;
+import site.silverbot.domain.user.User;
+import site.silverbot.domain.user.UserRepository;
+import site.silverbot.domain.user.UserRole;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ElderExportServiceTest {
+
+    @Autowired
+    private ElderExportService elderExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ElderRepository elderRepository;
+
+    @Autowired
+    private RobotRepository robotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Elder elder;
+    private Robot robot;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .name("김복지")
+                .email("export-owner@test.com")
+                .password("password")
+                .role(UserRole.WORKER)
+                .build());
+        userRepository.save(User.builder()
+                .name("박보호")
+                .email("export-other@test.com")
+                .password("password")
+                .role(UserRole.WORKER)
+                .build());
+        elder = elderRepository.save(Elder.builder()
+                .user(user)
+                .name("김옥분")
+                .birthDate(LocalDate.of(1946, 5, 15))
+                .gender(Gender.FEMALE)
+                .build());
+        robot = robotRepository.save(Robot.builder()
+                .elder(elder)
+                .serialNumber("RB-EXPORT-01")
+                .build());
+
+        insertActivity("WAKE_UP", "기상", LocalDateTime.of(2026, 2, 7, 7, 20));
+        insertActivity("OUT_DETECTED", "외출, 산책", LocalDateTime.of(2026, 2, 8, 10, 0));
+        insertActivity("RETURN_DETECTED", "귀가", LocalDateTime.of(2026, 3, 1, 18, 0));
+    }
+
+    @Test
+    @WithMockUser(username = "export-owner@test.com", roles = {"WORKER"})
+    void export_writesOneJsonObjectPerRowInRange() throws Exception {
+        ExportRequest request = elderExportService.prepare(
+                elder.getId(),
+                ExportFormat.NDJSON,
+                Set.of(ExportSection.ACTIVITY),
+                LocalDate.of(2026, 2, 1),
+                LocalDate.of(2026, 2, 28),
+                false
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = elderExportService.export(request, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("section").asText()).isEqualTo("activity");
+        assertThat(first.get("type").asText()).isEqualTo("WAKE_UP");
+        assertThat(first.get("detected_at").asText()).isEqualTo("2026-02-07T07:20");
+        assertThat(objectMapper.readTree(lines.get(1)).get("title").asText()).isEqualTo("외출, 산책");
+    }
+
+    @Test
+    @WithMockUser(username = "export-owner@test.com", roles = {"WORKER"})
+    void export_writesGzippedCsvWithSectionHeaders() throws Exception {
+        ExportRequest request = elderExportService.prepare(
+                elder.getId(), ExportFormat.CSV, Set.of(ExportSection.ACTIVITY), null, null, true);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        elderExportService.export(request, output);
+
+        String csv;
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            csv = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> lines = csv.lines().toList();
+        assertThat(request.filename()).contains("-activity-").endsWith(".csv.gz");
+        assertThat(lines.get(0)).startsWith("section,id,robot_id,type,title");
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(2)).contains("\"외출, 산책\"");
+    }
+
+    @Test
+    @WithMockUser(username = "export-owner@test.com", roles = {"WORKER"})
+    void prepare_rejectsCsvWithMoreThanOneSection() {
+        assertThrows(IllegalArgumentException.class, () -> elderExportService.prepare(
+                elder.getId(),
+                ExportFormat.CSV,
+                Set.of(ExportSection.ACTIVITY, ExportSection.PATROL),
+                null,
+                null,
+                false
+        ));
+        assertThrows(IllegalArgumentException.class, () -> elderExportService.prepare(
+                elder.getId(), ExportFormat.CSV, null, null, null, false));
+    }
+
+    @Test
+    @WithMockUser(username = "export-owner@test.com", roles = {"WORKER"})
+    void export_prefixesCsvCellsThatLookLikeFormulas() throws Exception {
+        insertActivity("WAKE_UP", "=HYPERLINK(\"http://evil\")", LocalDateTime.of(2026, 4, 1, 7, 0));
+        ExportRequest request = elderExportService.prepare(
+                elder.getId(),
+                ExportFormat.CSV,
+                Set.of(ExportSection.ACTIVITY),
+                LocalDate.of(2026, 4, 1),
+                LocalDate.of(2026, 4, 1),
+                false
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        elderExportService.export(request, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(1)).contains("\"'=HYPERLINK(\"\"http://evil\"\")\"");
+    }
+
+    @Test
+    @WithMockUser(username = "export-other@test.com", roles = {"WORKER"})
+    void prepare_deniesWhenNotOwner() {
+        assertThrows(AccessDeniedException.class, () -> elderExportService.prepare(
+                elder.getId(),
+                ExportFormat.NDJSON,
+                null,
+                null,
+                null,
+                false
+        ));
+    }
+
+    private void insertActivity(String type, String title, LocalDateTime detectedAt) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO activity (elder_id, robot_id, type, title, detected_at, created_at)
+                VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+                """,
+                elder.getId(),
+                robot.getId(),
+                type,
+                title,
+                detectedAt
+        );
+    }
+}
@@ -2,8 +2,10 @@ package site.silverbot.api.medication.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +22,9 @@ import site.silverbot.api.medication.model.MedicationFrequency;
 import site.silverbot.api.medication.model.MedicationMethod;
 import site.silverbot.api.medication.model.MedicationStatus;
 import site.silverbot.api.medication.model.MedicationTimeOfDay;
+import site.silverbot.api.medication.repository.MedicationJdbcRepository;
 import site.silverbot.api.medication.request.CreateMedicationRecordRequest;
+import site.silverbot.api.medication.request.CreateMedicationRecordsRequest;
 import site.silverbot.api.medication.request.CreateMedicationRequest;
 import site.silverbot.api.medication.response.MedicationListResponse;
 import site.silverbot.api.medication.response.MedicationRecordResponse;
@@ -55,6 +59,12 @@ class MedicationServiceTest {
     @Autowired
     private RobotRepository robotRepository;
 
+    @Autowired
+    private MedicationJdbcRepository medicationJdbcRepository;
+
+    @Autowired
+    private MedicationRollupService medicationRollupService;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -145,6 +155,89 @@ class MedicationServiceTest {
         assertThat(response.weeklyStatus().rate()).isEqualTo(100.0);
     }
 
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void createMedicationRecords_upsertsSameDoseOnce() {
+        Long medicationId = medicationService.createMedication(
+                ownerElder.getId(),
+                new CreateMedicationRequest("혈압약", "1정", MedicationFrequency.BOTH, "식후", "white", LocalDate.now(), null)
+        ).id();
+        CreateMedicationRecordRequest missed = new CreateMedicationRecordRequest(
+                medicationId,
+                MedicationStatus.MISSED,
+                null,
+                MedicationMethod.MANUAL,
+                MedicationTimeOfDay.MORNING
+        );
+        CreateMedicationRecordRequest taken = new CreateMedicationRecordRequest(
+                medicationId,
+                MedicationStatus.TAKEN,
+                null,
+                MedicationMethod.BUTTON,
+                MedicationTimeOfDay.MORNING
+        );
+        CreateMedicationRecordRequest evening = new CreateMedicationRecordRequest(
+                medicationId,
+                MedicationStatus.TAKEN,
+                null,
+                MedicationMethod.BUTTON,
+                MedicationTimeOfDay.EVENING
+        );
+
+        medicationService.createMedicationRecords(ownerElder.getId(), new CreateMedicationRecordsRequest(List.of(missed)));
+        List<MedicationRecordResponse> records = medicationService.createMedicationRecords(
+                ownerElder.getId(),
+                new CreateMedicationRecordsRequest(List.of(taken, evening))
+        );
+
+        Integer recordCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM medication_record WHERE medication_id = ?",
+                Integer.class,
+                medicationId
+        );
+        assertThat(recordCount).isEqualTo(2);
+        assertThat(records)
+                .extracting(MedicationRecordResponse::timeOfDay, MedicationRecordResponse::status)
+                .containsExactlyInAnyOrder(
+                        tuple(MedicationTimeOfDay.MORNING, MedicationStatus.TAKEN),
+                        tuple(MedicationTimeOfDay.EVENING, MedicationStatus.TAKEN)
+                );
+    }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void createMedicationRecords_rejectsDuplicateDoseInOneRequest() {
+        Long medicationId = medicationService.createMedication(
+                ownerElder.getId(),
+                new CreateMedicationRequest("혈압약", "1정", MedicationFrequency.BOTH, "식후", "white", LocalDate.now(), null)
+        ).id();
+        CreateMedicationRecordRequest missed = new CreateMedicationRecordRequest(
+                medicationId,
+                MedicationStatus.MISSED,
+                null,
+                MedicationMethod.MANUAL,
+                MedicationTimeOfDay.MORNING
+        );
+        CreateMedicationRecordRequest taken = new CreateMedicationRecordRequest(
+                medicationId,
+                MedicationStatus.TAKEN,
+                null,
+                MedicationMethod.BUTTON,
+                MedicationTimeOfDay.MORNING
+        );
+
+        assertThatThrownBy(() -> medicationService.createMedicationRecords(
+                ownerElder.getId(),
+                new CreateMedicationRecordsRequest(List.of(missed, taken))
+        )).isInstanceOf(IllegalArgumentException.class);
+        Integer recordCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM medication_record WHERE medication_id = ?",
+                Integer.class,
+                medicationId
+        );
+        assertThat(recordCount).isZero();
+    }
+
     @Test
     @WithMockUser(username = "other@test.com", roles = {"WORKER"})
     void createMedicationRecord_deniesOtherUser() {
@@ -203,6 +296,87 @@ class MedicationServiceTest {
         assertThat(response.dispenser().needsRefill()).isFalse();
     }
 
+    @Test
+    void aggregateDoseCounts_countsExpectedAndRecordedDosesAcrossElders() {
+        Elder otherElder = elderRepository.save(Elder.builder()
+                .user(ownerElder.getUser())
+                .name("박영수")
+                .birthDate(LocalDate.of(1944, 3, 2))
+                .gender(Gender.MALE)
+                .build());
+        LocalDate monday = LocalDate.of(2026, 2, 2);
+        Long both = insertMedication(ownerElder.getId(), "혈압약", "1정", "BOTH", monday, monday.plusDays(1));
+        Long morning = insertMedication(otherElder.getId(), "당뇨약", "1정", "MORNING", monday.plusDays(1), null);
+        insertMedication(otherElder.getId(), "미래 시작약", "1정", "EVENING", monday.plusDays(7), null);
+        insertRecord(ownerElder.getId(), both, monday, "MORNING", "TAKEN");
+        insertRecord(ownerElder.getId(), both, monday, "EVENING", "MISSED");
+        insertRecord(otherElder.getId(), morning, monday.plusDays(2), "MORNING", "TAKEN");
+
+        List<MedicationJdbcRepository.DoseCount> counts = medicationJdbcRepository.aggregateDoseCounts(
+                List.of(ownerElder.getId(), otherElder.getId()),
+                monday,
+                monday.plusDays(2)
+        );
+
+        assertThat(counts)
+                .extracting(
+                        MedicationJdbcRepository.DoseCount::elderId,
+                        MedicationJdbcRepository.DoseCount::doseDate,
+                        MedicationJdbcRepository.DoseCount::timeOfDay,
+                        MedicationJdbcRepository.DoseCount::expected,
+                        MedicationJdbcRepository.DoseCount::taken,
+                        MedicationJdbcRepository.DoseCount::missed
+                )
+                .containsExactlyInAnyOrder(
+                        tuple(ownerElder.getId(), monday, MedicationTimeOfDay.MORNING, 1, 1, 0),
+                        tuple(ownerElder.getId(), monday, MedicationTimeOfDay.EVENING, 1, 0, 1),
+                        tuple(ownerElder.getId(), monday.plusDays(1), MedicationTimeOfDay.MORNING, 1, 0, 0),
+                        tuple(ownerElder.getId(), monday.plusDays(1), MedicationTimeOfDay.EVENING, 1, 0, 0),
+                        tuple(otherElder.getId(), monday.plusDays(1), MedicationTimeOfDay.MORNING, 1, 0, 0),
+                        tuple(otherElder.getId(), monday.plusDays(2), MedicationTimeOfDay.MORNING, 1, 1, 0)
+                );
+    }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void createMedicationRecord_updatesMaterializedDailyRollup() {
+        LocalDate today = LocalDate.now();
+        Long medicationId = medicationService.createMedication(
+                ownerElder.getId(),
+                new CreateMedicationRequest("혈압약", "1정", MedicationFrequency.BOTH, "식후", "white", today, null)
+        ).id();
+        medicationRollupService.refresh(List.of(ownerElder.getId()), today, today);
+
+        medicationService.createMedicationRecord(
+                ownerElder.getId(),
+                new CreateMedicationRecordRequest(
+                        medicationId,
+                        MedicationStatus.TAKEN,
+                        null,
+                        MedicationMethod.BUTTON,
+                        MedicationTimeOfDay.MORNING
+                )
+        );
+
+        Integer morningTaken = jdbcTemplate.queryForObject(
+                "SELECT morning_taken FROM medication_daily_rollup WHERE elder_id = ? AND rollup_date = ?",
+                Integer.class,
+                ownerElder.getId(),
+                today
+        );
+        assertThat(morningTaken).isEqualTo(1);
+        assertThat(medicationRollupService.findDoseCounts(List.of(ownerElder.getId()), today, today))
+                .extracting(
+                        MedicationJdbcRepository.DoseCount::timeOfDay,
+                        MedicationJdbcRepository.DoseCount::expected,
+                        MedicationJdbcRepository.DoseCount::taken
+                )
+                .containsExactlyInAnyOrder(
+                        tuple(MedicationTimeOfDay.MORNING, 1, 1),
+                        tuple(MedicationTimeOfDay.EVENING, 1, 0)
+                );
+    }
+
     private void ensurePhase2Tables() {
         jdbcTemplate.execute("""
                 CREATE TABLE IF NOT EXISTS medication (
@@ -238,6 +412,7 @@ class MedicationServiceTest {
     }
 
     private void clearPhase2Tables() {
+        jdbcTemplate.update("DELETE FROM medication_daily_rollup");
         jdbcTemplate.update("DELETE FROM medication_record");
         jdbcTemplate.update("DELETE FROM medication");
     }
@@ -267,4 +442,18 @@ class MedicationServiceTest {
         );
         return jdbcTemplate.queryForObject("SELECT MAX(id) FROM medication", Long.class);
     }
+
+    private void insertRecord(Long elderId, Long medicationId, LocalDate recordDate, String timeOfDay, String status) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO medication_record (elder_id, medication_id, record_date, time_of_day, status, method, created_at)
+                VALUES (?, ?, ?, ?, ?, 'MANUAL', CURRENT_TIMESTAMP)
+                """,
+                elderId,
+                medicationId,
+                recordDate,
+                timeOfDay,
+                status
+        );
+    }
 }
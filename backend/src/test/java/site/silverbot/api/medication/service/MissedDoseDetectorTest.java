@@ -0,0 +1,187 @@
+package site.silverbot.api.medication.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import site.silverbot.api.medication.repository.MedicationJdbcRepository;
+import site.silverbot.api.notification.service.NotificationService;
+import site.silverbot.domain.elder.Elder;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.domain.elder.Gender;
+import site.silverbot.domain.notification.Notification;
+import site.silverbot.domain.notification.NotificationRepository;
+import site.silverbot.domain.robot.Robot;
+import site.silverbot.domain.robot.RobotRepository;
+import site.silverbot.domain.user.User;
+import site.silverbot.domain.user.UserRepository;
+import site.silverbot.domain.user.UserRole;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MissedDoseDetectorTest {
+    private static final LocalDate DOSE_DATE = LocalDate.of(2026, 2, 4);
+
+    @Autowired
+    private MedicationJdbcRepository medicationJdbcRepository;
+
+    @Autowired
+    private MedicationRollupService medicationRollupService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ElderRepository elderRepository;
+
+    @Autowired
+    private RobotRepository robotRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private MissedDoseDetector missedDoseDetector;
+    private User owner;
+    private Elder robotElder;
+    private Elder plainElder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM medication_record");
+        jdbcTemplate.update("DELETE FROM medication");
+        missedDoseDetector = new MissedDoseDetector(
+                medicationJdbcRepository, medicationRollupService, notificationService, eventPublisher, 120);
+
+        owner = userRepository.save(User.builder()
+                .name("담당자")
+                .email("missed-dose@test.com")
+                .password("password")
+                .role(UserRole.WORKER)
+                .build());
+        robotElder = elderRepository.save(Elder.builder()
+                .user(owner)
+                .name("김옥분")
+                .birthDate(LocalDate.of(1946, 5, 15))
+                .gender(Gender.FEMALE)
+                .build());
+        plainElder = elderRepository.save(Elder.builder()
+                .user(owner)
+                .name("박영수")
+                .birthDate(LocalDate.of(1944, 3, 2))
+                .gender(Gender.MALE)
+                .build());
+        robotRepository.save(Robot.builder()
+                .elder(robotElder)
+                .serialNumber("RB-MISSED-01")
+                .morningMedicationTime(LocalTime.of(7, 0))
+                .eveningMedicationTime(LocalTime.of(21, 0))
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void detect_marksDueUnrecordedDosesMissedOnceAndNotifiesPerSlot() {
+        Long robotElderMedication = insertMedication(robotElder.getId(), "혈압약", DOSE_DATE.atStartOfDay());
+        insertMedication(plainElder.getId(), "당뇨약", DOSE_DATE.atStartOfDay());
+        jdbcTemplate.update(
+                """
+                INSERT INTO medication_record (elder_id, medication_id, record_date, time_of_day, status, method, created_at)
+                VALUES (?, ?, ?, 'MORNING', 'TAKEN', 'BUTTON', CURRENT_TIMESTAMP)
+                """,
+                robotElder.getId(),
+                robotElderMedication,
+                DOSE_DATE
+        );
+
+        missedDoseDetector.detect(DOSE_DATE.atStartOfDay());
+        int missed = missedDoseDetector.detect(DOSE_DATE.atTime(22, 0));
+        int repeated = missedDoseDetector.detect(DOSE_DATE.atTime(22, 1));
+
+        assertThat(missed).isEqualTo(2);
+        assertThat(repeated).isZero();
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT elder_id, time_of_day FROM medication_record WHERE status = 'MISSED' ORDER BY time_of_day"
+        )).extracting(row -> ((Number) row.get("ELDER_ID")).longValue(), row -> String.valueOf(row.get("TIME_OF_DAY")))
+                .containsExactly(
+                        tuple(plainElder.getId(), "EVENING"),
+                        tuple(plainElder.getId(), "MORNING")
+                );
+        List<Notification> notifications = notificationRepository
+                .findAllByUserIdOrderByCreatedAtDesc(owner.getId(), Pageable.unpaged())
+                .getContent();
+        assertThat(notifications).hasSize(2)
+                .allSatisfy(notification -> assertThat(notification.getMessage()).contains("박영수", "당뇨약"));
+    }
+
+    @Test
+    void detect_skipsSlotsBeforeTheMedicationWasRegistered() {
+        insertMedication(plainElder.getId(), "당뇨약", DOSE_DATE.atTime(15, 0));
+
+        missedDoseDetector.detect(DOSE_DATE.atStartOfDay());
+        int missed = missedDoseDetector.detect(DOSE_DATE.atTime(22, 0));
+
+        assertThat(missed).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT time_of_day FROM medication_record WHERE status = 'MISSED'", String.class
+        )).containsExactly("EVENING");
+    }
+
+    @Test
+    void detect_firstRunDoesNotBackfillSlotsBeforeItsCutoff() {
+        insertMedication(plainElder.getId(), "당뇨약", DOSE_DATE.atStartOfDay());
+        LocalDate nextDay = DOSE_DATE.plusDays(1);
+
+        int firstRun = missedDoseDetector.detect(nextDay.atTime(9, 30));
+        int nextRun = missedDoseDetector.detect(nextDay.atTime(10, 30));
+
+        assertThat(firstRun).isZero();
+        assertThat(nextRun).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT record_date, time_of_day FROM medication_record WHERE status = 'MISSED'"
+        )).extracting(row -> row.get("RECORD_DATE").toString(), row -> String.valueOf(row.get("TIME_OF_DAY")))
+                .containsExactly(tuple(nextDay.toString(), "MORNING"));
+    }
+
+    private Long insertMedication(Long elderId, String name, LocalDateTime createdAt) {
+        jdbcTemplate.update(
+                """
+                INSERT INTO medication (elder_id, name, dosage, frequency, timing, color, start_date, end_date, is_active, created_at, updated_at)
+                VALUES (?, ?, '1정', 'BOTH', '식후', 'white', ?, NULL, TRUE, ?, ?)
+                """,
+                elderId,
+                name,
+                DOSE_DATE,
+                createdAt,
+                createdAt
+        );
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM medication", Long.class);
+    }
+}
@@ -4,6 +4,7 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.stream.IntStream;
@@ -113,6 +114,40 @@ class NotificationControllerTest extends RestDocsSupport {
                 .andDo(document("notification-list"));
     }
 
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getNotificationsByCursor_walksAllNotificationsWithoutOverlap() throws Exception {
+        String firstPage = mockMvc.perform(RestDocumentationRequestBuilders.get("/api/notifications")
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.notifications.length()").value(1))
+                .andExpect(jsonPath("$.data.notifications[0].title").value("로봇 오프라인"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                .andDo(document("notification-list-cursor"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String nextCursor = JsonPath.read(firstPage, "$.data.nextCursor");
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/notifications")
+                        .param("cursor", nextCursor)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.notifications.length()").value(1))
+                .andExpect(jsonPath("$.data.notifications[0].title").value("긴급 상황 감지"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getNotificationsByCursor_rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/notifications")
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
     void getUnreadCount_returnsCount() throws Exception {
@@ -136,6 +171,26 @@ class NotificationControllerTest extends RestDocsSupport {
                 .andDo(document("notification-mark-read"));
     }
 
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void markAsRead_decrementsCachedUnreadCount() throws Exception {
+        Notification unread = notificationRepository.findAll().stream()
+                .filter(notification -> !notification.getIsRead())
+                .findFirst()
+                .orElseThrow();
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/notifications/unread-count"))
+                .andExpect(jsonPath("$.data.unreadCount").value(1));
+        mockMvc.perform(RestDocumentationRequestBuilders.patch("/api/notifications/{id}/read", unread.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(RestDocumentationRequestBuilders.patch("/api/notifications/{id}/read", unread.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.unreadCount").value(0));
+    }
+
     @Test
     @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
     void markAllAsRead_updatesUnreadNotifications() throws Exception {
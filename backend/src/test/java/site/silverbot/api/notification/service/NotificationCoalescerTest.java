@@ -0,0 +1,93 @@
+package site.silverbot.api.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.silverbot.api.notification.service.NotificationService.NotificationDraft;
+import site.silverbot.domain.notification.NotificationType;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Test
+    void submit_emitsFirstNotificationAndMergesBurstIntoOne() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NotificationCoalescer coalescer = new NotificationCoalescer(notificationService, meterRegistry, 60_000, 3);
+        when(notificationService.createNotifications(eq(NotificationType.MEDICATION), anyList())).thenReturn(1);
+
+        coalescer.submit(NotificationType.MEDICATION, List.of(deferral("아침약")));
+        coalescer.submit(NotificationType.MEDICATION, List.of(deferral("점심약"), deferral("저녁약")));
+        coalescer.submit(NotificationType.MEDICATION, List.of(deferral("비타민")));
+        int emitted = coalescer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationDraft>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, times(2)).createNotifications(eq(NotificationType.MEDICATION), captor.capture());
+        assertThat(captor.getAllValues().get(0)).containsExactly(deferral("아침약"));
+        NotificationDraft merged = captor.getAllValues().get(1).get(0);
+        assertThat(merged.title()).isEqualTo("복약 알림 연기 3건");
+        assertThat(merged.message()).isEqualTo("비타민 외 2건");
+        assertThat(emitted).isEqualTo(1);
+        assertThat(coalescer.openWindows()).isZero();
+        assertThat(meterRegistry.get("notification.coalescing.received").counter().count()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("notification.coalescing.emitted").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void flush_keepsOpenWindowWithoutPendingNotifications() {
+        NotificationCoalescer coalescer = new NotificationCoalescer(notificationService, new SimpleMeterRegistry(), 60_000, 50);
+
+        coalescer.submit(NotificationType.MEDICATION, List.of(deferral("아침약")));
+        coalescer.flush();
+
+        verify(notificationService, times(1)).createNotifications(eq(NotificationType.MEDICATION), anyList());
+        assertThat(coalescer.openWindows()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_withoutWindowCreatesEveryNotification() {
+        NotificationCoalescer coalescer = new NotificationCoalescer(notificationService, new SimpleMeterRegistry(), 0, 50);
+
+        coalescer.submit(NotificationType.ACTIVITY, List.of(deferral("아침약")));
+        coalescer.submit(NotificationType.ACTIVITY, List.of(deferral("저녁약")));
+        coalescer.flush();
+
+        verify(notificationService, times(2)).createNotifications(eq(NotificationType.ACTIVITY), anyList());
+        verify(notificationService, never()).createNotifications(eq(NotificationType.MEDICATION), anyList());
+    }
+
+    @Test
+    void flushOnShutdown_emitsPendingWindowsBeforeTheyAreDue() {
+        NotificationCoalescer coalescer = new NotificationCoalescer(notificationService, new SimpleMeterRegistry(), 60_000, 50);
+        when(notificationService.createNotifications(eq(NotificationType.MEDICATION), anyList())).thenReturn(1);
+
+        coalescer.submit(NotificationType.MEDICATION, List.of(deferral("아침약")));
+        coalescer.submit(NotificationType.MEDICATION, List.of(deferral("점심약"), deferral("저녁약")));
+        coalescer.flushOnShutdown();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationDraft>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, times(2)).createNotifications(eq(NotificationType.MEDICATION), captor.capture());
+        assertThat(captor.getAllValues().get(1).get(0).title()).isEqualTo("복약 알림 연기 2건");
+        assertThat(coalescer.openWindows()).isZero();
+    }
+
+    private NotificationDraft deferral(String medicationName) {
+        return new NotificationDraft(1L, 2L, "복약 알림 연기", medicationName, "/elders/2/medications");
+    }
+}
@@ -0,0 +1,105 @@
+package site.silverbot.api.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.silverbot.domain.user.UserRepository;
+import site.silverbot.websocket.cluster.ClusterInvalidations;
+import site.silverbot.websocket.cluster.InMemoryClusterMessageBus;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationSettingsCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void get_decodesSettingsOnceUntilEvicted() {
+        NotificationSettingsCache cache = new NotificationSettingsCache(
+                userRepository, new ObjectMapper(), new ClusterInvalidations(new InMemoryClusterMessageBus()), 100, 60_000L);
+        when(userRepository.findNotificationSettingsById(1L))
+                .thenReturn(Optional.of("{\"medicationEnabled\":false}"))
+                .thenReturn(Optional.of("{\"medicationEnabled\":true,\"realtimeEnabled\":false}"));
+
+        NotificationService.NotificationSettings first = cache.get(1L);
+        NotificationService.NotificationSettings cached = cache.get(1L);
+        cache.evict(1L);
+        NotificationService.NotificationSettings reloaded = cache.get(1L);
+
+        assertThat(first.medicationEnabled()).isFalse();
+        assertThat(cached).isSameAs(first);
+        assertThat(reloaded.medicationEnabled()).isTrue();
+        assertThat(reloaded.realtimeEnabled()).isFalse();
+        verify(userRepository, times(2)).findNotificationSettingsById(1L);
+    }
+
+    @Test
+    void evict_onAnotherNode_dropsCachedSettings() {
+        InMemoryClusterMessageBus bus = new InMemoryClusterMessageBus();
+        NotificationSettingsCache local = new NotificationSettingsCache(
+                userRepository, new ObjectMapper(), new ClusterInvalidations(bus), 100, 60_000L);
+        NotificationSettingsCache remote = new NotificationSettingsCache(
+                userRepository, new ObjectMapper(), new ClusterInvalidations(bus), 100, 60_000L);
+        when(userRepository.findNotificationSettingsById(1L))
+                .thenReturn(Optional.of("{\"medicationEnabled\":false}"))
+                .thenReturn(Optional.of("{\"medicationEnabled\":true}"));
+
+        local.get(1L);
+        remote.evict(1L);
+
+        assertThat(local.size()).isZero();
+        assertThat(local.get(1L).medicationEnabled()).isTrue();
+    }
+
+    @Test
+    void get_throwsWhenUserDoesNotExist() {
+        NotificationSettingsCache cache = new NotificationSettingsCache(
+                userRepository, new ObjectMapper(), new ClusterInvalidations(new InMemoryClusterMessageBus()), 100, 60_000L);
+        when(userRepository.findNotificationSettingsById(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> cache.get(2L)).isInstanceOf(EntityNotFoundException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_evictsLeastRecentlyUsedEntryAtMaxSize() {
+        NotificationSettingsCache cache = new NotificationSettingsCache(
+                userRepository, new ObjectMapper(), new ClusterInvalidations(new InMemoryClusterMessageBus()), 2, 60_000L);
+        when(userRepository.findNotificationSettingsById(1L)).thenReturn(Optional.of("{}"));
+        when(userRepository.findNotificationSettingsById(2L)).thenReturn(Optional.of("{}"));
+        when(userRepository.findNotificationSettingsById(3L)).thenReturn(Optional.of("{}"));
+
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+        cache.get(3L);
+        cache.get(1L);
+        cache.get(2L);
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(userRepository, times(1)).findNotificationSettingsById(1L);
+        verify(userRepository, times(2)).findNotificationSettingsById(2L);
+    }
+
+    @Test
+    void get_reloadsAfterTtlExpires() {
+        NotificationSettingsCache cache = new NotificationSettingsCache(
+                userRepository, new ObjectMapper(), new ClusterInvalidations(new InMemoryClusterMessageBus()), 100, 0L);
+        when(userRepository.findNotificationSettingsById(1L)).thenReturn(Optional.of("{}"));
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(userRepository, times(2)).findNotificationSettingsById(1L);
+    }
+}
@@ -0,0 +1,97 @@
+package site.silverbot.api.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.silverbot.domain.notification.NotificationRepository;
+import site.silverbot.websocket.cluster.ClusterInvalidations;
+import site.silverbot.websocket.cluster.InMemoryClusterMessageBus;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new NotificationUnreadCounter(
+                notificationRepository,
+                new SimpleMeterRegistry(),
+                new ClusterInvalidations(new InMemoryClusterMessageBus()),
+                100
+        );
+    }
+
+    @Test
+    void add_withoutCachedCount_doesNotLoadFromRepository() {
+        counter.add(1L, -1);
+
+        verify(notificationRepository, never()).countByUserIdAndIsReadFalse(anyLong());
+    }
+
+    @Test
+    void add_adjustsCachedCountOnce() {
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(3L);
+
+        counter.get(1L);
+        counter.add(1L, -1);
+
+        assertThat(counter.get(1L)).isEqualTo(2L);
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(1L);
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsedCountAtMaxSize() {
+        NotificationUnreadCounter small = counter(2);
+        when(notificationRepository.countByUserIdAndIsReadFalse(anyLong())).thenReturn(1L);
+
+        small.get(1L);
+        small.get(2L);
+        small.get(1L);
+        small.get(3L);
+        small.get(1L);
+        small.get(2L);
+
+        assertThat(small.size()).isEqualTo(2);
+        verify(notificationRepository, times(1)).countByUserIdAndIsReadFalse(1L);
+        verify(notificationRepository, times(2)).countByUserIdAndIsReadFalse(2L);
+    }
+
+    @Test
+    void get_doesNotCacheLoadRacingAnInvalidationWhoseGenerationWasTrimmed() {
+        NotificationUnreadCounter small = counter(1);
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L))
+                .thenAnswer(invocation -> {
+                    small.add(1L, 1);
+                    small.add(2L, 1);
+                    return 5L;
+                })
+                .thenReturn(6L);
+
+        assertThat(small.get(1L)).isEqualTo(5L);
+        assertThat(small.get(1L)).isEqualTo(6L);
+        verify(notificationRepository, times(2)).countByUserIdAndIsReadFalse(1L);
+    }
+
+    private NotificationUnreadCounter counter(int maxSize) {
+        return new NotificationUnreadCounter(
+                notificationRepository,
+                new SimpleMeterRegistry(),
+                new ClusterInvalidations(new InMemoryClusterMessageBus()),
+                maxSize
+        );
+    }
+}
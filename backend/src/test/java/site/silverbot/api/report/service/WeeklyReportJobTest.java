@@ -0,0 +1,142 @@
+package site.silverbot.api.report.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import site.silverbot.api.report.repository.ReportJobRunJdbcRepository.JobRun;
+import site.silverbot.domain.elder.Elder;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.domain.elder.Gender;
+import site.silverbot.domain.emergency.EmergencyRepository;
+import site.silverbot.domain.report.ReportJobStatus;
+import site.silverbot.domain.robot.RobotRepository;
+import site.silverbot.domain.user.User;
+import site.silverbot.domain.user.UserRepository;
+import site.silverbot.domain.user.UserRole;
+
+@SpringBootTest(properties = {
+        "app.report.batch.chunk-size=2",
+        "app.report.batch.workers=2"
+})
+@ActiveProfiles("test")
+class WeeklyReportJobTest {
+
+    @Autowired
+    private WeeklyReportJob weeklyReportJob;
+
+    @Autowired
+    private ElderRepository elderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmergencyRepository emergencyRepository;
+
+    @Autowired
+    private RobotRepository robotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ensureReportTable();
+        clearTables();
+
+        User user = userRepository.save(User.builder()
+                .name("김복지")
+                .email("worker@test.com")
+                .password("password")
+                .role(UserRole.WORKER)
+                .build());
+        for (int i = 0; i < 5; i++) {
+            elderRepository.save(Elder.builder()
+                    .user(user)
+                    .name("어르신" + i)
+                    .birthDate(LocalDate.of(1946, 5, 15))
+                    .gender(Gender.FEMALE)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearTables();
+    }
+
+    @Test
+    void run_generatesReportsInChunksAndRecordsProgress() {
+        LocalDate weekStart = LocalDate.now().minusWeeks(1).with(DayOfWeek.MONDAY);
+
+        JobRun run = weeklyReportJob.run(weekStart).orElseThrow();
+
+        assertThat(run.status()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(run.processedCount()).isEqualTo(5);
+        assertThat(run.failedCount()).isZero();
+        assertThat(run.eldersPerSecond()).isNotNull();
+        assertThat(countReports(weekStart)).isEqualTo(5);
+    }
+
+    @Test
+    void run_resumesFromCheckpointWithoutDuplicatingReports() {
+        LocalDate weekStart = LocalDate.now().minusWeeks(1).with(DayOfWeek.MONDAY);
+        weeklyReportJob.run(weekStart);
+        jdbcTemplate.update(
+                "UPDATE report_job_run SET status = 'FAILED', last_elder_id = 0 WHERE period_start = ?",
+                weekStart
+        );
+
+        JobRun resumed = weeklyReportJob.run(weekStart).orElseThrow();
+
+        assertThat(resumed.status()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(resumed.skippedCount()).isEqualTo(5);
+        assertThat(countReports(weekStart)).isEqualTo(5);
+    }
+
+    private int countReports(LocalDate weekStart) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ai_report WHERE period_start = ?",
+                Integer.class,
+                weekStart
+        );
+        return count == null ? 0 : count;
+    }
+
+    private void ensureReportTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS ai_report (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    elder_id BIGINT NOT NULL,
+                    report_date DATE NOT NULL,
+                    period_start DATE NOT NULL,
+                    period_end DATE NOT NULL,
+                    summary CLOB,
+                    metrics CLOB,
+                    top_keywords CLOB,
+                    recommendations CLOB,
+                    generated_at TIMESTAMP NOT NULL,
+                    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                )
+                """);
+    }
+
+    private void clearTables() {
+        jdbcTemplate.update("DELETE FROM ai_report");
+        jdbcTemplate.update("DELETE FROM report_job_run");
+        emergencyRepository.deleteAllInBatch();
+        robotRepository.deleteAllInBatch();
+        elderRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+}
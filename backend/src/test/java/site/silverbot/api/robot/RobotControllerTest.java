@@ -26,6 +26,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
+import site.silverbot.api.robot.service.RobotEventSideEffectDispatcher;
 import site.silverbot.domain.elder.Elder;
 import site.silverbot.domain.elder.ElderRepository;
 import site.silverbot.domain.elder.ElderStatus;
@@ -80,6 +81,9 @@ class RobotControllerTest extends RestDocsSupport {
     @Autowired
     private RobotLcdEventRepository robotLcdEventRepository;
 
+    @Autowired
+    private RobotEventSideEffectDispatcher robotEventSideEffectDispatcher;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -329,6 +333,20 @@ class RobotControllerTest extends RestDocsSupport {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void awaitPendingCommands_nonRobotPrincipal_forbidden() throws Exception {
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/robots/{robotId}/commands/pending", robot.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void awaitPendingCommands_roleRobotWithMismatchedPrincipal_forbidden() throws Exception {
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/robots/{robotId}/commands/pending", robot.getId())
+                        .with(user(String.valueOf(robot.getId() + 1)).roles("ROBOT")))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void reportRobotEvents_recordsTakeActionAndMedicationRecord() throws Exception {
         Medication medication = createMedication("아침약");
@@ -359,6 +377,7 @@ class RobotControllerTest extends RestDocsSupport {
                         ),
                         relaxedRequestFields(
                                 fieldWithPath("events").type(JsonFieldType.ARRAY).description("이벤트 목록"),
+                                fieldWithPath("events[].eventId").type(JsonFieldType.STRING).description("클라이언트 이벤트 ID (중복 전송 방지)").optional(),
                                 fieldWithPath("events[].type").type(JsonFieldType.STRING).description("이벤트 타입"),
                                 fieldWithPath("events[].action").type(JsonFieldType.STRING).description("액션 타입").optional(),
                                 fieldWithPath("events[].medicationId").type(JsonFieldType.NUMBER).description("복약 ID").optional(),
@@ -373,6 +392,7 @@ class RobotControllerTest extends RestDocsSupport {
                                 fieldWithPath("data").type(JsonFieldType.OBJECT).description("응답 데이터"),
                                 fieldWithPath("data.received").type(JsonFieldType.BOOLEAN).description("수신 여부"),
                                 fieldWithPath("data.processedCount").type(JsonFieldType.NUMBER).description("처리 이벤트 건수"),
+                                fieldWithPath("data.duplicateCount").type(JsonFieldType.NUMBER).description("중복으로 무시된 이벤트 건수"),
                                 fieldWithPath("data.medicationTakenCount").type(JsonFieldType.NUMBER).description("복약 완료 처리 건수"),
                                 fieldWithPath("data.medicationDeferredCount").type(JsonFieldType.NUMBER).description("복약 연기 처리 건수"),
                                 fieldWithPath("data.serverTime").type(JsonFieldType.STRING).description("서버 처리 시각"),
@@ -380,6 +400,8 @@ class RobotControllerTest extends RestDocsSupport {
                         )
                 ));
 
+        robotEventSideEffectDispatcher.drain();
+
         assertThat(robotLcdEventRepository.count()).isEqualTo(1);
         RobotLcdEvent savedEvent = robotLcdEventRepository.findAll().get(0);
         assertThat(savedEvent.getEventType()).isEqualTo("MEDICATION");
@@ -520,6 +542,120 @@ class RobotControllerTest extends RestDocsSupport {
         assertThat(takenRecordCount).isZero();
     }
 
+    @Test
+    void reportRobotEvents_bufferedBatch_insertsAllEventsAndActivities() throws Exception {
+        Medication medication = createMedication("아침약");
+        Map<String, Object> request = Map.of(
+                "events", List.of(
+                        Map.of(
+                                "type", "WAKE_UP",
+                                "timestamp", "2026-02-08T07:00:00+09:00",
+                                "location", "침실"
+                        ),
+                        Map.of(
+                                "type", "MEDICATION",
+                                "action", "TAKE",
+                                "medicationId", medication.getId(),
+                                "timestamp", "2026-02-08T08:10:00+09:00"
+                        ),
+                        Map.of(
+                                "type", "MEDICATION",
+                                "action", "TAKE",
+                                "medicationId", medication.getId(),
+                                "timestamp", "2026-02-08T19:10:00+09:00"
+                        ),
+                        Map.of(
+                                "type", "OUT_DETECTED",
+                                "timestamp", "2026-02-08T20:00:00+09:00",
+                                "payload", Map.of("source", "CAMERA")
+                        )
+                )
+        );
+
+        mockMvc.perform(RestDocumentationRequestBuilders.post("/api/robots/{robotId}/events", robot.getId())
+                        .with(user(String.valueOf(robot.getId())).roles("ROBOT"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.processedCount").value(4))
+                .andExpect(jsonPath("$.data.medicationTakenCount").value(2));
+
+        robotEventSideEffectDispatcher.drain();
+
+        assertThat(robotLcdEventRepository.count()).isEqualTo(4);
+        Integer activityCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM activity WHERE robot_id = ?",
+                Integer.class,
+                robot.getId()
+        );
+        assertThat(activityCount).isEqualTo(4);
+        Integer takenRecordCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM medication_record WHERE medication_id = ? AND status = 'TAKEN'",
+                Integer.class,
+                medication.getId()
+        );
+        assertThat(takenRecordCount).isEqualTo(2);
+    }
+
+    @Test
+    void reportRobotEvents_retryWithSameEventId_isNoOp() throws Exception {
+        Map<String, Object> request = Map.of(
+                "events", List.of(Map.of(
+                        "eventId", "evt-20260208-0001",
+                        "type", "WAKE_UP",
+                        "timestamp", "2026-02-08T07:30:00+09:00",
+                        "location", "침실"
+                ))
+        );
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(RestDocumentationRequestBuilders.post("/api/robots/{robotId}/events", robot.getId())
+                            .with(user(String.valueOf(robot.getId())).roles("ROBOT"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.processedCount").value(attempt == 0 ? 1 : 0))
+                    .andExpect(jsonPath("$.data.duplicateCount").value(attempt == 0 ? 0 : 1));
+        }
+
+        robotEventSideEffectDispatcher.drain();
+
+        assertThat(robotLcdEventRepository.count()).isEqualTo(1);
+        Integer activityCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM activity WHERE robot_id = ?",
+                Integer.class,
+                robot.getId()
+        );
+        assertThat(activityCount).isEqualTo(1);
+    }
+
+    @Test
+    void reportRobotEvents_retryWithoutTimestamp_isDedupedByClientEventId() throws Exception {
+        List<Map<String, Object>> attempts = List.of(
+                Map.of("eventId", "evt-20260208-0002", "type", "WAKE_UP", "location", "침실"),
+                Map.of("eventId", "evt-20260208-0002", "type", "WAKE_UP", "location", "침실")
+        );
+
+        for (int attempt = 0; attempt < attempts.size(); attempt++) {
+            mockMvc.perform(RestDocumentationRequestBuilders.post("/api/robots/{robotId}/events", robot.getId())
+                            .with(user(String.valueOf(robot.getId())).roles("ROBOT"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsBytes(Map.of("events", List.of(attempts.get(attempt))))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.processedCount").value(attempt == 0 ? 1 : 0))
+                    .andExpect(jsonPath("$.data.duplicateCount").value(attempt == 0 ? 0 : 1));
+        }
+
+        assertThat(robotLcdEventRepository.count()).isEqualTo(1);
+        Integer claimCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM robot_lcd_event_client_event WHERE robot_id = ? AND client_event_id = ?",
+                Integer.class,
+                robot.getId(),
+                "evt-20260208-0002"
+        );
+        assertThat(claimCount).isEqualTo(1);
+    }
+
     @Test
     void reportRobotEvents_emergencyAction_createsEmergencyActivity() throws Exception {
         Map<String, Object> request = Map.of(
@@ -540,6 +676,8 @@ class RobotControllerTest extends RestDocsSupport {
                 .andExpect(jsonPath("$.data.medicationTakenCount").value(0))
                 .andExpect(jsonPath("$.data.medicationDeferredCount").value(0));
 
+        robotEventSideEffectDispatcher.drain();
+
         Integer emergencyActivityCount = jdbcTemplate.queryForObject(
                 "SELECT COUNT(*) FROM activity WHERE robot_id = ? AND type = 'EMERGENCY'",
                 Integer.class,
@@ -568,6 +706,8 @@ class RobotControllerTest extends RestDocsSupport {
                 .andExpect(jsonPath("$.data.medicationTakenCount").value(0))
                 .andExpect(jsonPath("$.data.medicationDeferredCount").value(1));
 
+        robotEventSideEffectDispatcher.drain();
+
         NotificationProjection projection = jdbcTemplate.queryForObject(
                 """
                 SELECT type, title, message, target_path
@@ -7,6 +7,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +20,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import site.silverbot.api.robot.request.ReportPatrolRequest;
+import site.silverbot.api.robot.response.PatrolHistoryCursorResponse;
 import site.silverbot.api.robot.response.PatrolHistoryResponse;
 import site.silverbot.api.robot.response.PatrolLatestResponse;
 import site.silverbot.api.robot.response.PatrolReportResponse;
@@ -58,6 +62,9 @@ class PatrolServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Elder elder;
     private Robot robot;
 
@@ -234,4 +241,99 @@ class PatrolServiceTest {
         assertThrows(AccessDeniedException.class,
                 () -> patrolService.getPatrolHistory(anotherElder.getId(), 0, 10));
     }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getPatrolHistory_loadsItemsWithConstantQueryCount() {
+        for (int day = 1; day <= 8; day++) {
+            reportPatrolWithTwoItems("patrol-history-" + day, LocalDateTime.of(2026, 2, day, 9, 0));
+        }
+        entityManager.flush();
+
+        long smallPageQueries = countStatements(() -> {
+            PatrolHistoryResponse response = patrolService.getPatrolHistory(elder.getId(), 0, 2);
+            assertThat(response.patrols()).hasSize(2).allSatisfy(entry -> assertThat(entry.items()).hasSize(2));
+        });
+        long largePageQueries = countStatements(() -> {
+            PatrolHistoryResponse response = patrolService.getPatrolHistory(elder.getId(), 0, 6);
+            assertThat(response.patrols()).hasSize(6).allSatisfy(entry -> assertThat(entry.items()).hasSize(2));
+            assertThat(response.patrols().get(0).items().get(0).label()).isEqualTo("가스밸브");
+        });
+        long cursorPageQueries = countStatements(() -> {
+            PatrolHistoryCursorResponse response = patrolService.getPatrolHistoryByCursor(elder.getId(), null, 6);
+            assertThat(response.patrols()).hasSize(6).allSatisfy(entry -> assertThat(entry.items()).hasSize(2));
+        });
+        long latestQueries = countStatements(() ->
+                assertThat(patrolService.getLatestPatrol(elder.getId()).items()).hasSize(2));
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+        assertThat(cursorPageQueries).isEqualTo(largePageQueries - 1);
+        assertThat(latestQueries).isEqualTo(cursorPageQueries);
+    }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getPatrolHistoryByCursor_walksEqualCompletionTimesById() {
+        LocalDateTime startedAt = LocalDateTime.of(2026, 2, 7, 9, 0);
+        reportPatrolWithTwoItems("patrol-tie-1", startedAt);
+        reportPatrolWithTwoItems("patrol-tie-2", startedAt);
+        reportPatrolWithTwoItems("patrol-tie-3", startedAt);
+
+        PatrolHistoryCursorResponse first = patrolService.getPatrolHistoryByCursor(elder.getId(), null, 2);
+        PatrolHistoryCursorResponse last = patrolService.getPatrolHistoryByCursor(elder.getId(), first.nextCursor(), 2);
+
+        assertThat(first.patrols()).extracting("patrolId").containsExactly("patrol-tie-3", "patrol-tie-2");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.patrols()).extracting("patrolId").containsExactly("patrol-tie-1");
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getPatrolHistoryByCursor_malformedCursor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> patrolService.getPatrolHistoryByCursor(elder.getId(), "not-a-cursor", 2));
+    }
+
+    private void reportPatrolWithTwoItems(String patrolId, LocalDateTime startedAt) {
+        patrolService.reportPatrol(robot.getId(), new ReportPatrolRequest(
+                patrolId,
+                startedAt,
+                startedAt.plusMinutes(5),
+                List.of(
+                        new ReportPatrolRequest.PatrolItemRequest(
+                                PatrolTarget.GAS_VALVE,
+                                "가스밸브",
+                                PatrolItemStatus.NORMAL,
+                                0.95f,
+                                null,
+                                startedAt.plusMinutes(1)
+                        ),
+                        new ReportPatrolRequest.PatrolItemRequest(
+                                PatrolTarget.DOOR,
+                                "현관문",
+                                PatrolItemStatus.LOCKED,
+                                0.93f,
+                                null,
+                                startedAt.plusMinutes(4)
+                        )
+                )
+        ));
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            action.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
 }
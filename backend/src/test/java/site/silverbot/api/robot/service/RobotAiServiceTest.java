@@ -3,8 +3,10 @@ package site.silverbot.api.robot.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,8 +20,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import site.silverbot.api.robot.request.CreateConversationRequest;
 import site.silverbot.api.robot.request.CreateSearchResultRequest;
+import site.silverbot.api.robot.response.ConversationCursorResponse;
 import site.silverbot.api.robot.response.ConversationListResponse;
 import site.silverbot.api.robot.response.ConversationResponse;
+import site.silverbot.api.robot.response.SearchResultCursorResponse;
 import site.silverbot.api.robot.response.SearchResultResponse;
 import site.silverbot.domain.conversation.Conversation;
 import site.silverbot.domain.conversation.ConversationIntent;
@@ -31,6 +35,7 @@ import site.silverbot.domain.elder.ElderStatus;
 import site.silverbot.domain.elder.Gender;
 import site.silverbot.domain.robot.Robot;
 import site.silverbot.domain.robot.RobotRepository;
+import site.silverbot.domain.search.SearchResult;
 import site.silverbot.domain.search.SearchResultRepository;
 import site.silverbot.domain.search.SearchType;
 import site.silverbot.domain.user.User;
@@ -201,4 +206,74 @@ class RobotAiServiceTest {
         assertThat(response.conversations()).hasSize(1);
         assertThat(response.totalElements()).isEqualTo(1);
     }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getConversationsByCursor_walksEqualTimestampsById() {
+        LocalDateTime recordedAt = LocalDateTime.of(2026, 2, 7, 11, 0);
+        List<Long> ids = List.of(saveConversation(recordedAt), saveConversation(recordedAt), saveConversation(recordedAt));
+
+        ConversationCursorResponse first = robotAiService.getConversationsByCursor(robot.getId(), null, 2);
+        ConversationCursorResponse last = robotAiService.getConversationsByCursor(robot.getId(), first.nextCursor(), 2);
+
+        assertThat(first.conversations()).extracting(ConversationResponse::id).containsExactly(ids.get(2), ids.get(1));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.conversations()).extracting(ConversationResponse::id).containsExactly(ids.get(0));
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getConversationsByCursor_malformedCursor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> robotAiService.getConversationsByCursor(robot.getId(), "not-a-cursor", 2));
+    }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getSearchResultsByCursor_walksEqualTimestampsById() {
+        LocalDateTime searchedAt = LocalDateTime.of(2026, 2, 7, 10, 31);
+        List<Long> ids = List.of(saveSearchResult(searchedAt), saveSearchResult(searchedAt), saveSearchResult(searchedAt));
+
+        SearchResultCursorResponse first = robotAiService.getSearchResultsByCursor(robot.getId(), "", 2);
+        SearchResultCursorResponse last = robotAiService.getSearchResultsByCursor(robot.getId(), first.nextCursor(), 2);
+
+        assertThat(first.results()).extracting(SearchResultResponse::id).containsExactly(ids.get(2), ids.get(1));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.results()).extracting(SearchResultResponse::id).containsExactly(ids.get(0));
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
+    void getSearchResultsByCursor_malformedCursor_throwsIllegalArgumentException() {
+        String missingId = Base64.getUrlEncoder()
+                .encodeToString("2026-02-07T10:31".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> robotAiService.getSearchResultsByCursor(robot.getId(), missingId, 2));
+    }
+
+    private Long saveConversation(LocalDateTime recordedAt) {
+        return conversationRepository.save(Conversation.builder()
+                .robot(robot)
+                .elder(robot.getElder())
+                .voiceOriginal("원본")
+                .normalizedText("정규화")
+                .intent(ConversationIntent.CHAT)
+                .recordedAt(recordedAt)
+                .build()).getId();
+    }
+
+    private Long saveSearchResult(LocalDateTime searchedAt) {
+        return searchResultRepository.save(SearchResult.builder()
+                .robot(robot)
+                .elder(robot.getElder())
+                .searchType(SearchType.WEATHER)
+                .content("오늘 서울 날씨는 맑음입니다.")
+                .searchedAt(searchedAt)
+                .build()).getId();
+    }
 }
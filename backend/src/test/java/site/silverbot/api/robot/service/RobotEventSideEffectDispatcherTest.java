@@ -0,0 +1,110 @@
+package site.silverbot.api.robot.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import site.silverbot.api.robot.repository.RobotEventOutboxJdbcRepository;
+import site.silverbot.api.robot.repository.RobotEventOutboxJdbcRepository.OutboxEntry;
+import site.silverbot.domain.robot.RobotEventEffectType;
+
+@ExtendWith(MockitoExtension.class)
+class RobotEventSideEffectDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 2, 7, 9, 0);
+
+    @Mock
+    private RobotEventSideEffectProcessor processor;
+
+    @Mock
+    private RobotEventOutboxJdbcRepository robotEventOutboxJdbcRepository;
+
+    private RobotEventSideEffectDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new RobotEventSideEffectDispatcher(
+                processor, robotEventOutboxJdbcRepository, new SimpleMeterRegistry(), 1, 10, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_retryableFailureReleasesLaterEntriesOfTheSameElder() {
+        OutboxEntry first = entry(1L);
+        OutboxEntry second = entry(2L);
+        OutboxEntry third = entry(3L);
+        when(processor.claimPending(anyInt())).thenReturn(List.of(first, second, third));
+        doThrow(new IllegalStateException("batch")).when(processor).processAll(anyList());
+        doThrow(new IllegalStateException("first")).when(processor).process(first);
+        when(processor.recordFailure(any(), any(), anyInt())).thenReturn(true);
+
+        dispatcher.dispatch();
+
+        verify(processor, timeout(1000)).release(List.of(second, third));
+        verify(processor, never()).process(second);
+        verify(processor, never()).process(third);
+    }
+
+    @Test
+    void dispatch_exhaustedFailureContinuesWithLaterEntries() {
+        OutboxEntry first = entry(1L);
+        OutboxEntry second = entry(2L);
+        when(processor.claimPending(anyInt())).thenReturn(List.of(first, second));
+        doThrow(new IllegalStateException("batch")).when(processor).processAll(anyList());
+        doThrow(new IllegalStateException("first")).when(processor).process(first);
+        when(processor.recordFailure(any(), any(), anyInt())).thenReturn(false);
+
+        dispatcher.dispatch();
+
+        verify(processor, timeout(1000)).process(second);
+        verify(processor, never()).release(anyList());
+    }
+
+    @Test
+    void drain_processesClaimedEntriesOnTheCallingThread() {
+        OutboxEntry first = entry(1L);
+        OutboxEntry second = entry(2L);
+        when(processor.claimPending(anyInt())).thenReturn(List.of(first, second), List.of());
+
+        int processed = dispatcher.drain();
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(dispatcher.inFlight()).isZero();
+        verify(processor).processAll(List.of(first, second));
+    }
+
+    @Test
+    void dispatch_releasesStaleClaimsAtMostOncePerInterval() {
+        when(processor.claimPending(anyInt())).thenReturn(List.of());
+
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        verify(robotEventOutboxJdbcRepository, times(1)).releaseStale(any());
+    }
+
+    private OutboxEntry entry(Long id) {
+        return new OutboxEntry(id, 10L, 20L, RobotEventEffectType.ACTIVITY, null, "WAKE_UP", null,
+                null, null, NOW, 0, NOW);
+    }
+}
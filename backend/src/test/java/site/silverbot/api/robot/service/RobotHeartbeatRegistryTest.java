@@ -0,0 +1,90 @@
+package site.silverbot.api.robot.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RobotHeartbeatRegistryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 2, 7, 9, 0);
+
+    @Test
+    void pollExpired_returnsOnlyRobotsPastDisconnectDeadline() {
+        RobotHeartbeatRegistry registry = new RobotHeartbeatRegistry();
+        registry.recordHeartbeat(1L, NOW.minusSeconds(180));
+        registry.recordHeartbeat(2L, NOW.minusSeconds(30));
+
+        List<RobotHeartbeatRegistry.ExpiredHeartbeat> expired = registry.pollExpired(NOW);
+
+        assertThat(expired)
+                .extracting(RobotHeartbeatRegistry.ExpiredHeartbeat::robotId, RobotHeartbeatRegistry.ExpiredHeartbeat::stage)
+                .containsExactly(tuple(1L, RobotHeartbeatRegistry.Stage.DISCONNECT));
+        assertThat(registry.pollExpired(NOW)).isEmpty();
+    }
+
+    @Test
+    void pollExpired_schedulesOfflineNotificationAfterDisconnect() {
+        RobotHeartbeatRegistry registry = new RobotHeartbeatRegistry();
+        registry.recordHeartbeat(1L, NOW.minusMinutes(31));
+
+        List<RobotHeartbeatRegistry.ExpiredHeartbeat> first = registry.pollExpired(NOW);
+        List<RobotHeartbeatRegistry.ExpiredHeartbeat> second = registry.pollExpired(NOW);
+
+        assertThat(first).extracting(RobotHeartbeatRegistry.ExpiredHeartbeat::stage)
+                .containsExactly(RobotHeartbeatRegistry.Stage.DISCONNECT);
+        assertThat(second).extracting(RobotHeartbeatRegistry.ExpiredHeartbeat::stage)
+                .containsExactly(RobotHeartbeatRegistry.Stage.OFFLINE_NOTIFY);
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    void recordHeartbeat_replacesPendingDeadline() {
+        RobotHeartbeatRegistry registry = new RobotHeartbeatRegistry();
+        registry.recordHeartbeat(1L, NOW.minusSeconds(180));
+        registry.recordHeartbeat(1L, NOW.minusSeconds(10));
+
+        assertThat(registry.pollExpired(NOW)).isEmpty();
+        assertThat(registry.getLastHeartbeat(1L)).isEqualTo(NOW.minusSeconds(10));
+    }
+
+    @Test
+    void requeue_keepsNewerHeartbeat() {
+        RobotHeartbeatRegistry registry = new RobotHeartbeatRegistry();
+        registry.recordHeartbeat(1L, NOW.minusSeconds(180));
+        List<RobotHeartbeatRegistry.ExpiredHeartbeat> expired = registry.pollExpired(NOW);
+
+        registry.recordHeartbeat(1L, NOW);
+        registry.requeue(expired);
+
+        assertThat(registry.getLastHeartbeat(1L)).isEqualTo(NOW);
+        assertThat(registry.pollExpired(NOW)).isEmpty();
+    }
+
+    @Test
+    void refreshFromStore_reschedulesRobotSyncedThroughAnotherNode() {
+        RobotHeartbeatRegistry registry = new RobotHeartbeatRegistry();
+        registry.recordHeartbeat(1L, NOW.minusSeconds(180));
+        registry.pollExpired(NOW);
+
+        registry.refreshFromStore(1L, NOW.minusSeconds(10));
+
+        assertThat(registry.pollExpired(NOW)).isEmpty();
+        assertThat(registry.getLastHeartbeat(1L)).isEqualTo(NOW.minusSeconds(10));
+        assertThat(registry.pollExpired(NOW.plusSeconds(115)))
+                .extracting(RobotHeartbeatRegistry.ExpiredHeartbeat::stage)
+                .containsExactly(RobotHeartbeatRegistry.Stage.DISCONNECT);
+    }
+
+    @Test
+    void refreshFromStore_keepsNewerLocalHeartbeat() {
+        RobotHeartbeatRegistry registry = new RobotHeartbeatRegistry();
+        registry.recordHeartbeat(1L, NOW);
+
+        registry.refreshFromStore(1L, NOW.minusSeconds(10));
+
+        assertThat(registry.getLastHeartbeat(1L)).isEqualTo(NOW);
+    }
+}
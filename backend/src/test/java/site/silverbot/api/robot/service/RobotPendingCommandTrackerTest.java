@@ -0,0 +1,41 @@
+package site.silverbot.api.robot.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RobotPendingCommandTrackerTest {
+
+    @Test
+    void hasPending_trueUntilFirstDrain() {
+        RobotPendingCommandTracker tracker = new RobotPendingCommandTracker(60_000L);
+
+        assertThat(tracker.hasPending(1L)).isTrue();
+
+        tracker.markDrained(1L, tracker.beginDrain());
+
+        assertThat(tracker.hasPending(1L)).isFalse();
+    }
+
+    @Test
+    void markPending_afterDrainSetsBit() {
+        RobotPendingCommandTracker tracker = new RobotPendingCommandTracker(60_000L);
+        tracker.markDrained(1L, tracker.beginDrain());
+
+        tracker.markPending(1L);
+
+        assertThat(tracker.hasPending(1L)).isTrue();
+        assertThat(tracker.hasPending(2L)).isTrue();
+    }
+
+    @Test
+    void markDrained_keepsCommandCreatedDuringDrain() {
+        RobotPendingCommandTracker tracker = new RobotPendingCommandTracker(60_000L);
+        long drainSequence = tracker.beginDrain();
+        tracker.markPending(1L);
+
+        tracker.markDrained(1L, drainSequence);
+
+        assertThat(tracker.hasPending(1L)).isTrue();
+    }
+}
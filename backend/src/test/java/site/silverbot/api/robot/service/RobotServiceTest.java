@@ -171,6 +171,29 @@ class RobotServiceTest {
         assertThat(response.pendingCommands().get(0).commandId()).isEqualTo(pending.getCommandId());
     }
 
+    @Test
+    void syncWhileConnected_buffersTelemetryWithoutUpdatingRobotRow() {
+        robotService.sync(robot.getId(), null);
+
+        robotService.sync(robot.getId(), new RobotSyncRequest(
+                55,
+                false,
+                null,
+                new RobotSyncRequest.CurrentLocation("BEDROOM", 1.5f, 2.5f, 180),
+                null,
+                null,
+                null
+        ));
+
+        Robot stored = robotRepository.findById(robot.getId()).orElseThrow();
+        assertThat(stored.getNetworkStatus()).isEqualTo(NetworkStatus.CONNECTED);
+        assertThat(stored.getBatteryLevel()).isEqualTo(90);
+
+        RobotStatusResponse status = robotService.getStatus(robot.getId());
+        assertThat(status.batteryLevel()).isEqualTo(55);
+        assertThat(status.currentLocation()).isEqualTo("BEDROOM");
+    }
+
     @Test
     @WithMockUser(username = "worker@test.com", roles = {"WORKER"})
     void updateLocationUpdatesRobotPosition() {
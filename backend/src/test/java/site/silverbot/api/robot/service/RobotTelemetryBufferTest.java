@@ -0,0 +1,158 @@
+package site.silverbot.api.robot.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import site.silverbot.api.robot.model.RobotTelemetry;
+import site.silverbot.api.robot.repository.RobotTelemetryJdbcRepository;
+import site.silverbot.api.robot.request.RobotSyncRequest;
+import site.silverbot.api.robot.request.UpdateRobotLcdModeRequest;
+import site.silverbot.domain.elder.Elder;
+import site.silverbot.domain.elder.ElderRepository;
+import site.silverbot.domain.elder.ElderStatus;
+import site.silverbot.domain.elder.Gender;
+import site.silverbot.domain.robot.LcdMode;
+import site.silverbot.domain.robot.Robot;
+import site.silverbot.domain.robot.RobotRepository;
+import site.silverbot.domain.user.User;
+import site.silverbot.domain.user.UserRepository;
+import site.silverbot.domain.user.UserRole;
+import site.silverbot.websocket.WebSocketMessageService;
+
+@SpringBootTest(properties = "app.robot.telemetry-flush-interval-ms=3600000")
+@ActiveProfiles("test")
+@Transactional
+class RobotTelemetryBufferTest {
+
+    @Autowired
+    private RobotTelemetryBuffer robotTelemetryBuffer;
+
+    @Autowired
+    private RobotService robotService;
+
+    @Autowired
+    private RobotRepository robotRepository;
+
+    @Autowired
+    private ElderRepository elderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @SpyBean
+    private RobotTelemetryJdbcRepository robotTelemetryJdbcRepository;
+
+    @MockBean
+    private WebSocketMessageService webSocketMessageService;
+
+    private Robot robot;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .name("김복지")
+                .email("telemetry-owner@test.com")
+                .password("password")
+                .role(UserRole.WORKER)
+                .build());
+        Elder elder = elderRepository.save(Elder.builder()
+                .user(owner)
+                .name("김옥분")
+                .birthDate(LocalDate.of(1946, 5, 15))
+                .gender(Gender.FEMALE)
+                .status(ElderStatus.SAFE)
+                .build());
+        robot = robotRepository.save(Robot.builder()
+                .elder(elder)
+                .serialNumber("ROBOT-TELEMETRY-01")
+                .batteryLevel(90)
+                .build());
+        robotService.sync(robot.getId(), null);
+        robotRepository.flush();
+    }
+
+    @Test
+    void flush_writesBufferedTelemetryAndDropsTheEntry() {
+        robotService.sync(robot.getId(), syncRequest(55, "약 드실 시간이에요"));
+
+        robotTelemetryBuffer.flush();
+        entityManager.clear();
+
+        Robot stored = robotRepository.findById(robot.getId()).orElseThrow();
+        RobotTelemetry persisted = RobotTelemetry.from(stored);
+        assertThat(stored.getBatteryLevel()).isEqualTo(55);
+        assertThat(stored.getLcdMessage()).isEqualTo("약 드실 시간이에요");
+        assertThat(robotTelemetryBuffer.resolve(robot.getId(), persisted)).isSameAs(persisted);
+        assertThat(robotTelemetryBuffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void flush_clearsLcdTextOnlyWhenSyncReportsLcdState() {
+        robotService.sync(robot.getId(), syncRequest(80, "약 드실 시간이에요"));
+        robotTelemetryBuffer.flush();
+        robotService.sync(robot.getId(), new RobotSyncRequest(75, false, null, null, null, null, null));
+        robotTelemetryBuffer.flush();
+        entityManager.clear();
+        assertThat(robotRepository.findById(robot.getId()).orElseThrow().getLcdMessage())
+                .isEqualTo("약 드실 시간이에요");
+
+        robotService.sync(robot.getId(), syncRequest(70, null));
+        robotTelemetryBuffer.flush();
+        entityManager.clear();
+
+        Robot stored = robotRepository.findById(robot.getId()).orElseThrow();
+        assertThat(stored.getLcdMessage()).isNull();
+        assertThat(stored.getBatteryLevel()).isEqualTo(70);
+    }
+
+    @Test
+    @WithMockUser(username = "telemetry-owner@test.com", roles = {"WORKER"})
+    void flush_interleavedWithUpdateLcdMode_keepsUserLcdState() {
+        robotService.sync(robot.getId(), syncRequest(70, "약 드실 시간이에요"));
+        Thread testThread = Thread.currentThread();
+        doAnswer(invocation -> {
+            if (Thread.currentThread() == testThread) {
+                robotService.updateLcdMode(robot.getId(),
+                        new UpdateRobotLcdModeRequest("LISTENING", "happy", "말씀해주세요", "듣고 있어요"));
+                robotRepository.flush();
+            }
+            return invocation.callRealMethod();
+        }).when(robotTelemetryJdbcRepository).batchUpdate(anyCollection());
+
+        robotTelemetryBuffer.flush();
+        entityManager.clear();
+
+        Robot stored = robotRepository.findById(robot.getId()).orElseThrow();
+        assertThat(stored.getLcdMode()).isEqualTo(LcdMode.LISTENING);
+        assertThat(stored.getLcdMessage()).isEqualTo("말씀해주세요");
+        assertThat(stored.getBatteryLevel()).isEqualTo(70);
+        assertThat(robotService.getLcd(robot.getId()).message()).isEqualTo("말씀해주세요");
+    }
+
+    private RobotSyncRequest syncRequest(int batteryLevel, String lcdMessage) {
+        return new RobotSyncRequest(
+                batteryLevel,
+                false,
+                null,
+                null,
+                new RobotSyncRequest.LcdState("IDLE", "neutral", lcdMessage, ""),
+                null,
+                null
+        );
+    }
+}
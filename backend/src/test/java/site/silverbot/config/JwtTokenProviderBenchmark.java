@@ -0,0 +1,50 @@
+package site.silverbot.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.Authentication;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123";
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3_600_000L, 604_800_000L);
+        token = provider.createAccessToken("42", "ROBOT", null);
+    }
+
+    @Benchmark
+    public Authentication threeParsesPerRequest() {
+        if (provider.validateToken(token) && provider.isAccessToken(token)) {
+            return provider.getAuthentication(token);
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Authentication singleParsePerRequest() {
+        return provider.verify(token)
+                .filter(JwtTokenProvider.VerifiedClaims::isAccessToken)
+                .map(provider::getAuthentication)
+                .orElse(null);
+    }
+}
@@ -5,39 +5,45 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationContext;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import site.silverbot.api.common.service.OwnershipCache;
+import site.silverbot.domain.robot.RobotRepository;
 
 @ExtendWith(MockitoExtension.class)
 class StompChannelInterceptorTest {
     @Mock
-    private ApplicationContext applicationContext;
+    private OwnershipCache ownershipCache;
 
+    @Mock
+    private RobotRepository robotRepository;
+
+    private JwtTokenProvider jwtTokenProvider;
     private StompChannelInterceptor interceptor;
 
     @BeforeEach
     void setUp() {
-        interceptor = new StompChannelInterceptor(applicationContext);
+        jwtTokenProvider = new JwtTokenProvider("test-secret", 60_000L, 60_000L);
+        interceptor = new StompChannelInterceptor(jwtTokenProvider, ownershipCache, robotRepository);
     }
 
     @Test
     void connect_withValidToken_setsAuthenticatedUser() {
-        when(applicationContext.containsBean("jwtTokenProvider")).thenReturn(true);
-        when(applicationContext.getBean("jwtTokenProvider")).thenReturn(new JwtTokenProviderStub());
-
         StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
-        accessor.setNativeHeader("Authorization", "Bearer valid-token");
+        accessor.setNativeHeader("Authorization", "Bearer " + jwtTokenProvider.createAccessToken("7", "WORKER", null));
         accessor.setLeaveMutable(true);
         Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
 
@@ -48,6 +54,16 @@ class StompChannelInterceptorTest {
         assertThat(resultAccessor.getUser().getName()).isEqualTo("7");
     }
 
+    @Test
+    void connect_withRefreshToken_throwsAuthenticationCredentialsNotFound() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer " + jwtTokenProvider.createRefreshToken("7"));
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThrows(AuthenticationCredentialsNotFoundException.class, () -> interceptor.preSend(message, null));
+    }
+
     @Test
     void subscribe_toAnotherUserTopic_throwsAccessDenied() {
         StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
@@ -59,13 +75,50 @@ class StompChannelInterceptorTest {
         assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, null));
     }
 
-    static class JwtTokenProviderStub {
-        public boolean validateToken(String token) {
-            return "valid-token".equals(token);
-        }
+    @Test
+    void subscribe_toAnotherUsersElderDashboard_throwsAccessDenied() {
+        when(ownershipCache.findOwnerUserId(3L)).thenReturn(Optional.of(9L));
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/topic/elder/3/dashboard");
+        accessor.setUser(new UsernamePasswordAuthenticationToken("7", null, List.of()));
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, null));
+    }
+
+    @Test
+    void subscribe_toAnotherRobotsCommands_throwsAccessDenied() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/topic/robot/5/commands");
+        accessor.setUser(new UsernamePasswordAuthenticationToken(
+                "6", null, List.of(new SimpleGrantedAuthority("ROLE_ROBOT"))));
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, null));
+    }
+
+    @Test
+    void subscribe_toOwnRobotCommands_asRobot_isAllowed() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/topic/robot/5/commands");
+        accessor.setUser(new UsernamePasswordAuthenticationToken(
+                "5", null, List.of(new SimpleGrantedAuthority("ROLE_ROBOT"))));
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThat(interceptor.preSend(message, null)).isSameAs(message);
+    }
+
+    @Test
+    void subscribe_toRobotCommandsOfAnotherUsersElder_throwsAccessDenied() {
+        when(robotRepository.findElderIdById(5L)).thenReturn(Optional.of(3L));
+        when(ownershipCache.findOwnerUserId(3L)).thenReturn(Optional.of(9L));
 
-        public Authentication getAuthentication(String token) {
-            return new UsernamePasswordAuthenticationToken("7", null, List.of());
-        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination("/topic/robot/5/commands");
+        accessor.setUser(new UsernamePasswordAuthenticationToken("7", null, List.of()));
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, null));
     }
 }
@@ -0,0 +1,241 @@
+package site.silverbot.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import site.silverbot.api.partition.model.PartitionedTable;
+import site.silverbot.api.partition.model.RetentionMode;
+import site.silverbot.api.partition.repository.PartitionJdbcRepository;
+import site.silverbot.api.partition.service.PartitionMaintenanceJob;
+
+class PartitionPruningVerificationTest {
+    private static final String ENV_URL = "AGENT3_FLYWAY_PG_URL";
+    private static final String ENV_USER = "AGENT3_FLYWAY_PG_USER";
+    private static final String ENV_PASSWORD = "AGENT3_FLYWAY_PG_PASSWORD";
+    private static final String TEST_SCHEMA = "agent3_partition_verify";
+
+    @Test
+    void rangeQueries_pruneToMatchingMonth() throws Exception {
+        migrate();
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        String current = PartitionJdbcRepository.partitionName(PartitionedTable.ACTIVITY, month);
+        String previous = PartitionJdbcRepository.partitionName(PartitionedTable.ACTIVITY, month.minusMonths(1));
+        String next = PartitionJdbcRepository.partitionName(PartitionedTable.ACTIVITY, month.plusMonths(1));
+        String lcdCurrent = PartitionJdbcRepository.partitionName(PartitionedTable.ROBOT_LCD_EVENT, month);
+        String lcdNext = PartitionJdbcRepository.partitionName(PartitionedTable.ROBOT_LCD_EVENT, month.plusMonths(1));
+        String start = "'" + month + " 00:00:00'";
+        String end = "'" + month + " 23:59:59'";
+
+        try (Connection connection = connection()) {
+            assertThat(isPartitioned(connection, "activity")).isTrue();
+            assertThat(isPartitioned(connection, "robot_lcd_event")).isTrue();
+
+            String wakeUpPlan = explain(connection, """
+                    SELECT detected_at
+                    FROM activity
+                    WHERE elder_id = 1
+                      AND type = 'WAKE_UP'
+                      AND detected_at BETWEEN %s AND %s
+                    ORDER BY detected_at ASC
+                    LIMIT 1
+                    """.formatted(start, end));
+            assertThat(wakeUpPlan).contains(current).doesNotContain(previous).doesNotContain(next);
+
+            String countPlan = explain(connection, """
+                    SELECT COUNT(*)
+                    FROM activity
+                    WHERE elder_id = 1
+                      AND detected_at BETWEEN %s AND %s
+                    """.formatted(start, end));
+            assertThat(countPlan).contains(current).doesNotContain(previous).doesNotContain(next);
+
+            String lcdPlan = explain(connection, """
+                    SELECT id
+                    FROM robot_lcd_event
+                    WHERE robot_id = 1
+                      AND occurred_at >= %s
+                      AND occurred_at < %s
+                    ORDER BY occurred_at DESC, id DESC
+                    """.formatted(start, end));
+            assertThat(lcdPlan).contains(lcdCurrent).doesNotContain(lcdNext);
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("""
+                        PREPARE count_by_elder_and_range(BIGINT, TIMESTAMP, TIMESTAMP) AS
+                        SELECT COUNT(*) FROM activity WHERE elder_id = $1 AND detected_at BETWEEN $2 AND $3
+                        """);
+            }
+            String genericPlan = explain(connection,
+                    "EXECUTE count_by_elder_and_range(1, " + start + ", " + end + ")", false);
+            assertThat(genericPlan).contains("Subplans Removed");
+        }
+    }
+
+    @Test
+    void maintenance_createsUpcomingAndRemovesExpiredPartitions() throws Exception {
+        migrate();
+        LocalDate today = LocalDate.now();
+        LocalDate month = today.withDayOfMonth(1);
+        LocalDate expiredMonth = month.minusMonths(30);
+
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT create_monthly_partition('activity', 'detected_at', DATE '" + expiredMonth + "')");
+
+            PartitionJdbcRepository repository = new PartitionJdbcRepository(
+                    new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true)));
+            PartitionMaintenanceJob job = new PartitionMaintenanceJob(repository, 6, RetentionMode.DROP, 12, 24);
+
+            PartitionMaintenanceJob.MaintenanceResult result = job.maintain(today);
+
+            assertThat(result.removed()).isEqualTo(1);
+            assertThat(hasTable(connection,
+                    PartitionJdbcRepository.partitionName(PartitionedTable.ACTIVITY, expiredMonth))).isFalse();
+            assertThat(hasTable(connection,
+                    PartitionJdbcRepository.partitionName(PartitionedTable.ACTIVITY, month.plusMonths(6)))).isTrue();
+            assertThat(hasTable(connection,
+                    PartitionJdbcRepository.partitionName(PartitionedTable.ROBOT_LCD_EVENT, month.plusMonths(6)))).isTrue();
+            assertThat(job.maintain(today).created()).isZero();
+        }
+    }
+
+    @Test
+    void maintenance_keepsExpiredPartitionsWhenRetentionDisabled() throws Exception {
+        migrate();
+        LocalDate today = LocalDate.now();
+        LocalDate expiredMonth = today.withDayOfMonth(1).minusMonths(30);
+
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT create_monthly_partition('activity', 'detected_at', DATE '" + expiredMonth + "')");
+
+            PartitionJdbcRepository repository = new PartitionJdbcRepository(
+                    new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true)));
+            PartitionMaintenanceJob job = new PartitionMaintenanceJob(repository, 3, RetentionMode.NONE, 12, 24);
+
+            assertThat(job.maintain(today).removed()).isZero();
+            assertThat(hasTable(connection,
+                    PartitionJdbcRepository.partitionName(PartitionedTable.ACTIVITY, expiredMonth))).isTrue();
+        }
+    }
+
+    @Test
+    void maintenance_purgesLcdClientEventKeysPastRetention() throws Exception {
+        migrate();
+        LocalDate today = LocalDate.now();
+        LocalDate expired = today.withDayOfMonth(1).minusMonths(13);
+
+        try (Connection connection = connection();
+             Statement statement = connection.createStatement()) {
+            long robotId;
+            try (ResultSet rs = statement.executeQuery(
+                    "INSERT INTO robot (serial_number) VALUES ('RB-PURGE-01') RETURNING id")) {
+                rs.next();
+                robotId = rs.getLong(1);
+            }
+            statement.execute("INSERT INTO robot_lcd_event_client_event (robot_id, client_event_id, created_at) VALUES ("
+                    + robotId + ", 'expired', TIMESTAMP '" + expired + " 00:00:00')");
+            statement.execute("INSERT INTO robot_lcd_event_client_event (robot_id, client_event_id) VALUES ("
+                    + robotId + ", 'recent')");
+
+            PartitionJdbcRepository repository = new PartitionJdbcRepository(
+                    new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true)));
+            new PartitionMaintenanceJob(repository, 3, RetentionMode.DROP, 12, 24).maintain(today);
+
+            try (ResultSet rs = statement.executeQuery("SELECT client_event_id FROM robot_lcd_event_client_event")) {
+                assertThat(rs.next()).isTrue();
+                assertThat(rs.getString(1)).isEqualTo("recent");
+                assertThat(rs.next()).isFalse();
+            }
+        }
+    }
+
+    private void migrate() throws Exception {
+        String url = requiredPostgresUrl();
+        try (Connection connection = DriverManager.getConnection(url, postgresUser(), postgresPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + TEST_SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + TEST_SCHEMA);
+        }
+        Flyway.configure()
+                .dataSource(url, postgresUser(), postgresPassword())
+                .locations("classpath:db/migration")
+                .schemas(TEST_SCHEMA)
+                .defaultSchema(TEST_SCHEMA)
+                .cleanDisabled(true)
+                .load()
+                .migrate();
+    }
+
+    private Connection connection() throws Exception {
+        Connection connection = DriverManager.getConnection(requiredPostgresUrl(), postgresUser(), postgresPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + TEST_SCHEMA);
+        }
+        return connection;
+    }
+
+    private String explain(Connection connection, String sql) throws Exception {
+        return explain(connection, sql, true);
+    }
+
+    private String explain(Connection connection, String sql, boolean costs) throws Exception {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN (COSTS " + costs + ") " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private boolean isPartitioned(Connection connection, String tableName) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('"
+                             + TEST_SCHEMA + "." + tableName + "')"
+             )) {
+            return resultSet.next();
+        }
+    }
+
+    private boolean hasTable(Connection connection, String tableName) throws Exception {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT 1 FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA='"
+                             + TEST_SCHEMA + "' AND TABLE_NAME='" + tableName + "'"
+             )) {
+            return resultSet.next();
+        }
+    }
+
+    private String requiredPostgresUrl() {
+        String url = System.getenv(ENV_URL);
+        assumeTrue(url != null && !url.isBlank(),
+                () -> "PostgreSQL integration test skipped. Set " + ENV_URL);
+        return url;
+    }
+
+    private String postgresUser() {
+        String user = System.getenv(ENV_USER);
+        return user == null ? "postgres" : user;
+    }
+
+    private String postgresPassword() {
+        String password = System.getenv(ENV_PASSWORD);
+        return password == null ? "postgres" : password;
+    }
+}
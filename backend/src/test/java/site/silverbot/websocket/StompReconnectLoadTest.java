@@ -0,0 +1,151 @@
+package site.silverbot.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import site.silverbot.config.JwtTokenProvider;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "STOMP_LOAD_TEST_SESSIONS", matches = ".+")
+class StompReconnectLoadTest {
+    private static final Logger log = LoggerFactory.getLogger(StompReconnectLoadTest.class);
+    private static final String ENV_SESSIONS = "STOMP_LOAD_TEST_SESSIONS";
+    private static final String ENV_CONCURRENCY = "STOMP_LOAD_TEST_CONCURRENCY";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void reconnectStorm_reportsConnectLatencyPercentiles() throws Exception {
+        int sessions = Integer.parseInt(System.getenv(ENV_SESSIONS).trim());
+        String concurrencyValue = System.getenv(ENV_CONCURRENCY);
+        int concurrency = concurrencyValue == null ? 200 : Integer.parseInt(concurrencyValue.trim());
+
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.initialize();
+        WebSocketStompClient client = stompClient(scheduler);
+        try {
+            List<String> tokens = new ArrayList<>(sessions);
+            for (int i = 0; i < sessions; i++) {
+                tokens.add(jwtTokenProvider.createAccessToken(String.valueOf(i + 1), "WORKER", null));
+            }
+
+            ConnectRound initial = connectAll(client, tokens, concurrency);
+            initial.sessions().forEach(StompSession::disconnect);
+            ConnectRound reconnect = connectAll(client, tokens, concurrency);
+            reconnect.sessions().forEach(StompSession::disconnect);
+
+            report("initial", initial);
+            report("reconnect", reconnect);
+            assertThat(initial.failures()).isZero();
+            assertThat(reconnect.failures()).isZero();
+        } finally {
+            client.stop();
+            scheduler.shutdown();
+        }
+    }
+
+    private ConnectRound connectAll(WebSocketStompClient client, List<String> tokens, int concurrency)
+            throws InterruptedException {
+        String url = "http://localhost:" + port + "/ws";
+        Semaphore permits = new Semaphore(concurrency);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<StompSession> sessions = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> futures = new ArrayList<>(tokens.size());
+        long roundStartedAt = System.nanoTime();
+
+        for (String token : tokens) {
+            permits.acquire();
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + token);
+            long startedAt = System.nanoTime();
+            futures.add(client.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders,
+                            new StompSessionHandlerAdapter() {
+                            })
+                    .whenComplete((session, ex) -> {
+                        permits.release();
+                        if (ex == null) {
+                            latencies.add(System.nanoTime() - startedAt);
+                            sessions.add(session);
+                        }
+                    }));
+        }
+        for (CompletableFuture<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (Exception ignored) {
+                // counted as a failure below
+            }
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new ConnectRound(
+                sorted,
+                new ArrayList<>(sessions),
+                tokens.size() - sorted.size(),
+                System.nanoTime() - roundStartedAt
+        );
+    }
+
+    private void report(String label, ConnectRound round) {
+        log.info("STOMP {}: sessions={} failures={} total={}ms p50={}ms p95={}ms p99={}ms max={}ms",
+                label,
+                round.latencies().size(),
+                round.failures(),
+                TimeUnit.NANOSECONDS.toMillis(round.elapsedNanos()),
+                String.format("%.2f", percentile(round.latencies(), 0.50)),
+                String.format("%.2f", percentile(round.latencies(), 0.95)),
+                String.format("%.2f", percentile(round.latencies(), 0.99)),
+                String.format("%.2f", percentile(round.latencies(), 1.0))
+        );
+    }
+
+    private double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private WebSocketStompClient stompClient(ThreadPoolTaskScheduler scheduler) {
+        WebSocketStompClient client = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        client.setTaskScheduler(scheduler);
+        return client;
+    }
+
+    private record ConnectRound(List<Long> latencies, List<StompSession> sessions, int failures, long elapsedNanos) {
+    }
+}
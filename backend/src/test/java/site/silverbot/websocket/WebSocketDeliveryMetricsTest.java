@@ -0,0 +1,94 @@
+package site.silverbot.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+class WebSocketDeliveryMetricsTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WebSocketDeliveryMetrics deliveryMetrics = new WebSocketDeliveryMetrics(meterRegistry);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+
+    @Test
+    void topicOf_replacesNumericSegments() {
+        assertThat(WebSocketDeliveryMetrics.topicOf("/topic/user/7/notifications"))
+                .isEqualTo("/topic/user/{id}/notifications");
+        assertThat(WebSocketDeliveryMetrics.topicOf("/topic/emergency")).isEqualTo("/topic/emergency");
+        assertThat(WebSocketDeliveryMetrics.topicOf(null)).isEqualTo("system");
+    }
+
+    @Test
+    void topicOf_mapsUnknownDestinationsToOther() {
+        assertThat(WebSocketDeliveryMetrics.topicOf("/topic/user/abc/notifications")).isEqualTo("other");
+        assertThat(WebSocketDeliveryMetrics.topicOf("/user/queue/errors")).isEqualTo("other");
+        assertThat(WebSocketDeliveryMetrics.topicOf("/topic/robot/3/status/extra")).isEqualTo("other");
+    }
+
+    @Test
+    void deliveredMessage_recordsSendLatencyAndDrainsQueue() {
+        Message<?> message = messageTo("/topic/user/7/notifications");
+
+        deliveryMetrics.preSend(message, channel);
+        deliveryMetrics.afterSendCompletion(message, channel, true, null);
+        assertThat(queued("/topic/user/{id}/notifications")).isEqualTo(1.0);
+
+        deliveryMetrics.beforeHandle(message, channel, handler);
+        deliveryMetrics.afterMessageHandled(message, channel, handler, null);
+
+        assertThat(queued("/topic/user/{id}/notifications")).isZero();
+        assertThat(meterRegistry.get("websocket.outbound.send")
+                .tag("topic", "/topic/user/{id}/notifications")
+                .timer()
+                .count()).isEqualTo(1L);
+    }
+
+    @Test
+    void rejectedMessage_countsAsDropped() {
+        Message<?> message = messageTo("/topic/robot/3/status");
+
+        deliveryMetrics.preSend(message, channel);
+        deliveryMetrics.afterSendCompletion(message, channel, false, new RejectedExecutionException("full"));
+
+        assertThat(queued("/topic/robot/{id}/status")).isZero();
+        assertThat(meterRegistry.get("websocket.outbound.dropped")
+                .tag("topic", "/topic/robot/{id}/status")
+                .counter()
+                .count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void sessionClosedAsNotReliable_countsEviction() throws Exception {
+        WebSocketHandler delegate = mock(WebSocketHandler.class);
+        WebSocketSession session = mock(WebSocketSession.class);
+        SlowConsumerEvictionHandler evictionHandler = new SlowConsumerEvictionHandler(delegate, deliveryMetrics);
+
+        evictionHandler.afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        evictionHandler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        assertThat(meterRegistry.get("websocket.sessions.evicted").counter().count()).isEqualTo(1.0);
+        verify(delegate).afterConnectionClosed(session, CloseStatus.NORMAL);
+    }
+
+    private Message<?> messageTo(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private double queued(String topic) {
+        return meterRegistry.get("websocket.outbound.queued").tag("topic", topic).gauge().value();
+    }
+}
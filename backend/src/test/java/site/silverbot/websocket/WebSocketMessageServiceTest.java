@@ -4,17 +4,23 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import site.silverbot.websocket.cluster.ClusterMessageFanout;
+import site.silverbot.websocket.dto.DashboardDeltaMessage;
+import site.silverbot.websocket.dto.DashboardDeltaType;
 import site.silverbot.websocket.dto.ElderStatusMessage;
 import site.silverbot.websocket.dto.EmergencyMessage;
 import site.silverbot.websocket.dto.LcdModeMessage;
 import site.silverbot.websocket.dto.NotificationMessage;
+import site.silverbot.websocket.dto.RobotCommandMessage;
 import site.silverbot.websocket.dto.RobotStatusMessage;
 import site.silverbot.websocket.dto.WebSocketMessageType;
 
@@ -23,6 +29,9 @@ class WebSocketMessageServiceTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @Mock
+    private ClusterMessageFanout clusterMessageFanout;
+
     @InjectMocks
     private WebSocketMessageService webSocketMessageService;
 
@@ -71,6 +80,28 @@ class WebSocketMessageServiceTest {
         );
     }
 
+    @Test
+    void sendRobotCommandPublishesMessage() {
+        RobotCommandMessage.Payload payload = new RobotCommandMessage.Payload(
+                1L,
+                "cmd-1",
+                "MOVE_TO",
+                Map.of("location", "LIVING_ROOM"),
+                LocalDateTime.of(2026, 2, 7, 9, 0)
+        );
+
+        webSocketMessageService.sendRobotCommand(1L, payload);
+
+        verify(messagingTemplate).convertAndSend(
+                eq("/topic/robot/1/commands"),
+                argThat((RobotCommandMessage message) ->
+                        message.type() == WebSocketMessageType.ROBOT_COMMAND
+                                && message.payload().equals(payload)
+                                && message.timestamp() != null
+                )
+        );
+    }
+
     @Test
     void sendElderStatusPublishesMessage() {
         ElderStatusMessage.Payload payload = new ElderStatusMessage.Payload(
@@ -92,6 +123,30 @@ class WebSocketMessageServiceTest {
         );
     }
 
+    @Test
+    void sendDashboardDeltaPublishesElderStatusDelta() {
+        DashboardDeltaMessage.Payload payload = DashboardDeltaMessage.Payload.elderStatus(
+                new ElderStatusMessage.Payload(
+                        10L,
+                        "DANGER",
+                        OffsetDateTime.parse("2026-02-04T10:00:00+09:00"),
+                        "거실"
+                )
+        );
+
+        webSocketMessageService.sendDashboardDelta(10L, payload);
+
+        verify(messagingTemplate).convertAndSend(
+                eq("/topic/elder/10/dashboard"),
+                argThat((DashboardDeltaMessage message) ->
+                        message.type() == WebSocketMessageType.DASHBOARD_DELTA
+                                && message.payload().delta() == DashboardDeltaType.ELDER_STATUS
+                                && message.payload().elderId().equals(10L)
+                                && message.timestamp() != null
+                )
+        );
+    }
+
     @Test
     void sendNotificationPublishesMessage() {
         NotificationMessage.Payload payload = new NotificationMessage.Payload(
@@ -137,4 +192,24 @@ class WebSocketMessageServiceTest {
                 )
         );
     }
+
+    @Test
+    void sendNotificationFansOutToOtherInstances() {
+        NotificationMessage.Payload payload = new NotificationMessage.Payload(
+                201L,
+                "EMERGENCY",
+                "긴급 알림",
+                "낙상이 감지되었습니다.",
+                10L,
+                "/elders/10"
+        );
+
+        webSocketMessageService.sendNotification(7L, payload);
+
+        verify(clusterMessageFanout).publish(
+                eq("/topic/user/7/notifications"),
+                argThat(message -> message instanceof NotificationMessage notification
+                        && notification.payload().equals(payload))
+        );
+    }
 }
@@ -0,0 +1,40 @@
+package site.silverbot.websocket.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.LongNode;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ClusterInvalidationsTest {
+
+    @Test
+    void publish_invokesHandlersOnOtherNodesOnly() {
+        InMemoryClusterMessageBus bus = new InMemoryClusterMessageBus();
+        ClusterInvalidations local = new ClusterInvalidations(bus);
+        ClusterInvalidations remote = new ClusterInvalidations(bus);
+        List<Long> localKeys = new ArrayList<>();
+        List<Long> remoteKeys = new ArrayList<>();
+        local.register("ownership", localKeys::add);
+        remote.register("ownership", remoteKeys::add);
+
+        local.publish("ownership", 7L);
+
+        assertThat(localKeys).isEmpty();
+        assertThat(remoteKeys).containsExactly(7L);
+    }
+
+    @Test
+    void receive_acceptsJsonPayloadFromPostgresBus() {
+        InMemoryClusterMessageBus bus = new InMemoryClusterMessageBus();
+        ClusterInvalidations invalidations = new ClusterInvalidations(bus);
+        List<Long> keys = new ArrayList<>();
+        invalidations.register("robot-command", keys::add);
+
+        bus.publish(new ClusterMessage("other-node", "invalidate:robot-command", LongNode.valueOf(42L)));
+        bus.publish(new ClusterMessage("other-node", "invalidate:unknown", LongNode.valueOf(43L)));
+
+        assertThat(keys).containsExactly(42L);
+    }
+}
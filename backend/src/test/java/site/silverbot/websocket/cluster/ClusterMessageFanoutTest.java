@@ -0,0 +1,55 @@
+package site.silverbot.websocket.cluster;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class ClusterMessageFanoutTest {
+
+    @Test
+    void publish_deliversToOtherInstancesOnly() {
+        InMemoryClusterMessageBus bus = new InMemoryClusterMessageBus();
+        SimpMessagingTemplate firstTemplate = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate secondTemplate = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate thirdTemplate = mock(SimpMessagingTemplate.class);
+        ClusterMessageFanout first = new ClusterMessageFanout(bus, firstTemplate, BrokerMode.POSTGRES);
+        new ClusterMessageFanout(bus, secondTemplate, BrokerMode.POSTGRES);
+        new ClusterMessageFanout(bus, thirdTemplate, BrokerMode.POSTGRES);
+        Map<String, Object> payload = Map.of("type", "EMERGENCY_ALERT");
+
+        first.publish("/topic/emergency", payload);
+
+        verify(firstTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        verify(secondTemplate).convertAndSend("/topic/emergency", (Object) payload);
+        verify(thirdTemplate).convertAndSend("/topic/emergency", (Object) payload);
+    }
+
+    @Test
+    void publish_leavesFanoutToTheRelayInRelayMode() {
+        InMemoryClusterMessageBus bus = new InMemoryClusterMessageBus();
+        SimpMessagingTemplate otherTemplate = mock(SimpMessagingTemplate.class);
+        ClusterMessageFanout relay = new ClusterMessageFanout(bus, mock(SimpMessagingTemplate.class), BrokerMode.RELAY);
+        new ClusterMessageFanout(bus, otherTemplate, BrokerMode.RELAY);
+
+        relay.publish("/topic/emergency", Map.of("type", "EMERGENCY_ALERT"));
+
+        verify(otherTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void deliver_ignoresCacheInvalidations() {
+        InMemoryClusterMessageBus bus = new InMemoryClusterMessageBus();
+        SimpMessagingTemplate template = mock(SimpMessagingTemplate.class);
+        new ClusterMessageFanout(bus, template, BrokerMode.POSTGRES);
+
+        new ClusterInvalidations(bus).publish("notification-settings", 1L);
+
+        verify(template, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
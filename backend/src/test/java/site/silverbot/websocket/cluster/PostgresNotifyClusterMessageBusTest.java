@@ -0,0 +1,104 @@
+package site.silverbot.websocket.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PostgresNotifyClusterMessageBusTest {
+    private static final String ENV_URL = "AGENT3_FLYWAY_PG_URL";
+    private static final String ENV_USER = "AGENT3_FLYWAY_PG_USER";
+    private static final String ENV_PASSWORD = "AGENT3_FLYWAY_PG_PASSWORD";
+    private static final String CHANNEL = "silverbot_ws_test";
+
+    @Test
+    void publish_reachesListenerOnAnotherInstance() throws Exception {
+        DriverManagerDataSource dataSource = dataSource();
+        ObjectMapper objectMapper = new ObjectMapper();
+        PostgresNotifyClusterMessageBus publisher = new PostgresNotifyClusterMessageBus(
+                dataSource, objectMapper, new SimpleMeterRegistry(), CHANNEL, 100);
+        PostgresNotifyClusterMessageBus listener = new PostgresNotifyClusterMessageBus(
+                dataSource, objectMapper, new SimpleMeterRegistry(), CHANNEL, 100);
+        BlockingQueue<ClusterMessage> received = new LinkedBlockingQueue<>();
+        listener.subscribe(received::add);
+        listener.start();
+        try {
+            ClusterMessage message = null;
+            for (int attempt = 0; attempt < 20 && message == null; attempt++) {
+                publisher.publish(new ClusterMessage("node-a", "/topic/robot/1/status", Map.of("batteryLevel", 88)));
+                message = received.poll(250, TimeUnit.MILLISECONDS);
+            }
+
+            assertThat(message).isNotNull();
+            assertThat(message.origin()).isEqualTo("node-a");
+            assertThat(message.destination()).isEqualTo("/topic/robot/1/status");
+            assertThat(((JsonNode) message.payload()).path("batteryLevel").asInt()).isEqualTo(88);
+        } finally {
+            listener.shutdown();
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    void publish_fromAfterCommitCallback_isNotRolledBack() throws Exception {
+        DriverManagerDataSource dataSource = dataSource();
+        ObjectMapper objectMapper = new ObjectMapper();
+        PostgresNotifyClusterMessageBus publisher = new PostgresNotifyClusterMessageBus(
+                dataSource, objectMapper, new SimpleMeterRegistry(), CHANNEL, 100);
+        PostgresNotifyClusterMessageBus listener = new PostgresNotifyClusterMessageBus(
+                dataSource, objectMapper, new SimpleMeterRegistry(), CHANNEL, 100);
+        BlockingQueue<ClusterMessage> received = new LinkedBlockingQueue<>();
+        listener.subscribe(received::add);
+        listener.start();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        try {
+            ClusterMessage message = null;
+            for (int attempt = 0; attempt < 20 && message == null; attempt++) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            publisher.publish(new ClusterMessage(
+                                    "node-a", "/topic/robot/1/commands", Map.of("commandId", "cmd-1")));
+                        }
+                    });
+                });
+                message = received.poll(250, TimeUnit.MILLISECONDS);
+            }
+
+            assertThat(message).isNotNull();
+            assertThat(message.destination()).isEqualTo("/topic/robot/1/commands");
+        } finally {
+            listener.shutdown();
+            publisher.shutdown();
+        }
+    }
+
+    private DriverManagerDataSource dataSource() {
+        String url = System.getenv(ENV_URL);
+        assumeTrue(url != null && !url.isBlank(),
+                () -> "PostgreSQL integration test skipped. Set " + ENV_URL);
+        String user = System.getenv(ENV_USER);
+        String password = System.getenv(ENV_PASSWORD);
+        return new DriverManagerDataSource(
+                url,
+                user == null ? "postgres" : user,
+                password == null ? "postgres" : password
+        );
+    }
+}